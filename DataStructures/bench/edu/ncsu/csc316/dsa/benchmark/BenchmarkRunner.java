@@ -0,0 +1,223 @@
+package edu.ncsu.csc316.dsa.benchmark;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+
+/**
+ * BenchmarkRunner times operations on the data structures and reports the
+ * results as JSON so that runs from different releases can be compared.
+ *
+ * Every benchmark is described by a setup step, which builds a fresh input and
+ * is not timed, and an operation, which is timed. Each benchmark runs a number
+ * of warmup iterations (to let the JIT compile the hot code) that are thrown
+ * away, followed by measured iterations. The runner reports the mean, minimum,
+ * and maximum time of the measured iterations.
+ *
+ * @author Maggie Lin
+ */
+public class BenchmarkRunner {
+
+	/** The number of untimed iterations run before measuring */
+	private int warmupIterations;
+
+	/** The number of timed iterations */
+	private int measurementIterations;
+
+	/** The results of every benchmark run so far */
+	private List<Result> results;
+
+	/**
+	 * Constructs a BenchmarkRunner with the given number of warmup and measured
+	 * iterations
+	 *
+	 * @param warmupIterations      the number of untimed iterations run before
+	 *                              measuring
+	 * @param measurementIterations the number of timed iterations
+	 */
+	public BenchmarkRunner(int warmupIterations, int measurementIterations) {
+		if (measurementIterations < 1) {
+			throw new IllegalArgumentException("At least one measurement iteration is required.");
+		}
+		this.warmupIterations = warmupIterations;
+		this.measurementIterations = measurementIterations;
+		results = new ArrayBasedList<Result>();
+	}
+
+	/**
+	 * Runs a benchmark and records its result. If the operation throws an
+	 * exception or error (for example, a StackOverflowError from a quadratic
+	 * quicksort), the failure is recorded instead of a time.
+	 *
+	 * @param <T>       the type of input the operation works on
+	 * @param setup     builds a fresh input for every iteration; not timed
+	 * @param operation the operation to time
+	 * @param params    the parameters that identify the benchmark, as
+	 *                  alternating names and values
+	 * @return the result of the benchmark
+	 */
+	public <T> Result run(Supplier<T> setup, Consumer<T> operation, Object... params) {
+		if (params.length % 2 != 0) {
+			throw new IllegalArgumentException("Parameters must be name and value pairs.");
+		}
+		Result result = new Result(params);
+		try {
+			for (int i = 0; i < warmupIterations; i++) {
+				operation.accept(setup.get());
+			}
+			for (int i = 0; i < measurementIterations; i++) {
+				T input = setup.get();
+				long start = System.nanoTime();
+				operation.accept(input);
+				result.record(System.nanoTime() - start);
+			}
+		} catch (RuntimeException | StackOverflowError | OutOfMemoryError e) {
+			result.fail(e);
+		}
+		results.addLast(result);
+		return result;
+	}
+
+	/**
+	 * Records a benchmark that was not run, such as a quadratic sorter at a size
+	 * that would take hours
+	 *
+	 * @param reason the reason the benchmark was skipped
+	 * @param params the parameters that identify the benchmark, as alternating
+	 *               names and values
+	 */
+	public void skip(String reason, Object... params) {
+		Result result = new Result(params);
+		result.status = "skipped: " + reason;
+		results.addLast(result);
+	}
+
+	/**
+	 * Writes the results of every benchmark run so far as a JSON array
+	 *
+	 * @param out the stream to write to
+	 */
+	public void writeJson(PrintStream out) {
+		out.println("[");
+		for (int i = 0; i < results.size(); i++) {
+			out.print("  " + results.get(i).toJson());
+			out.println(i < results.size() - 1 ? "," : "");
+		}
+		out.println("]");
+		out.flush();
+	}
+
+	/**
+	 * Result holds the parameters and measured times of a single benchmark
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	public static class Result {
+
+		/** The parameters as alternating names and values */
+		private Object[] params;
+
+		/** The number of measured iterations */
+		private int iterations;
+
+		/** The total time of the measured iterations in nanoseconds */
+		private long totalNanos;
+
+		/** The shortest measured iteration in nanoseconds */
+		private long minNanos;
+
+		/** The longest measured iteration in nanoseconds */
+		private long maxNanos;
+
+		/** "ok", or a description of why there is no time */
+		private String status;
+
+		/**
+		 * Constructs an empty result for the given parameters
+		 *
+		 * @param params the parameters as alternating names and values
+		 */
+		Result(Object[] params) {
+			this.params = params;
+			minNanos = Long.MAX_VALUE;
+			status = "ok";
+		}
+
+		/**
+		 * Records the time of one measured iteration
+		 *
+		 * @param nanos the time of the iteration in nanoseconds
+		 */
+		void record(long nanos) {
+			iterations++;
+			totalNanos += nanos;
+			minNanos = Math.min(minNanos, nanos);
+			maxNanos = Math.max(maxNanos, nanos);
+		}
+
+		/**
+		 * Marks the benchmark as failed
+		 *
+		 * @param error the exception or error thrown by the operation
+		 */
+		void fail(Throwable error) {
+			status = "failed: " + error.getClass().getSimpleName();
+		}
+
+		/**
+		 * Returns true if every iteration completed
+		 *
+		 * @return true if every iteration completed
+		 */
+		public boolean isSuccessful() {
+			return "ok".equals(status);
+		}
+
+		/**
+		 * Returns the mean time of the measured iterations in milliseconds
+		 *
+		 * @return the mean time in milliseconds, or 0 if nothing was measured
+		 */
+		public double getMeanMillis() {
+			return iterations == 0 ? 0 : totalNanos / 1e6 / iterations;
+		}
+
+		/**
+		 * Returns the result as a JSON object
+		 *
+		 * @return the result as a JSON object
+		 */
+		public String toJson() {
+			StringBuilder json = new StringBuilder("{");
+			for (int i = 0; i < params.length; i += 2) {
+				json.append(quote(String.valueOf(params[i]))).append(": ");
+				json.append(params[i + 1] instanceof Number ? params[i + 1].toString()
+						: quote(String.valueOf(params[i + 1])));
+				json.append(", ");
+			}
+			json.append("\"status\": ").append(quote(status));
+			json.append(", \"iterations\": ").append(iterations);
+			if (iterations > 0) {
+				json.append(String.format(Locale.ROOT, ", \"meanMillis\": %.4f", getMeanMillis()));
+				json.append(String.format(Locale.ROOT, ", \"minMillis\": %.4f", minNanos / 1e6));
+				json.append(String.format(Locale.ROOT, ", \"maxMillis\": %.4f", maxNanos / 1e6));
+			}
+			return json.append("}").toString();
+		}
+
+		/**
+		 * Returns the given text as a quoted JSON string
+		 *
+		 * @param text the text to quote
+		 * @return the quoted text
+		 */
+		private static String quote(String text) {
+			return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+		}
+	}
+}
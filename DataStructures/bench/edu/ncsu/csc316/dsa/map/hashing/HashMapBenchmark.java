@@ -0,0 +1,137 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc316.dsa.benchmark.BenchmarkRunner;
+
+/**
+ * HashMapBenchmark compares the {@link AbstractHashMap#MAD_COMPRESSION} and
+ * {@link AbstractHashMap#MIXING_COMPRESSION} strategies on every hash map
+ * implementation, and writes the results as JSON.
+ *
+ * Each map is timed on two workloads: inserting n keys into an empty map
+ * (including every resize), and looking up each of the n keys in a full map.
+ * Keys are either sequential, like student IDs, or uniformly random.
+ *
+ * Usage: HashMapBenchmark [outputFile [maxSize [iterations]]]
+ *
+ * @author Maggie Lin
+ */
+public class HashMapBenchmark {
+
+	/** The numbers of keys to benchmark */
+	private static final int[] SIZES = { 1000, 10000, 100000, 1000000 };
+
+	/** The key distributions to benchmark */
+	private static final String[] DISTRIBUTIONS = { "sequential", "random" };
+
+	/** Receives lookup results so that the JIT cannot remove the lookups */
+	private static long sink;
+
+	/**
+	 * Runs the benchmarks and writes the results
+	 *
+	 * @param args the optional output file, largest size, and number of measured
+	 *             iterations
+	 * @throws FileNotFoundException if the output file cannot be created
+	 */
+	public static void main(String[] args) throws FileNotFoundException {
+		int maxSize = args.length > 1 ? Integer.parseInt(args[1]) : SIZES[SIZES.length - 1];
+		int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+		BenchmarkRunner runner = new BenchmarkRunner(2, iterations);
+
+		Map<String, Supplier<AbstractHashMap<Integer, Integer>>> maps = new LinkedHashMap<>();
+		maps.put("LinearProbingHashMap", () -> new LinearProbingHashMap<Integer, Integer>());
+		maps.put("SeparateChainingHashMap", () -> new SeparateChainingHashMap<Integer, Integer>());
+		maps.put("RobinHoodHashMap", () -> new RobinHoodHashMap<Integer, Integer>());
+		maps.put("IntObjectHashMap", () -> new IntObjectHashMap<Integer>());
+		maps.put("CuckooHashMap", () -> new CuckooHashMap<Integer, Integer>());
+		Map<String, AbstractHashMap.CompressionStrategy> strategies = new LinkedHashMap<>();
+		strategies.put("mad", AbstractHashMap.MAD_COMPRESSION);
+		strategies.put("mixing", AbstractHashMap.MIXING_COMPRESSION);
+
+		for (String distribution : DISTRIBUTIONS) {
+			for (int size : SIZES) {
+				if (size > maxSize) {
+					break;
+				}
+				Integer[] keys = createKeys(distribution, size);
+				for (Map.Entry<String, Supplier<AbstractHashMap<Integer, Integer>>> mapEntry : maps.entrySet()) {
+					String name = mapEntry.getKey();
+					for (Map.Entry<String, AbstractHashMap.CompressionStrategy> strategy : strategies.entrySet()) {
+						Supplier<AbstractHashMap<Integer, Integer>> empty = createMap(mapEntry.getValue(),
+								strategy.getValue());
+						runner.run(empty, map -> {
+							for (Integer key : keys) {
+								map.put(key, key);
+							}
+						}, "benchmark", "insert", "map", name, "compression", strategy.getKey(), "distribution",
+								distribution, "size", size);
+
+						AbstractHashMap<Integer, Integer> full = empty.get();
+						for (Integer key : keys) {
+							full.put(key, key);
+						}
+						runner.run(() -> full, map -> {
+							long total = 0;
+							for (Integer key : keys) {
+								total += map.get(key);
+							}
+							sink += total;
+						}, "benchmark", "lookup", "map", name, "compression", strategy.getKey(), "distribution",
+								distribution, "size", size);
+					}
+				}
+			}
+		}
+
+		if (args.length > 0) {
+			try (PrintStream out = new PrintStream(args[0])) {
+				runner.writeJson(out);
+			}
+		} else {
+			runner.writeJson(System.out);
+		}
+	}
+
+	/**
+	 * Returns a supplier of empty maps that use the given compression strategy
+	 *
+	 * @param map      the supplier of empty maps with the default strategy
+	 * @param strategy the compression strategy
+	 * @return the supplier of empty maps that use the strategy
+	 */
+	private static Supplier<AbstractHashMap<Integer, Integer>> createMap(
+			Supplier<AbstractHashMap<Integer, Integer>> map, AbstractHashMap.CompressionStrategy strategy) {
+		return () -> {
+			AbstractHashMap<Integer, Integer> empty = map.get();
+			empty.setCompressionStrategy(strategy);
+			return empty;
+		};
+	}
+
+	/**
+	 * Returns keys that follow the given distribution
+	 *
+	 * @param distribution the name of the key distribution
+	 * @param size         the number of keys
+	 * @return the keys
+	 */
+	private static Integer[] createKeys(String distribution, int size) {
+		Random rand = new Random(316);
+		Integer[] keys = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			if ("sequential".equals(distribution)) {
+				keys[i] = 200000000 + i;
+			} else {
+				keys[i] = rand.nextInt();
+			}
+		}
+		return keys;
+	}
+}
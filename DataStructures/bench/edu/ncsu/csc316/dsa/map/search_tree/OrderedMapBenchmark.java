@@ -0,0 +1,108 @@
+package edu.ncsu.csc316.dsa.map.search_tree;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc316.dsa.benchmark.BenchmarkRunner;
+import edu.ncsu.csc316.dsa.map.AbstractOrderedMap;
+import edu.ncsu.csc316.dsa.map.SkipListMap;
+
+/**
+ * OrderedMapBenchmark compares the ordered map implementations, and writes the
+ * results as JSON.
+ *
+ * Each map is timed on three workloads: inserting n random keys into an empty
+ * map, looking up each of the n keys in a full map, and visiting every entry of
+ * a full map in key order.
+ *
+ * Usage: OrderedMapBenchmark [outputFile [maxSize [iterations]]]
+ *
+ * @author Maggie Lin
+ */
+public class OrderedMapBenchmark {
+
+	/** The numbers of keys to benchmark */
+	private static final int[] SIZES = { 1000, 10000, 100000, 1000000 };
+
+	/** Receives lookup results so that the JIT cannot remove the lookups */
+	private static long sink;
+
+	/**
+	 * Runs the benchmarks and writes the results
+	 *
+	 * @param args the optional output file, largest size, and number of measured
+	 *             iterations
+	 * @throws FileNotFoundException if the output file cannot be created
+	 */
+	public static void main(String[] args) throws FileNotFoundException {
+		int maxSize = args.length > 1 ? Integer.parseInt(args[1]) : SIZES[SIZES.length - 1];
+		int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+		BenchmarkRunner runner = new BenchmarkRunner(2, iterations);
+
+		Map<String, Supplier<AbstractOrderedMap<Integer, Integer>>> maps = new LinkedHashMap<>();
+		maps.put("AVLTreeMap", () -> new AVLTreeMap<Integer, Integer>());
+		maps.put("RedBlackTreeMap", () -> new RedBlackTreeMap<Integer, Integer>());
+		maps.put("SkipListMap", () -> new SkipListMap<Integer, Integer>());
+		maps.put("BPlusTreeMap", () -> new BPlusTreeMap<Integer, Integer>());
+
+		for (int size : SIZES) {
+			if (size > maxSize) {
+				break;
+			}
+			Integer[] keys = createKeys(size);
+			for (Map.Entry<String, Supplier<AbstractOrderedMap<Integer, Integer>>> entry : maps.entrySet()) {
+				String name = entry.getKey();
+				runner.run(entry.getValue(), map -> {
+					for (Integer key : keys) {
+						map.put(key, key);
+					}
+				}, "benchmark", "insert", "map", name, "size", size);
+
+				AbstractOrderedMap<Integer, Integer> full = entry.getValue().get();
+				for (Integer key : keys) {
+					full.put(key, key);
+				}
+				runner.run(() -> full, map -> {
+					long total = 0;
+					for (Integer key : keys) {
+						total += map.get(key);
+					}
+					sink += total;
+				}, "benchmark", "lookup", "map", name, "size", size);
+
+				runner.run(() -> full, map -> {
+					long[] total = new long[1];
+					map.forEach((key, value) -> total[0] += value);
+					sink += total[0];
+				}, "benchmark", "scan", "map", name, "size", size);
+			}
+		}
+
+		if (args.length > 0) {
+			try (PrintStream out = new PrintStream(args[0])) {
+				runner.writeJson(out);
+			}
+		} else {
+			runner.writeJson(System.out);
+		}
+	}
+
+	/**
+	 * Returns uniformly random keys
+	 *
+	 * @param size the number of keys
+	 * @return the keys
+	 */
+	private static Integer[] createKeys(int size) {
+		Random rand = new Random(316);
+		Integer[] keys = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = rand.nextInt();
+		}
+		return keys;
+	}
+}
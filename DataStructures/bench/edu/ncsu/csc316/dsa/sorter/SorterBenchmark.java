@@ -0,0 +1,150 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import edu.ncsu.csc316.dsa.benchmark.BenchmarkRunner;
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * SorterBenchmark times every {@link Sorter} implementation on arrays of
+ * Students with sorted, reverse-sorted, random, many-duplicates, and organ-pipe
+ * ID distributions at sizes from 1,000 to 10,000,000, and writes the results as
+ * JSON.
+ *
+ * Comparison sorters sort by {@link StudentIDComparator} so that every sorter
+ * produces the same order. Quadratic sorters are only run up to
+ * {@link #QUADRATIC_MAX_SIZE}, and once a sorter takes longer than
+ * {@link #TIME_BUDGET_MILLIS} on a distribution, larger sizes of that
+ * distribution are skipped. Skipped and failed runs (such as the stack
+ * overflow of first-element quicksort on sorted input) are still reported.
+ *
+ * Usage: SorterBenchmark [outputFile [maxSize [iterations]]]
+ *
+ * @author Maggie Lin
+ */
+public class SorterBenchmark {
+
+	/** The array sizes to benchmark */
+	private static final int[] SIZES = { 1000, 10000, 100000, 1000000, 10000000 };
+
+	/** The largest size at which O(n^2) sorters are run */
+	private static final int QUADRATIC_MAX_SIZE = 10000;
+
+	/** The mean time after which larger sizes of a distribution are skipped */
+	private static final double TIME_BUDGET_MILLIS = 10000;
+
+	/** The ID distributions to benchmark */
+	private static final String[] DISTRIBUTIONS = { "sorted", "reverseSorted", "random", "manyDuplicates",
+		"organPipe" };
+
+	/**
+	 * Runs the benchmarks and writes the results
+	 *
+	 * @param args the optional output file, largest size, and number of measured
+	 *             iterations
+	 * @throws FileNotFoundException if the output file cannot be created
+	 */
+	public static void main(String[] args) throws FileNotFoundException {
+		int maxSize = args.length > 1 ? Integer.parseInt(args[1]) : SIZES[SIZES.length - 1];
+		int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+		BenchmarkRunner runner = new BenchmarkRunner(2, iterations);
+
+		Comparator<Student> idComparator = new StudentIDComparator();
+		Map<String, Supplier<Sorter<Student>>> sorters = new LinkedHashMap<String, Supplier<Sorter<Student>>>();
+		sorters.put("BubbleSorter", () -> new BubbleSorter<Student>(idComparator));
+		sorters.put("SelectionSorter", () -> new SelectionSorter<Student>(idComparator));
+		sorters.put("InsertionSorter", () -> new InsertionSorter<Student>(idComparator));
+		sorters.put("MergeSorter", () -> new MergeSorter<Student>(idComparator));
+		sorters.put("QuickSorter(first)",
+				() -> new QuickSorter<Student>(idComparator, QuickSorter.FIRST_ELEMENT_SELECTOR));
+		sorters.put("QuickSorter(last)",
+				() -> new QuickSorter<Student>(idComparator, QuickSorter.LAST_ELEMENT_SELECTOR));
+		sorters.put("QuickSorter(middle)",
+				() -> new QuickSorter<Student>(idComparator, QuickSorter.MIDDLE_ELEMENT_SELECTOR));
+		sorters.put("QuickSorter(random)",
+				() -> new QuickSorter<Student>(idComparator, QuickSorter.RANDOM_ELEMENT_SELECTOR));
+		sorters.put("CountingSorter", () -> new CountingSorter<Student>());
+		sorters.put("RadixSorter", () -> new RadixSorter<Student>());
+		sorters.put("ParallelMergeSorter", () -> new ParallelMergeSorter<Student>(idComparator));
+		sorters.put("IntroSorter", () -> new IntroSorter<Student>(idComparator));
+		sorters.put("LSDRadixSorter", () -> new LSDRadixSorter<Student>());
+		sorters.put("ParallelRadixSorter", () -> new ParallelRadixSorter<Student>());
+		sorters.put("AdaptiveCountingSorter", () -> new AdaptiveCountingSorter<Student>());
+		sorters.put("TimSorter", () -> new TimSorter<Student>(idComparator));
+		sorters.put("KeySorter", () -> KeySorter.byLongKey(Student::getId));
+		Set<String> quadratic = Set.of("BubbleSorter", "SelectionSorter", "InsertionSorter");
+
+		for (String distribution : DISTRIBUTIONS) {
+			Set<String> overBudget = new HashSet<String>();
+			for (int size : SIZES) {
+				if (size > maxSize) {
+					break;
+				}
+				Student[] roster = createRoster(distribution, size);
+				for (Map.Entry<String, Supplier<Sorter<Student>>> entry : sorters.entrySet()) {
+					String name = entry.getKey();
+					Object[] params = { "benchmark", "sort", "sorter", name, "distribution", distribution, "size",
+						size };
+					if (quadratic.contains(name) && size > QUADRATIC_MAX_SIZE) {
+						runner.skip("quadratic sorter above " + QUADRATIC_MAX_SIZE, params);
+					} else if (overBudget.contains(name)) {
+						runner.skip("smaller size exceeded " + TIME_BUDGET_MILLIS + "ms", params);
+					} else {
+						Sorter<Student> sorter = entry.getValue().get();
+						BenchmarkRunner.Result result = runner.run(() -> roster.clone(), data -> sorter.sort(data),
+								params);
+						if (!result.isSuccessful() || result.getMeanMillis() > TIME_BUDGET_MILLIS) {
+							overBudget.add(name);
+						}
+					}
+				}
+			}
+		}
+
+		if (args.length > 0) {
+			try (PrintStream out = new PrintStream(args[0])) {
+				runner.writeJson(out);
+			}
+		} else {
+			runner.writeJson(System.out);
+		}
+	}
+
+	/**
+	 * Returns a roster of the given size whose IDs follow the given distribution
+	 *
+	 * @param distribution the name of the ID distribution
+	 * @param size         the number of Students
+	 * @return the roster
+	 */
+	private static Student[] createRoster(String distribution, int size) {
+		Random rand = new Random(316);
+		Student[] roster = new Student[size];
+		for (int i = 0; i < size; i++) {
+			int id;
+			if ("sorted".equals(distribution)) {
+				id = i;
+			} else if ("reverseSorted".equals(distribution)) {
+				id = size - i;
+			} else if ("random".equals(distribution)) {
+				id = rand.nextInt(size * 10);
+			} else if ("manyDuplicates".equals(distribution)) {
+				id = rand.nextInt(10);
+			} else {
+				id = i < size / 2 ? i : size - i;
+			}
+			roster[i] = new Student("First" + (i % 100), "Last" + (i % 1000), id, i % 150, rand.nextInt(401) / 100.0,
+					"unityID");
+		}
+		return roster;
+	}
+}
@@ -1,5 +1,7 @@
 package edu.ncsu.csc316.dsa.data;
 
+import java.util.Objects;
+
 /**
  * A student is comparable and identifiable. Students have a first name, last
  * name, id number, number of credit hours, gpa, and unityID.
@@ -193,7 +195,8 @@ public class Student implements Comparable<Student>, Identifiable {
 		}
 		Student s = (Student) obj;
 
-		return getLast() == s.getLast() && getFirst() == s.getFirst() && getId() == s.getId();
+		return Objects.equals(getLast(), s.getLast()) && Objects.equals(getFirst(), s.getFirst())
+				&& getId() == s.getId();
 
 	}
 
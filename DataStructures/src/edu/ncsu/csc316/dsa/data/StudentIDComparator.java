@@ -24,7 +24,7 @@ public class StudentIDComparator implements Comparator<Student> {
 	 */
 	@Override
 	public int compare(Student one, Student two) {
-		return one.getId() - two.getId();
+		return Integer.compare(one.getId(), two.getId());
 	}
 
 }
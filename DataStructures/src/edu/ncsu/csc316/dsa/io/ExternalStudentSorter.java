@@ -0,0 +1,445 @@
+package edu.ncsu.csc316.dsa.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.priority_queue.HeapPriorityQueue;
+import edu.ncsu.csc316.dsa.sorter.Sorter;
+
+/**
+ * ExternalStudentSorter sorts student CSV files that are too large to load into
+ * memory at once.
+ *
+ * The input file is read in chunks of at most chunkSize Students. Each chunk is
+ * sorted in memory with the given {@link Sorter} and written ("spilled") to a
+ * temporary file as a sorted run in a compact binary format. The sorted runs
+ * are then merged with a {@link HeapPriorityQueue} that holds the next Student
+ * of every run, so only one chunk and one Student per run are ever held in
+ * memory. When two runs hold equal Students, the Student from the earlier run
+ * is returned first, so the merge is stable whenever the chunk Sorter is.
+ *
+ * At most fanIn runs are open at once. If there are more runs than that,
+ * consecutive groups of fanIn runs are first merged into longer runs, in as
+ * many passes as needed, so that large inputs do not exceed the limit on open
+ * files. Merging consecutive groups keeps the runs in input order, so the
+ * passes are stable too.
+ *
+ * The merged Students can either be written to an output CSV file or read one
+ * at a time from a {@link MergeIterator}.
+ *
+ * @author Maggie Lin
+ */
+public class ExternalStudentSorter {
+
+	/** The header line of a student CSV file */
+	private static final String HEADER = "FIRST_NAME,LAST_NAME,UNITY_ID,STUDENT_ID,GPA,CREDIT_HOURS";
+
+	/** The size of the buffer used for every run file */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/** The default largest number of runs that are merged at once */
+	public static final int DEFAULT_FAN_IN = 64;
+
+	/** The sorting algorithm used to sort each chunk */
+	private Sorter<Student> sorter;
+
+	/** The order produced by the chunk sorter, used to merge the runs */
+	private Comparator<Student> comparator;
+
+	/** The largest number of Students held in memory at once */
+	private int chunkSize;
+
+	/** The directory in which run files are created; null for the default */
+	private File tempDirectory;
+
+	/** The largest number of runs that are open and merged at once */
+	private int fanIn;
+
+	/**
+	 * Constructs a new ExternalStudentSorter. The comparator must describe the
+	 * same order that the chunk sorter produces.
+	 *
+	 * @param sorter        the sorting algorithm used to sort each chunk
+	 * @param comparator    the order produced by the chunk sorter, or null for
+	 *                      the natural order of Students
+	 * @param chunkSize     the largest number of Students held in memory at once
+	 * @param tempDirectory the directory in which run files are created, or null
+	 *                      for the system temporary directory
+	 */
+	public ExternalStudentSorter(Sorter<Student> sorter, Comparator<Student> comparator, int chunkSize,
+			File tempDirectory) {
+		if (sorter == null) {
+			throw new IllegalArgumentException("A chunk sorter is required.");
+		}
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("Chunk size must be positive.");
+		}
+		this.sorter = sorter;
+		this.comparator = comparator == null ? Comparator.naturalOrder() : comparator;
+		this.chunkSize = chunkSize;
+		this.tempDirectory = tempDirectory;
+		this.fanIn = DEFAULT_FAN_IN;
+	}
+
+	/**
+	 * Constructs a new ExternalStudentSorter that creates run files in the system
+	 * temporary directory
+	 *
+	 * @param sorter     the sorting algorithm used to sort each chunk
+	 * @param comparator the order produced by the chunk sorter, or null for the
+	 *                   natural order of Students
+	 * @param chunkSize  the largest number of Students held in memory at once
+	 */
+	public ExternalStudentSorter(Sorter<Student> sorter, Comparator<Student> comparator, int chunkSize) {
+		this(sorter, comparator, chunkSize, null);
+	}
+
+	/**
+	 * Sets the largest number of runs that are open and merged at once. Each
+	 * open run holds a file handle and a buffer of {@value #BUFFER_SIZE} bytes.
+	 *
+	 * @param fanIn the largest number of runs merged at once, at least 2
+	 * @throws IllegalArgumentException if the fan-in is less than 2
+	 */
+	public void setFanIn(int fanIn) {
+		if (fanIn < 2) {
+			throw new IllegalArgumentException("Fan-in must be at least 2.");
+		}
+		this.fanIn = fanIn;
+	}
+
+	/**
+	 * Sorts the input CSV file and writes the sorted Students to the output CSV
+	 * file
+	 *
+	 * @param inputPath  the path to the input student CSV file
+	 * @param outputPath the path to the output student CSV file
+	 */
+	public void sort(String inputPath, String outputPath) {
+		try (MergeIterator it = sort(inputPath);
+				PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(outputPath),
+						BUFFER_SIZE), false, "UTF8")) {
+			out.println(HEADER);
+			while (it.hasNext()) {
+				Student s = it.next();
+				out.println(s.getFirst() + "," + s.getLast() + "," + s.getUnityID() + "," + s.getId() + ","
+						+ s.getGpa() + "," + s.getCreditHours());
+			}
+			if (out.checkError()) {
+				throw new IllegalStateException("Could not write file: " + outputPath);
+			}
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Could not create file: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Sorts the input CSV file into sorted runs and returns an iterator over the
+	 * merged Students. If there are more runs than the fan-in, they are merged
+	 * into fewer, longer runs first. The iterator must be closed to delete the
+	 * run files; it closes itself once every Student has been returned.
+	 *
+	 * @param inputPath the path to the input student CSV file
+	 * @return an iterator over the Students in sorted order
+	 */
+	public MergeIterator sort(String inputPath) {
+		List<File> runs = new ArrayBasedList<File>();
+		try (Scanner scan = new Scanner(new FileInputStream(inputPath), "UTF8")) {
+			if (scan.hasNextLine()) {
+				scan.nextLine(); // SKIP HEADER LINE
+			}
+			Student[] chunk = new Student[chunkSize];
+			while (scan.hasNextLine()) {
+				int size = 0;
+				while (size < chunkSize && scan.hasNextLine()) {
+					chunk[size] = StudentReader.processLine(scan.nextLine());
+					size++;
+				}
+				if (size < chunkSize) {
+					chunk = Arrays.copyOf(chunk, size);
+				}
+				sorter.sort(chunk);
+				runs.addLast(spill(Arrays.asList(chunk).iterator()));
+			}
+		} catch (FileNotFoundException e) {
+			deleteAll(runs);
+			throw new IllegalArgumentException("File not found: " + e.getMessage());
+		} catch (RuntimeException e) {
+			deleteAll(runs);
+			throw e;
+		}
+		while (runs.size() > fanIn) {
+			runs = mergePass(runs);
+		}
+		return new MergeIterator(runs);
+	}
+
+	/**
+	 * Merges each consecutive group of fanIn runs into one longer run, and
+	 * deletes the merged runs
+	 *
+	 * @param runs the run files in input order
+	 * @return the merged run files in input order
+	 */
+	private List<File> mergePass(List<File> runs) {
+		List<File> merged = new ArrayBasedList<File>();
+		int next = 0;
+		try {
+			while (next < runs.size()) {
+				int end = Math.min(next + fanIn, runs.size());
+				if (end - next == 1) {
+					// A lone run is already sorted
+					merged.addLast(runs.get(next));
+					next++;
+					continue;
+				}
+				List<File> group = new ArrayBasedList<File>();
+				while (next < end) {
+					group.addLast(runs.get(next));
+					next++;
+				}
+				// The iterator deletes the group's runs once it is closed
+				try (MergeIterator it = new MergeIterator(group)) {
+					merged.addLast(spill(it));
+				}
+			}
+		} catch (RuntimeException e) {
+			deleteAll(merged);
+			while (next < runs.size()) {
+				runs.get(next).delete();
+				next++;
+			}
+			throw e;
+		}
+		return merged;
+	}
+
+	/**
+	 * Writes sorted Students to a new run file
+	 *
+	 * @param students the sorted Students
+	 * @return the run file
+	 */
+	private File spill(Iterator<Student> students) {
+		File run = null;
+		try {
+			run = File.createTempFile("students", ".run", tempDirectory);
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(run), BUFFER_SIZE))) {
+				while (students.hasNext()) {
+					Student s = students.next();
+					out.writeUTF(s.getFirst());
+					out.writeUTF(s.getLast());
+					out.writeUTF(s.getUnityID());
+					out.writeInt(s.getId());
+					out.writeDouble(s.getGpa());
+					out.writeInt(s.getCreditHours());
+				}
+			}
+			return run;
+		} catch (IOException e) {
+			if (run != null) {
+				run.delete();
+			}
+			throw new IllegalStateException("Could not write sorted run: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Deletes every run file in the list
+	 *
+	 * @param runs the run files to delete
+	 */
+	private static void deleteAll(List<File> runs) {
+		for (File run : runs) {
+			run.delete();
+		}
+	}
+
+	/**
+	 * RunHead is an open sorted run and its next unread Student. RunHeads are
+	 * ordered by their Students, and equal Students by the index of their runs.
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private class RunHead implements Comparable<RunHead> {
+
+		/** The open stream of the run, or null once the run is closed */
+		private DataInputStream in;
+
+		/** The next unread Student of the run */
+		private Student student;
+
+		/** The index of the run in the order the runs were written */
+		private int run;
+
+		/**
+		 * Opens a run file
+		 *
+		 * @param file the run file
+		 * @param run  the index of the run
+		 * @throws IOException if the run cannot be opened
+		 */
+		RunHead(File file, int run) throws IOException {
+			this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+			this.run = run;
+		}
+
+		/**
+		 * Reads the next Student of the run, or closes the run if it is exhausted
+		 *
+		 * @return true if a Student was read, or false if the run is exhausted
+		 * @throws IOException if the run cannot be read
+		 */
+		boolean advance() throws IOException {
+			String first;
+			try {
+				first = in.readUTF();
+			} catch (EOFException e) {
+				close();
+				student = null;
+				return false;
+			}
+			String last = in.readUTF();
+			String unityID = in.readUTF();
+			int id = in.readInt();
+			double gpa = in.readDouble();
+			int creditHours = in.readInt();
+			student = new Student(first, last, id, creditHours, gpa, unityID);
+			return true;
+		}
+
+		/**
+		 * Closes the stream of the run if it is still open
+		 */
+		void close() {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// The run file is deleted anyway
+				}
+				in = null;
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int compareTo(RunHead other) {
+			int c = comparator.compare(student, other.student);
+			return c != 0 ? c : Integer.compare(run, other.run);
+		}
+	}
+
+	/**
+	 * MergeIterator returns the Students of every sorted run in merged order. The
+	 * run files are deleted when the iterator is closed.
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	public class MergeIterator implements Iterator<Student>, AutoCloseable {
+
+		/** The run files being merged */
+		private List<File> runs;
+
+		/** Every opened run, so that the runs can be closed early */
+		private RunHead[] heads;
+
+		/**
+		 * The runs that are not exhausted, ordered by their next Student. The runs
+		 * are the keys, and there are no values.
+		 */
+		private HeapPriorityQueue<RunHead, Void> heap;
+
+		/**
+		 * Opens every run and reads its first Student
+		 *
+		 * @param runs the run files to merge
+		 */
+		MergeIterator(List<File> runs) {
+			this.runs = runs;
+			heads = new RunHead[runs.size()];
+			heap = new HeapPriorityQueue<RunHead, Void>();
+			try {
+				for (int i = 0; i < runs.size(); i++) {
+					heads[i] = new RunHead(runs.get(i), i);
+					if (heads[i].advance()) {
+						heap.insert(heads[i], null);
+					}
+				}
+			} catch (IOException e) {
+				close();
+				throw new IllegalStateException("Could not read sorted run: " + e.getMessage());
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			return !heap.isEmpty();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Student next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			RunHead min = heap.deleteMin().getKey();
+			Student student = min.student;
+			try {
+				if (min.advance()) {
+					heap.insert(min, null);
+				}
+			} catch (IOException e) {
+				close();
+				throw new IllegalStateException("Could not read sorted run: " + e.getMessage());
+			}
+			if (heap.isEmpty()) {
+				close();
+			}
+			return student;
+		}
+
+		/**
+		 * Closes every run and deletes the run files
+		 */
+		@Override
+		public void close() {
+			for (RunHead head : heads) {
+				if (head != null) {
+					head.close();
+				}
+			}
+			while (!heap.isEmpty()) {
+				heap.deleteMin();
+			}
+			deleteAll(runs);
+		}
+	}
+}
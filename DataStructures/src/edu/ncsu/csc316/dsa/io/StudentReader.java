@@ -49,7 +49,7 @@ public class StudentReader {
 	 * @param line - the input line from the input file
 	 * @return a Student representation of the input line
 	 */
-	private static Student processLine(String line) {
+	static Student processLine(String line) {
 		Scanner scan = new Scanner(line);
 		scan.useDelimiter(",");
 		String firstName = scan.next();
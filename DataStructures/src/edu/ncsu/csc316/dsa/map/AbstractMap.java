@@ -1,6 +1,7 @@
 package edu.ncsu.csc316.dsa.map;
 
 import java.util.Iterator;
+import java.util.function.BiConsumer;
 
 import edu.ncsu.csc316.dsa.list.List;
 import edu.ncsu.csc316.dsa.list.SinglyLinkedList;
@@ -268,6 +269,52 @@ public abstract class AbstractMap<K, V> implements Map<K, V> {
 		return size() == 0;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void putAll(K[] keys, V[] values) {
+		checkBatch(keys, values);
+		for (int i = 0; i < keys.length; i++) {
+			put(keys[i], values[i]);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void getAll(K[] keys, V[] values) {
+		checkBatch(keys, values);
+		for (int i = 0; i < keys.length; i++) {
+			values[i] = get(keys[i]);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for (Entry<K, V> entry : entrySet()) {
+			action.accept(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Checks that the key and value arrays of a batch operation have the same
+	 * length
+	 * 
+	 * @param keys   the keys of the batch
+	 * @param values the values of the batch
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	protected static void checkBatch(Object[] keys, Object[] values) {
+		if (keys.length != values.length) {
+			throw new IllegalArgumentException("The key and value arrays must have the same length.");
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -1,6 +1,8 @@
 package edu.ncsu.csc316.dsa.map;
 
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * A skeletal implementation of the Map abstract data type. This class provides
@@ -10,6 +12,13 @@ import java.util.Comparator;
  * structure to store entries in a sorted order based on the keys to help
  * improve the efficiency of lookUp behaviors.
  * 
+ * Ordered maps also support navigation by key order: the first and last
+ * entries, the nearest entries below or above a key, and views of the entries
+ * in a range of keys. The implementations in this class scan the entries in
+ * order and take O(n) time; subclasses override them with O(logn) searches of
+ * their own structure, so that reading k entries of a range takes O(logn + k)
+ * time.
+ * 
  * @author Dr. King
  * @author Maggie Lin
  *
@@ -51,6 +60,444 @@ public abstract class AbstractOrderedMap<K extends Comparable<K>, V> extends Abs
         return compare.compare(key1, key2);
     }
 
+    /**
+     * Returns the entry with the smallest key
+     * 
+     * @return the entry with the smallest key, or null if the map is empty
+     */
+    public Entry<K, V> firstEntry() {
+        Iterator<Entry<K, V>> it = entrySet().iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    /**
+     * Returns the entry with the largest key
+     * 
+     * @return the entry with the largest key, or null if the map is empty
+     */
+    public Entry<K, V> lastEntry() {
+        Entry<K, V> last = null;
+        for (Entry<K, V> entry : entrySet()) {
+            last = entry;
+        }
+        return last;
+    }
+
+    /**
+     * Returns the entry with the largest key less than or equal to the given key
+     * 
+     * @param key the key to search for
+     * @return the entry with the largest key less than or equal to the given key,
+     *         or null if there is no such entry
+     */
+    public Entry<K, V> floorEntry(K key) {
+        Entry<K, V> floor = null;
+        for (Entry<K, V> entry : entrySet()) {
+            if (compare(entry.getKey(), key) > 0) {
+                break;
+            }
+            floor = entry;
+        }
+        return floor;
+    }
+
+    /**
+     * Returns the entry with the largest key strictly less than the given key
+     * 
+     * @param key the key to search for
+     * @return the entry with the largest key less than the given key, or null if
+     *         there is no such entry
+     */
+    public Entry<K, V> lowerEntry(K key) {
+        Entry<K, V> lower = null;
+        for (Entry<K, V> entry : entrySet()) {
+            if (compare(entry.getKey(), key) >= 0) {
+                break;
+            }
+            lower = entry;
+        }
+        return lower;
+    }
+
+    /**
+     * Returns the entry with the smallest key greater than or equal to the given
+     * key
+     * 
+     * @param key the key to search for
+     * @return the entry with the smallest key greater than or equal to the given
+     *         key, or null if there is no such entry
+     */
+    public Entry<K, V> ceilingEntry(K key) {
+        Iterator<Entry<K, V>> it = entriesFrom(key);
+        return it.hasNext() ? it.next() : null;
+    }
+
+    /**
+     * Returns the entry with the smallest key strictly greater than the given key
+     * 
+     * @param key the key to search for
+     * @return the entry with the smallest key greater than the given key, or null
+     *         if there is no such entry
+     */
+    public Entry<K, V> higherEntry(K key) {
+        Iterator<Entry<K, V>> it = entriesFrom(key);
+        while (it.hasNext()) {
+            Entry<K, V> entry = it.next();
+            if (compare(entry.getKey(), key) > 0) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a view of the entries whose keys are at least fromKey and less than
+     * toKey. The view is not a copy: it reads the entries of this map when it is
+     * used, puts and removes through the view change this map, and changes to
+     * this map are seen by the view. Iterating over k entries of the view takes
+     * O(logn + k) time for the maps that override {@link #entriesFrom}, and
+     * {@link #size()} of the view counts its entries.
+     * 
+     * @param fromKey the smallest key in the view
+     * @param toKey   the key above every key in the view
+     * @return a view of the entries in the range
+     * @throws IllegalArgumentException if fromKey is greater than toKey
+     */
+    public AbstractOrderedMap<K, V> subMap(K fromKey, K toKey) {
+        if (compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("The first key of the range must not be greater than the last.");
+        }
+        return new SubMap<K, V>(this, fromKey, toKey);
+    }
+
+    /**
+     * Returns a view of the entries whose keys are less than toKey. See
+     * {@link #subMap} for how the view behaves.
+     * 
+     * @param toKey the key above every key in the view
+     * @return a view of the entries before the key
+     */
+    public AbstractOrderedMap<K, V> headMap(K toKey) {
+        return new SubMap<K, V>(this, null, toKey);
+    }
+
+    /**
+     * Returns a view of the entries whose keys are at least fromKey. See
+     * {@link #subMap} for how the view behaves.
+     * 
+     * @param fromKey the smallest key in the view
+     * @return a view of the entries from the key on
+     */
+    public AbstractOrderedMap<K, V> tailMap(K fromKey) {
+        return new SubMap<K, V>(this, fromKey, null);
+    }
+
+    /**
+     * Returns an iterator over the entries whose keys are at least the given key,
+     * in key order. The implementation in this class skips the smaller entries
+     * of {@link #entrySet()}; subclasses override it to start at the key
+     * directly.
+     * 
+     * @param key the smallest key to visit, or null to start at the smallest key
+     *            in the map
+     * @return an iterator over the entries from the key on
+     */
+    protected Iterator<Entry<K, V>> entriesFrom(K key) {
+        return new RangeIterator<K, V>(this, entrySet().iterator(), key, null);
+    }
+
+    /**
+     * SubMap is a view of the entries of an ordered map whose keys lie in a range.
+     * Every operation is checked against the range and then delegated to the
+     * underlying map.
+     * 
+     * @author Maggie Lin
+     *
+     * @param <K> the type of keys stored in the map
+     * @param <V> the type of values that are associated with keys in the map
+     */
+    private static class SubMap<K extends Comparable<K>, V> extends AbstractOrderedMap<K, V> {
+
+        /** The map whose entries are viewed */
+        private AbstractOrderedMap<K, V> parent;
+
+        /** The smallest key in the view, or null if the range has no lower bound */
+        private K fromKey;
+
+        /** The key above every key in the view, or null if there is no upper bound */
+        private K toKey;
+
+        /**
+         * Constructs a view of the entries of the given map in a range of keys
+         * 
+         * @param parent  the map whose entries are viewed
+         * @param fromKey the smallest key in the view, or null for no lower bound
+         * @param toKey   the key above every key in the view, or null for no upper
+         *                bound
+         */
+        SubMap(AbstractOrderedMap<K, V> parent, K fromKey, K toKey) {
+            super(parent::compare);
+            this.parent = parent;
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+        }
+
+        /**
+         * Returns true if the given key is at least the lower bound of the view
+         * 
+         * @param key the key to check
+         * @return true if the key is not below the range
+         */
+        private boolean aboveFrom(K key) {
+            return fromKey == null || compare(key, fromKey) >= 0;
+        }
+
+        /**
+         * Returns true if the given key is less than the upper bound of the view
+         * 
+         * @param key the key to check
+         * @return true if the key is not above the range
+         */
+        private boolean belowTo(K key) {
+            return toKey == null || compare(key, toKey) < 0;
+        }
+
+        /**
+         * Returns the given entry if its key is in the range of the view
+         * 
+         * @param entry an entry of the underlying map, or null
+         * @return the entry, or null if it is null or out of range
+         */
+        private Entry<K, V> inRange(Entry<K, V> entry) {
+            if (entry == null || !aboveFrom(entry.getKey()) || !belowTo(entry.getKey())) {
+                return null;
+            }
+            return entry;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V get(K key) {
+            return aboveFrom(key) && belowTo(key) ? parent.get(key) : null;
+        }
+
+        /**
+         * {@inheritDoc}
+         * 
+         * @throws IllegalArgumentException if the key is out of the range of the
+         *                                  view
+         */
+        @Override
+        public V put(K key, V value) {
+            if (!aboveFrom(key) || !belowTo(key)) {
+                throw new IllegalArgumentException("The key is out of the range of the view.");
+            }
+            return parent.put(key, value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V remove(K key) {
+            return aboveFrom(key) && belowTo(key) ? parent.remove(key) : null;
+        }
+
+        /**
+         * {@inheritDoc} The entries of the view are counted, which takes
+         * O(logn + k) time for a view of k entries.
+         */
+        @Override
+        public int size() {
+            int count = 0;
+            Iterator<Entry<K, V>> it = entriesFrom(null);
+            while (it.hasNext()) {
+                it.next();
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterable<Entry<K, V>> entrySet() {
+            return () -> entriesFrom(null);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Iterator<Entry<K, V>> entriesFrom(K key) {
+            K from = key == null || !aboveFrom(key) ? fromKey : key;
+            return new RangeIterator<K, V>(this, parent.entriesFrom(from), null, toKey);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<K, V> firstEntry() {
+            return inRange(fromKey == null ? parent.firstEntry() : parent.ceilingEntry(fromKey));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<K, V> lastEntry() {
+            return inRange(toKey == null ? parent.lastEntry() : parent.lowerEntry(toKey));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<K, V> floorEntry(K key) {
+            return belowTo(key) ? inRange(parent.floorEntry(key)) : lastEntry();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<K, V> lowerEntry(K key) {
+            return belowTo(key) ? inRange(parent.lowerEntry(key)) : lastEntry();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<K, V> ceilingEntry(K key) {
+            return aboveFrom(key) ? inRange(parent.ceilingEntry(key)) : firstEntry();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<K, V> higherEntry(K key) {
+            return aboveFrom(key) ? inRange(parent.higherEntry(key)) : firstEntry();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public AbstractOrderedMap<K, V> subMap(K from, K to) {
+            if (compare(from, to) > 0) {
+                throw new IllegalArgumentException("The first key of the range must not be greater than the last.");
+            }
+            return new SubMap<K, V>(parent, aboveFrom(from) ? from : fromKey, belowTo(to) ? to : toKey);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public AbstractOrderedMap<K, V> headMap(K to) {
+            return new SubMap<K, V>(parent, fromKey, belowTo(to) ? to : toKey);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public AbstractOrderedMap<K, V> tailMap(K from) {
+            return new SubMap<K, V>(parent, aboveFrom(from) ? from : fromKey, toKey);
+        }
+    }
+
+    /**
+     * RangeIterator wraps an iterator over entries in key order, skipping the
+     * entries below a lower bound and stopping at an upper bound
+     * 
+     * @author Maggie Lin
+     *
+     * @param <K> the type of keys stored in the map
+     * @param <V> the type of values that are associated with keys in the map
+     */
+    private static class RangeIterator<K extends Comparable<K>, V> implements Iterator<Entry<K, V>> {
+
+        /** The map whose comparator orders the keys */
+        private AbstractOrderedMap<K, V> map;
+
+        /** The iterator over the entries in key order */
+        private Iterator<Entry<K, V>> it;
+
+        /** The key above every key to visit, or null if there is no upper bound */
+        private K toKey;
+
+        /** The next entry to return, or null if there are no more entries */
+        private Entry<K, V> next;
+
+        /**
+         * Constructs an iterator over the entries of the given iterator in a range
+         * 
+         * @param map     the map whose comparator orders the keys
+         * @param it      the iterator over the entries in key order
+         * @param fromKey the smallest key to visit, or null for no lower bound
+         * @param toKey   the key above every key to visit, or null for no upper
+         *                bound
+         */
+        RangeIterator(AbstractOrderedMap<K, V> map, Iterator<Entry<K, V>> it, K fromKey, K toKey) {
+            this.map = map;
+            this.it = it;
+            this.toKey = toKey;
+            advance();
+            while (next != null && fromKey != null && map.compare(next.getKey(), fromKey) < 0) {
+                advance();
+            }
+        }
+
+        /**
+         * Moves to the next entry of the underlying iterator, unless it is past the
+         * upper bound
+         */
+        private void advance() {
+            next = it.hasNext() ? it.next() : null;
+            if (next != null && toKey != null && map.compare(next.getKey(), toKey) >= 0) {
+                next = null;
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = next;
+            advance();
+            return entry;
+        }
+
+        /**
+         * Do not allow for remove operation
+         * 
+         * @throws UnsupportedOperationException when remove operation is called
+         */
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("The remove operation is not supported yet.");
+        }
+    }
+
     /**
      * Delegates to the {@link Comparable#compareTo} implementation that defines the
      * natural ordering of the keys
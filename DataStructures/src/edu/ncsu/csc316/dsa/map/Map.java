@@ -1,5 +1,7 @@
 package edu.ncsu.csc316.dsa.map;
 
+import java.util.function.BiConsumer;
+
 /**
  * The Map abstract data type represents a collection of entries, where each
  * entry consists of a 'key' that is mapped to a 'value'. The Map ADT does not
@@ -56,6 +58,38 @@ public interface Map<K, V> extends Iterable<K> {
 	 */
 	V put(K key, V value);
 
+	/**
+	 * Adds or updates an entry for each key in the given array, associating
+	 * keys[i] with values[i]. If a key appears more than once, the last value for
+	 * it is kept. The result is the same as calling {@link #put} for each pair in
+	 * order, but maps may load the entries more efficiently.
+	 * 
+	 * @param keys   the keys of the entries
+	 * @param values the values of the entries, in the same order as the keys
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	void putAll(K[] keys, V[] values);
+
+	/**
+	 * Looks up the value associated with each key in the given array and stores
+	 * it in the same position of the values array, or stores null if the key is
+	 * not in the map
+	 * 
+	 * @param keys   the keys of the entries to look up
+	 * @param values the array that receives the values, which must have the same
+	 *               length as the keys array
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	void getAll(K[] keys, V[] values);
+
+	/**
+	 * Calls the given action with the key and value of every entry in the map.
+	 * The map must not be changed by the action.
+	 * 
+	 * @param action the action to call for each entry
+	 */
+	void forEach(BiConsumer<? super K, ? super V> action);
+
 	/**
 	 * Removes the entry with the provided key from the map and returns the value of
 	 * that entry
@@ -2,7 +2,10 @@ package edu.ncsu.csc316.dsa.map;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
 import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
 
 /**
  * A Search Table map is an ordered (meaning entries are stored in a sorted
@@ -102,15 +105,27 @@ public class SearchTableMap<K extends Comparable<K>, V> extends AbstractOrderedM
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * {@inheritDoc} The entries are not copied: the returned collection iterates
+	 * over the sorted list itself, so the map must not be changed while it is
+	 * being iterated.
 	 */
 	@Override
 	public Iterable<Entry<K, V>> entrySet() {
-		EntryCollection set = new EntryCollection();
-		for (Entry<K, V> entry : list) {
-			set.add(entry);
+		return () -> new IndexIterator(0);
+	}
+
+	/**
+	 * Performs the given action on each entry in key order by indexing the
+	 * sorted list directly, without copying the entries into a collection
+	 * 
+	 * @param action the action to perform on each key and value
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for (int i = 0; i < list.size(); i++) {
+			Entry<K, V> entry = list.get(i);
+			action.accept(entry.getKey(), entry.getValue());
 		}
-		return set;
 	}
 
 	/**
@@ -129,6 +144,59 @@ public class SearchTableMap<K extends Comparable<K>, V> extends AbstractOrderedM
 		}
 	}
 
+	/**
+	 * {@inheritDoc} The new entries are sorted by key and then merged with the
+	 * existing entries into a new list, so the batch takes O((n + m)logm) time
+	 * for n existing and m new entries instead of O(nm) for separate puts.
+	 */
+	@Override
+	public void putAll(K[] keys, V[] values) {
+		checkBatch(keys, values);
+		Entry<K, V>[] batch = newEntryArray(keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			batch[i] = new MapEntry<K, V>(keys[i], values[i]);
+		}
+		// Merge sort is stable, so the last value of a repeated key sorts last
+		new MergeSorter<Entry<K, V>>((first, second) -> compare(first.getKey(), second.getKey())).sort(batch);
+
+		ArrayBasedList<Entry<K, V>> merged = new ArrayBasedList<Entry<K, V>>(list.size() + batch.length);
+		int listIndex = 0;
+		int batchIndex = 0;
+		while (listIndex < list.size() || batchIndex < batch.length) {
+			if (batchIndex == batch.length) {
+				merged.addLast(list.get(listIndex++));
+				continue;
+			}
+			// Skip to the last entry of the batch with the same key
+			while (batchIndex + 1 < batch.length
+					&& compare(batch[batchIndex].getKey(), batch[batchIndex + 1].getKey()) == 0) {
+				batchIndex++;
+			}
+			int comparison = listIndex == list.size() ? 1
+					: compare(list.get(listIndex).getKey(), batch[batchIndex].getKey());
+			if (comparison < 0) {
+				merged.addLast(list.get(listIndex++));
+			} else {
+				if (comparison == 0) {
+					listIndex++;
+				}
+				merged.addLast(batch[batchIndex++]);
+			}
+		}
+		list = merged;
+	}
+
+	/**
+	 * Returns a new array of entries
+	 * 
+	 * @param length the length of the array
+	 * @return the new array
+	 */
+	@SuppressWarnings("unchecked")
+	private Entry<K, V>[] newEntryArray(int length) {
+		return (Entry<K, V>[]) new Entry<?, ?>[length];
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -144,6 +212,82 @@ public class SearchTableMap<K extends Comparable<K>, V> extends AbstractOrderedM
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> firstEntry() {
+		return entryAt(0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> lastEntry() {
+		return entryAt(list.size() - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> floorEntry(K key) {
+		int index = lookUp(key);
+		return entryAt(index >= 0 ? index : -(index + 1) - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> lowerEntry(K key) {
+		int index = lookUp(key);
+		return entryAt(index >= 0 ? index - 1 : -(index + 1) - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> ceilingEntry(K key) {
+		int index = lookUp(key);
+		return entryAt(index >= 0 ? index : -(index + 1));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> higherEntry(K key) {
+		int index = lookUp(key);
+		return entryAt(index >= 0 ? index + 1 : -(index + 1));
+	}
+
+	/**
+	 * {@inheritDoc} The first entry is found by binary search, and the iterator
+	 * then moves through the sorted list by index.
+	 */
+	@Override
+	protected Iterator<Entry<K, V>> entriesFrom(K key) {
+		int start = 0;
+		if (key != null) {
+			int index = lookUp(key);
+			start = index >= 0 ? index : -(index + 1);
+		}
+		return new IndexIterator(start);
+	}
+
+	/**
+	 * Returns the entry at the given index of the sorted list
+	 * 
+	 * @param index the index of the entry
+	 * @return the entry, or null if the index is outside the list
+	 */
+	private Entry<K, V> entryAt(int index) {
+		return index >= 0 && index < list.size() ? list.get(index) : null;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -160,4 +304,54 @@ public class SearchTableMap<K extends Comparable<K>, V> extends AbstractOrderedM
 		sb.append("]");
 		return sb.toString();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * IndexIterator visits the entries of the sorted list from a starting index
+	 * 
+	 * @author Maggie Lin
+	 *
+	 */
+	private class IndexIterator implements Iterator<Entry<K, V>> {
+
+		/** The index of the next entry */
+		private int index;
+
+		/**
+		 * Constructs an iterator that starts at the given index
+		 * 
+		 * @param start the index of the first entry to visit
+		 */
+		IndexIterator(int start) {
+			index = start;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			return index < list.size();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return list.get(index++);
+		}
+
+		/**
+		 * Do not allow for remove operation
+		 * 
+		 * @throws UnsupportedOperationException when remove operation is called
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("The remove operation is not supported yet.");
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package edu.ncsu.csc316.dsa.map;
 
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Random;
 
 /**
@@ -181,7 +183,7 @@ public class SkipListMap<K extends Comparable<K>, V> extends AbstractOrderedMap<
 	public V remove(K key) {
 		SkipListNode<K, V> temp = lookUp(key);
 
-		if (isSentinel(temp) || temp == null || temp.getEntry().getKey() != key) {
+		if (isSentinel(temp) || temp == null || !temp.getEntry().getKey().equals(key)) {
 			return null;
 		}
 		SkipListNode<K, V> aboveTemp = temp;
@@ -208,21 +210,119 @@ public class SkipListMap<K extends Comparable<K>, V> extends AbstractOrderedMap<
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * {@inheritDoc} The entries are not copied: the returned collection follows
+	 * the bottom list of the skip list itself, so the map must not be changed
+	 * while it is being iterated.
 	 */
 	@Override
 	public Iterable<Entry<K, V>> entrySet() {
-		EntryCollection set = new EntryCollection();
+		return () -> entriesFrom(null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> firstEntry() {
+		return entryOf(bottomStart().next);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> lastEntry() {
+		// The +INFINITY tower reaches the bottom list below the top-level tail
+		SkipListNode<K, V> tail = start.next;
+		while (tail.below != null) {
+			tail = tail.below;
+		}
+		return entryOf(tail.prev);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> floorEntry(K key) {
+		return entryOf(lookUp(key));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> lowerEntry(K key) {
+		SkipListNode<K, V> floor = lookUp(key);
+		if (!isSentinel(floor) && compare(floor.getEntry().getKey(), key) == 0) {
+			floor = floor.prev;
+		}
+		return entryOf(floor);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> ceilingEntry(K key) {
+		return entryOf(ceiling(key));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> higherEntry(K key) {
+		// The node after the floor is the first node with a larger key
+		return entryOf(lookUp(key).next);
+	}
+
+	/**
+	 * {@inheritDoc} The first entry is found by searching the skip list, and the
+	 * iterator then follows the bottom list.
+	 */
+	@Override
+	protected Iterator<Entry<K, V>> entriesFrom(K key) {
+		return new BottomListIterator(key == null ? bottomStart().next : ceiling(key));
+	}
+
+	/**
+	 * Returns the node of the bottom list with the smallest key greater than or
+	 * equal to the given key
+	 * 
+	 * @param key the key to search for
+	 * @return the node with the smallest key not less than the key, or the
+	 *         +INFINITY sentinel if there is no such node
+	 */
+	private SkipListNode<K, V> ceiling(K key) {
+		SkipListNode<K, V> floor = lookUp(key);
+		if (!isSentinel(floor) && compare(floor.getEntry().getKey(), key) == 0) {
+			return floor;
+		}
+		return floor.next;
+	}
+
+	/**
+	 * Returns the -INFINITY sentinel of the bottom list
+	 * 
+	 * @return the -INFINITY sentinel of the bottom list
+	 */
+	private SkipListNode<K, V> bottomStart() {
 		SkipListNode<K, V> current = start;
 		while (current.below != null) {
 			current = current.below;
 		}
-		current = current.next;
-		while (!isSentinel(current)) {
-			set.add(current.getEntry());
-			current = current.next;
-		}
-		return set;
+		return current;
+	}
+
+	/**
+	 * Returns the entry of the given node
+	 * 
+	 * @param node a node of the bottom list
+	 * @return the entry of the node, or null if the node is a sentinel
+	 */
+	private Entry<K, V> entryOf(SkipListNode<K, V> node) {
+		return isSentinel(node) ? null : node.getEntry();
 	}
 
 	/**
@@ -402,4 +502,57 @@ public class SkipListMap<K extends Comparable<K>, V> extends AbstractOrderedMap<
 			this.prev = prev;
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * BottomListIterator visits the entries of the bottom list from a starting
+	 * node up to the +INFINITY sentinel
+	 * 
+	 * @author Maggie Lin
+	 *
+	 */
+	private class BottomListIterator implements Iterator<Entry<K, V>> {
+
+		/** The node of the next entry */
+		private SkipListNode<K, V> next;
+
+		/**
+		 * Constructs an iterator that starts at the given node
+		 * 
+		 * @param first the node of the first entry to visit
+		 */
+		BottomListIterator(SkipListNode<K, V> first) {
+			next = first;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			return !isSentinel(next);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Entry<K, V> entry = next.getEntry();
+			next = next.next;
+			return entry;
+		}
+
+		/**
+		 * Do not allow for remove operation
+		 * 
+		 * @throws UnsupportedOperationException when remove operation is called
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("The remove operation is not supported yet.");
+		}
+	}
+}
@@ -2,8 +2,6 @@ package edu.ncsu.csc316.dsa.map.hashing;
 
 import java.util.Random;
 
-import edu.ncsu.csc316.dsa.list.ArrayBasedList;
-import edu.ncsu.csc316.dsa.list.List;
 import edu.ncsu.csc316.dsa.map.AbstractMap;
 
 /**
@@ -53,6 +51,62 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
     /** Prime number used for compression strategy */
     private int prime;
 
+    /**
+     * Compression strategy that uses the multiply-and-divide method with a prime
+     * modulus: h(k) = ((alpha * f(k) + beta) % prime) % capacity. Tables of any
+     * capacity are supported and grow to 2 * capacity + 1. This is the default.
+     */
+    public static final CompressionStrategy MAD_COMPRESSION = new MADCompression();
+
+    /**
+     * Compression strategy for power-of-two table capacities. The hash code is
+     * multiplied by a random odd 64-bit seed, and the top bits of the product
+     * select the bucket, so no division is needed. Tables grow to 2 * capacity.
+     */
+    public static final CompressionStrategy MIXING_COMPRESSION = new MixingCompression();
+
+    /** The fixed odd multiplier used for mixing compression in testing mode */
+    private static final long TESTING_SEED = 0x9E3779B97F4A7C15L;
+
+    /** Random odd multiplier for mixing compression */
+    private long seed;
+
+    /** The compression strategy used to calculate hash functions */
+    private CompressionStrategy compression;
+
+    /**
+     * The number of old buckets moved to the new table by each get, put, or
+     * remove while an incremental resize is in progress
+     */
+    private static final int MIGRATION_STEP = 16;
+
+    /**
+     * The number of keys whose hash functions are calculated together by the
+     * batch operations before their buckets are accessed
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /** Whether the table grows by incremental resizes instead of full rebuilds */
+    private boolean incrementalResize;
+
+    /**
+     * The map that holds the old table during an incremental resize, or null if
+     * no resize is in progress
+     */
+    private AbstractHashMap<K, V> oldMap;
+
+    /** The index of the next old bucket to move to the new table */
+    private int migrationIndex;
+
+    /** Whether the number and duration of resizes are recorded */
+    private boolean statsEnabled;
+
+    /** The number of resizes started while statistics were enabled */
+    private int resizeCount;
+
+    /** The time spent resizing while statistics were enabled, in nanoseconds */
+    private long resizeNanos;
+
     /**
      * Initializes the abstract hash map state with values to use when calculating
      * hash functions. You can use the isTesting flag (set to true) to.
@@ -69,58 +123,451 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
             alpha = 1;
             beta = 1;
             prime = 7;
+            seed = TESTING_SEED;
         } else {
             Random rand = new Random();
             alpha = rand.nextInt(DEFAULT_PRIME - 1) + 1;
             beta = rand.nextInt(DEFAULT_PRIME);
             prime = DEFAULT_PRIME;
+            seed = rand.nextLong() | 1;
         }
+        compression = MAD_COMPRESSION;
         createTable(capacity);
     }
 
     /**
-     * Returns the hash function for a given key using multiply-and-divide
-     * compression
+     * Initializes the abstract hash map state with random values to use when
+     * calculating hash functions and the given compression strategy. No table is
+     * created; the subclass must create or open one.
+     *
+     * @param strategy the compression strategy to use
+     */
+    protected AbstractHashMap(CompressionStrategy strategy) {
+        Random rand = new Random();
+        alpha = rand.nextInt(DEFAULT_PRIME - 1) + 1;
+        beta = rand.nextInt(DEFAULT_PRIME);
+        prime = DEFAULT_PRIME;
+        seed = rand.nextLong() | 1;
+        compression = strategy;
+    }
+
+    /**
+     * Initializes the abstract hash map state with the same hash function values
+     * as the given map. No table is created; the subclass must assign one.
+     * 
+     * @param other the map whose hash function is shared
+     */
+    protected AbstractHashMap(AbstractHashMap<K, V> other) {
+        alpha = other.alpha;
+        beta = other.beta;
+        prime = other.prime;
+        seed = other.seed;
+        compression = other.compression;
+    }
+
+    /**
+     * Returns the compression strategy used to calculate hash functions
+     * 
+     * @return the compression strategy
+     */
+    protected CompressionStrategy compressionStrategy() {
+        return compression;
+    }
+
+    /**
+     * Returns the random values of the hash function: alpha, beta, and the prime
+     * of MAD compression, and the seed of mixing compression. Maps that store
+     * their table outside the heap record these values so that a reopened table
+     * hashes keys the same way.
+     * 
+     * @return the values alpha, beta, prime, and seed, in that order
+     */
+    protected long[] hashFunction() {
+        return new long[] { alpha, beta, prime, seed };
+    }
+
+    /**
+     * Replaces the random values of the hash function and the compression
+     * strategy with ones recorded by {@link #hashFunction()}. No entry is
+     * rehashed, so this is only called when reopening a table that was built
+     * with these values.
+     * 
+     * @param values   the values alpha, beta, prime, and seed, in that order
+     * @param strategy the compression strategy of the table
+     */
+    protected void restoreHashFunction(long[] values, CompressionStrategy strategy) {
+        alpha = values[0];
+        beta = values[1];
+        prime = (int) values[2];
+        seed = values[3];
+        compression = strategy;
+    }
+
+    /**
+     * Sets the compression strategy used to calculate hash functions, such as
+     * {@link #MAD_COMPRESSION} or {@link #MIXING_COMPRESSION}. Every entry is
+     * rehashed into a new table whose capacity suits the strategy.
+     * 
+     * @param strategy the compression strategy to use
+     */
+    public void setCompressionStrategy(CompressionStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("A compression strategy is required.");
+        }
+        finishResize();
+        startResize(strategy.tableCapacity(capacity()));
+        compression = strategy;
+        finishResize();
+    }
+
+    /**
+     * Sets whether the hash table grows by incremental resizes. When enabled, a
+     * resize allocates the new, larger table but leaves the entries in the old
+     * table. Every later get, put, and remove then moves a small, bounded number
+     * of old buckets into the new table until the old table is empty, so no
+     * single operation pays for rehashing the whole map. Lookups check both
+     * tables while a resize is in progress.
+     * 
+     * @param incremental true to resize incrementally, false to rebuild the whole
+     *                    table at once
+     */
+    public void setIncrementalResize(boolean incremental) {
+        if (!incremental) {
+            finishResize();
+        }
+        incrementalResize = incremental;
+    }
+
+    /**
+     * Sets whether the map records how many times its table is resized and how
+     * long the resizes take. Recording is off by default, and while it is off
+     * no operation does any extra work. The other values in {@link #stats()}
+     * are measured from the table when they are requested, so they are
+     * available whether or not recording is enabled.
+     * 
+     * @param enabled true to record resizes
+     */
+    public void setStatsEnabled(boolean enabled) {
+        statsEnabled = enabled;
+    }
+
+    /**
+     * Returns a snapshot of the shape of the hash table: probe lengths, deleted
+     * slots, the longest chain, the tallest tree bucket, how evenly the keys are
+     * hashed, and the resizes recorded while statistics were enabled. Any
+     * incremental resize is finished first. The snapshot takes O(n + capacity)
+     * time, so it is meant for diagnosing a slow map, not for every operation.
+     * 
+     * @return a snapshot of the hash table statistics
+     */
+    public HashMapStats stats() {
+        finishResize();
+        HashMapStats stats = new HashMapStats(size(), capacity(), resizeCount, resizeNanos);
+        boolean[] isHome = new boolean[capacity()];
+        int[] homeBuckets = new int[1];
+        forEach((key, value) -> {
+            int hash = compress(key);
+            if (!isHome[hash]) {
+                isHome[hash] = true;
+                homeBuckets[0]++;
+            }
+        });
+        stats.setHomeBuckets(homeBuckets[0]);
+        collectStats(stats);
+        stats.finish();
+        return stats;
+    }
+
+    /**
+     * Records the probe length of every entry and the shape of every bucket of
+     * the current hash table in the given statistics. Maps that do not override
+     * this report only their size, capacity, collision score, and resizes.
+     * 
+     * @param stats the statistics in which to record the hash table
+     */
+    protected void collectStats(HashMapStats stats) {
+        // By default, the shape of the buckets is not reported
+    }
+
+    /**
+     * Returns true if an incremental resize is in progress
+     * 
+     * @return true if entries are still being moved from an old table
+     */
+    public boolean isResizing() {
+        return oldMap != null;
+    }
+
+    /**
+     * Returns the hash function for a given key using the map's compression
+     * strategy
      * 
      * @param key the key for which to calculate the hash function
      * @return the compressed hash function for the provided key
      */
     private int compress(K key) {
-        return (int) ((Math.abs(key.hashCode() * alpha + beta) % prime) % capacity());
+        return compressHash(key.hashCode());
+    }
+
+    /**
+     * Returns the hash function for a given hash code using the map's compression
+     * strategy. Maps with primitive keys use this to hash keys without boxing
+     * them.
+     * 
+     * @param hashCode the hash code of the key
+     * @return the compressed hash function for the provided hash code
+     */
+    protected int compressHash(int hashCode) {
+        return compression.compress(hashCode, this);
     }
 
     @Override
     public V put(K key, V value) {
+        migrate();
         V ret = bucketPut(compress(key), key, value);
-        if ((double) size() / capacity() > MAX_LOAD_FACTOR) {
-            resize(2 * capacity() + 1);
+        if (oldMap != null) {
+            // The key may still be waiting in the old table
+            V oldValue = oldMap.remove(key);
+            if (ret == null) {
+                ret = oldValue;
+            }
         }
+        checkLoadFactor();
         return ret;
     }
 
     @Override
     public V get(K key) {
-        return bucketGet(compress(key), key);
+        migrate();
+        V ret = bucketGet(compress(key), key);
+        if (ret == null && oldMap != null) {
+            ret = oldMap.get(key);
+        }
+        return ret;
     }
 
     @Override
     public V remove(K key) {
-        return bucketRemove(compress(key), key);
+        migrate();
+        V ret = bucketRemove(compress(key), key);
+        if (ret == null && oldMap != null) {
+            ret = oldMap.remove(key);
+        }
+        return ret;
+    }
+
+    /**
+     * {@inheritDoc} The table is resized at most once, before any entry is added,
+     * to a capacity that holds the current entries and every new key. Keys that
+     * are already in the map are counted as new, so the table may grow more than
+     * needed when most keys are updates.
+     */
+    @Override
+    public void putAll(K[] keys, V[] values) {
+        checkBatch(keys, values);
+        reserve(size() + keys.length);
+        int[] hashes = new int[Math.min(keys.length, BATCH_SIZE)];
+        for (int start = 0; start < keys.length; start += BATCH_SIZE) {
+            int end = Math.min(start + BATCH_SIZE, keys.length);
+            for (int i = start; i < end; i++) {
+                hashes[i - start] = compress(keys[i]);
+            }
+            for (int i = start; i < end; i++) {
+                bucketPut(hashes[i - start], keys[i], values[i]);
+            }
+            // A subclass may still need to grow, which changes the hash functions
+            checkLoadFactor();
+            finishResize();
+        }
+    }
+
+    /**
+     * {@inheritDoc} The hash functions of a block of keys are calculated before
+     * any of their buckets are accessed, so the processor can fetch the buckets
+     * of several keys at the same time instead of waiting for each in turn.
+     */
+    @Override
+    public void getAll(K[] keys, V[] values) {
+        checkBatch(keys, values);
+        finishResize();
+        int[] hashes = new int[Math.min(keys.length, BATCH_SIZE)];
+        for (int start = 0; start < keys.length; start += BATCH_SIZE) {
+            int end = Math.min(start + BATCH_SIZE, keys.length);
+            for (int i = start; i < end; i++) {
+                hashes[i - start] = compress(keys[i]);
+            }
+            for (int i = start; i < end; i++) {
+                values[i] = bucketGet(hashes[i - start], keys[i]);
+            }
+        }
     }
 
     /**
-     * Resizes the hash table array to have a new, larger capacity
+     * Resizes the hash table array once, if needed, so that it can hold the given
+     * number of entries without exceeding the maximum load factor. Any
+     * incremental resize is finished.
+     * 
+     * @param expectedSize the number of entries the table must hold
+     */
+    private void reserve(int expectedSize) {
+        int newCapacity = capacity();
+        while ((double) expectedSize / newCapacity > maxLoadFactor()) {
+            newCapacity = compression.nextCapacity(newCapacity);
+        }
+        if (newCapacity != capacity()) {
+            resize(newCapacity);
+        }
+        finishResize();
+    }
+
+    /**
+     * Resizes the hash table array if the load factor exceeds the maximum load
+     * factor. Subclasses that add entries without calling {@link #put} call this
+     * afterward.
+     */
+    protected void checkLoadFactor() {
+        if ((double) size() / capacity() > maxLoadFactor()) {
+            grow();
+        }
+    }
+
+    /**
+     * Resizes the hash table array to the next capacity of the compression
+     * strategy, whatever the load factor. Subclasses call this when their table
+     * is too crowded in a way that the load factor does not measure.
+     */
+    protected void grow() {
+        resize(compression.nextCapacity(capacity()));
+    }
+
+    /**
+     * Rebuilds the hash table array at its current capacity, moving every entry
+     * as a resize would. Subclasses whose tables cannot be cleaned in place call
+     * this to drop deleted slots.
+     */
+    protected void rehash() {
+        resize(capacity());
+    }
+
+    /**
+     * Returns the maximum load factor to allow before resizing the hash table.
+     * Subclasses whose collision resolution tolerates fuller tables may allow a
+     * higher load factor.
+     * 
+     * @return the maximum load factor
+     */
+    protected double maxLoadFactor() {
+        return MAX_LOAD_FACTOR;
+    }
+
+    /**
+     * Returns the number of entries still waiting in the old table of an
+     * incremental resize. Subclasses include these entries in their size.
+     * 
+     * @return the number of entries in the old table, or 0 if no resize is in
+     *         progress
+     */
+    protected int migratingSize() {
+        return oldMap == null ? 0 : oldMap.size();
+    }
+
+    /**
+     * Moves every remaining entry of an incremental resize into the current
+     * table. Subclasses call this before iterating over their table.
+     */
+    protected void finishResize() {
+        while (oldMap != null) {
+            migrate();
+        }
+    }
+
+    /**
+     * Moves the next buckets of an incremental resize, if one is in progress,
+     * into the current table. Maps with primitive keys call this before their
+     * unboxed operations, which then check the returned map for keys that are
+     * still waiting in the old table.
+     * 
+     * @return the map that holds the rest of the old table, or null if no resize
+     *         is in progress
+     */
+    protected AbstractHashMap<K, V> stepResize() {
+        migrate();
+        return oldMap;
+    }
+
+    /**
+     * Moves the next {@link #MIGRATION_STEP} buckets of the old table, if any,
+     * into the current table
+     */
+    private void migrate() {
+        if (oldMap == null) {
+            return;
+        }
+        long start = statsEnabled ? System.nanoTime() : 0;
+        int end = Math.min(migrationIndex + MIGRATION_STEP, oldMap.capacity());
+        while (migrationIndex < end) {
+            oldMap.transferBucket(migrationIndex, this);
+            migrationIndex++;
+        }
+        if (migrationIndex == oldMap.capacity()) {
+            oldMap = null;
+            resizeFinished();
+        }
+        if (statsEnabled) {
+            resizeNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Called when every entry of the old table has been moved to the current
+     * table. Subclasses that must release the old table override this.
+     */
+    protected void resizeFinished() {
+        // Most subclasses let the old table be garbage collected
+    }
+
+    /**
+     * Adds an entry that was moved out of an old table. The key is known not to
+     * be in the current table, and the load factor is not checked.
+     * 
+     * @param key   the key of the moved entry
+     * @param value the value of the moved entry
+     */
+    protected void putMigrated(K key, V value) {
+        bucketPut(compress(key), key, value);
+    }
+
+    /**
+     * Resizes the hash table array to have a new, larger capacity. The entries
+     * are moved bucket by bucket from the old table, either all at once or, in
+     * incremental mode, a few buckets per operation.
      * 
      * @param newCapacity the capacity of the new, larger hash table array
      */
     private void resize(int newCapacity) {
-        List<Entry<K, V>> list = new ArrayBasedList<Entry<K, V>>();
-        for (Entry<K, V> entry : entrySet()) {
-            list.addLast(entry);
+        finishResize();
+        startResize(newCapacity);
+        if (!incrementalResize) {
+            finishResize();
         }
-        createTable(newCapacity);
-        for (Entry<K, V> entry : list) {
-            put(entry.getKey(), entry.getValue());
+        // Otherwise each put moves MIGRATION_STEP buckets, so the old table is
+        // empty long before the new table reaches the maximum load factor
+    }
+
+    /**
+     * Detaches the current hash table array as the old table of a resize and
+     * replaces it with an empty array of the given capacity. No entries are
+     * moved.
+     * 
+     * @param newCapacity the capacity of the new hash table array
+     */
+    private void startResize(int newCapacity) {
+        long start = statsEnabled ? System.nanoTime() : 0;
+        oldMap = detachTable(newCapacity);
+        migrationIndex = 0;
+        if (statsEnabled) {
+            resizeCount++;
+            resizeNanos += System.nanoTime() - start;
         }
     }
 
@@ -138,6 +585,25 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
      */
     protected abstract void createTable(int capacity);
 
+    /**
+     * Moves the current hash table array and its entries into a new map of the
+     * same type that shares this map's hash function, and replaces it with a new,
+     * empty hash table array of the given capacity
+     * 
+     * @param newCapacity the capacity of the new hash table array
+     * @return a map that holds the old hash table array
+     */
+    protected abstract AbstractHashMap<K, V> detachTable(int newCapacity);
+
+    /**
+     * Removes every entry from the bucket at the given index and adds it to the
+     * target map using {@link #putMigrated}
+     * 
+     * @param index  the index of the bucket to empty
+     * @param target the map that receives the entries
+     */
+    protected abstract void transferBucket(int index, AbstractHashMap<K, V> target);
+
     /**
      * Returns the value associated with the given key in the bucket with the given
      * hash function
@@ -170,4 +636,112 @@ public abstract class AbstractHashMap<K, V> extends AbstractMap<K, V> {
      *         table
      */
     protected abstract V bucketRemove(int hash, K key);
-}
\ No newline at end of file
+
+    /**
+     * Defines the behaviors of a CompressionStrategy, which maps hash codes to
+     * bucket indexes and decides which table capacities are used
+     * 
+     * @author Maggie Lin
+     *
+     */
+    public interface CompressionStrategy {
+
+        /**
+         * Returns the index of the bucket for the given hash code
+         * 
+         * @param hashCode the hash code of a key
+         * @param map      the map whose random values and capacity are used
+         * @return the index of the bucket, from 0 to the map's capacity - 1
+         */
+        int compress(int hashCode, AbstractHashMap<?, ?> map);
+
+        /**
+         * Returns the capacity to use for a table that should hold at least the
+         * given capacity
+         * 
+         * @param capacity the requested capacity
+         * @return the capacity supported by the strategy
+         */
+        int tableCapacity(int capacity);
+
+        /**
+         * Returns the capacity of the table that replaces a full table
+         * 
+         * @param capacity the capacity of the full table
+         * @return the capacity of the new, larger table
+         */
+        int nextCapacity(int capacity);
+    }
+
+    /**
+     * MADCompression uses the multiply-and-divide method with a prime modulus
+     * 
+     * @author Maggie Lin
+     *
+     */
+    private static class MADCompression implements CompressionStrategy {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compress(int hashCode, AbstractHashMap<?, ?> map) {
+            return (int) ((Math.abs(hashCode * map.alpha + map.beta) % map.prime) % map.capacity());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int tableCapacity(int capacity) {
+            return Math.max(capacity, 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int nextCapacity(int capacity) {
+            return 2 * capacity + 1;
+        }
+    }
+
+    /**
+     * MixingCompression uses multiplicative hashing for power-of-two capacities:
+     * the top log2(capacity) bits of the hash code times a random odd seed
+     * 
+     * @author Maggie Lin
+     *
+     */
+    private static class MixingCompression implements CompressionStrategy {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compress(int hashCode, AbstractHashMap<?, ?> map) {
+            long mixed = (hashCode & 0xFFFFFFFFL) * map.seed;
+            // The capacity is at least 2, so the shift is less than 64
+            return (int) (mixed >>> (Long.SIZE - Integer.numberOfTrailingZeros(map.capacity())));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int tableCapacity(int capacity) {
+            if (capacity <= 2) {
+                return 2;
+            }
+            return Integer.highestOneBit(capacity - 1) << 1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int nextCapacity(int capacity) {
+            return 2 * capacity;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+/**
+ * A skeletal implementation of a hash map with primitive keys that is
+ * implemented as a hash table that uses linear probing for collision
+ * resolution. Subclasses store keys and values in parallel primitive or object
+ * arrays and supply the hashing and equality of their key type; this class
+ * tracks which slots are used and implements probing, removal, and resizing
+ * for them.
+ *
+ * Removal moves later entries of the probe sequence back into the emptied slot
+ * instead of leaving a tombstone, so probe sequences do not grow under repeated
+ * puts and removes. During an incremental resize, each bucket of the old table
+ * is emptied the same way as it is moved, so every slot before the next bucket
+ * to move is empty and the probe sequences of the entries that have not moved
+ * stay intact.
+ *
+ * @author Maggie Lin
+ *
+ * @param <K> the boxed type of keys stored in the hash map
+ * @param <V> the boxed type of values associated with keys in the hash map
+ */
+abstract class AbstractPrimitiveHashMap<K, V> extends AbstractHashMap<K, V> {
+
+	/** Whether each slot of the hash table holds an entry */
+	private boolean[] used;
+
+	/** Size of the Hash Table */
+	private int size;
+
+	/**
+	 * Constructs a new primitive-keyed hash map with the given capacity
+	 *
+	 * @param capacity  the initial capacity of the hash table
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	AbstractPrimitiveHashMap(int capacity, boolean isTesting) {
+		super(capacity, isTesting);
+	}
+
+	/**
+	 * Constructs a primitive-keyed hash map that shares the hash function of the
+	 * given map. The caller must assign the table.
+	 *
+	 * @param other the map whose hash function is shared
+	 */
+	AbstractPrimitiveHashMap(AbstractPrimitiveHashMap<K, V> other) {
+		super(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterable<Entry<K, V>> entrySet() {
+		finishResize();
+		EntryCollection collection = new EntryCollection();
+		for (int i = 0; i < used.length; i++) {
+			if (used[i]) {
+				collection.add(entryAt(i));
+			}
+		}
+		return collection;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void createTable(int capacity) {
+		used = new boolean[capacity];
+		size = 0;
+		createSlots(capacity);
+	}
+
+	/**
+	 * Returns true if the slot at the given index holds an entry
+	 *
+	 * @param index the index of a slot
+	 * @return true if the slot holds an entry
+	 */
+	protected boolean isUsed(int index) {
+		return used[index];
+	}
+
+	/**
+	 * Marks the first empty slot of the probe sequence that starts at the given
+	 * bucket as used. The caller must store the entry in the returned slot.
+	 *
+	 * @param hash the index of the bucket selected by the key's hash function
+	 * @return the index of the slot in which to store the entry
+	 */
+	protected int claimSlot(int hash) {
+		int idx = hash;
+		while (used[idx]) {
+			idx = next(idx);
+		}
+		used[idx] = true;
+		size++;
+		return idx;
+	}
+
+	/**
+	 * Empties the slot at the given index. Every later entry of the probe
+	 * sequence whose bucket is not between the emptied slot and its own slot is
+	 * moved back into the emptied slot, which then moves to the entry's old slot.
+	 *
+	 * @param index the index of the slot to empty
+	 */
+	protected void removeSlot(int index) {
+		int gap = index;
+		int idx = next(gap);
+		while (used[idx]) {
+			int home = compressHash(slotHashCode(idx));
+			boolean between = gap <= idx ? gap < home && home <= idx : gap < home || home <= idx;
+			if (!between) {
+				moveSlot(idx, gap);
+				gap = idx;
+			}
+			idx = next(idx);
+		}
+		clearSlot(gap);
+		used[gap] = false;
+		size--;
+	}
+
+	/**
+	 * Returns the index of the slot after the given slot, wrapping around to the
+	 * start of the table
+	 *
+	 * @param index the index of a slot
+	 * @return the index of the following slot
+	 */
+	protected int next(int index) {
+		return index + 1 == used.length ? 0 : index + 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size + migratingSize();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int capacity() {
+		return used.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+		AbstractPrimitiveHashMap<K, V> old = detachSlots();
+		old.used = used;
+		old.size = size;
+		createTable(newCapacity);
+		return old;
+	}
+
+	/**
+	 * {@inheritDoc} The bucket is emptied as its entry moves, and any entry that
+	 * the removal moves back into it is moved as well, so the slot is empty when
+	 * the next bucket is moved.
+	 */
+	@Override
+	protected void transferBucket(int index, AbstractHashMap<K, V> target) {
+		// Nothing is boxed, since the slots are copied directly
+		AbstractPrimitiveHashMap<K, V> map = (AbstractPrimitiveHashMap<K, V>) target;
+		while (used[index]) {
+			copySlot(index, map, map.claimSlot(map.compressHash(slotHashCode(index))));
+			removeSlot(index);
+		}
+	}
+
+	/**
+	 * Creates new key and value arrays with the given capacity
+	 *
+	 * @param capacity the capacity of the new arrays
+	 */
+	protected abstract void createSlots(int capacity);
+
+	/**
+	 * Returns the hash code of the key in the slot at the given index
+	 *
+	 * @param index the index of a used slot
+	 * @return the hash code of the slot's key
+	 */
+	protected abstract int slotHashCode(int index);
+
+	/**
+	 * Returns a new entry with the key and value in the slot at the given index
+	 *
+	 * @param index the index of a used slot
+	 * @return an entry with the slot's boxed key and value
+	 */
+	protected abstract Entry<K, V> entryAt(int index);
+
+	/**
+	 * Copies the key and value in one slot to another slot of this table
+	 *
+	 * @param from the index of the slot to copy
+	 * @param to   the index of the slot that receives the key and value
+	 */
+	protected abstract void moveSlot(int from, int to);
+
+	/**
+	 * Copies the key and value in a slot of this table to a slot of the target
+	 * map, which is of the same type
+	 *
+	 * @param index       the index of the slot to copy
+	 * @param target      the map that receives the key and value
+	 * @param targetIndex the index of the target slot
+	 */
+	protected abstract void copySlot(int index, AbstractPrimitiveHashMap<K, V> target, int targetIndex);
+
+	/**
+	 * Releases any object held by the slot at the given index, which is being
+	 * emptied
+	 *
+	 * @param index the index of the slot
+	 */
+	protected abstract void clearSlot(int index);
+
+	/**
+	 * Returns a new map of the same type that shares this map's hash function and
+	 * holds this map's key and value arrays. Used slots and the size are assigned
+	 * by the caller.
+	 *
+	 * @return a map that holds the key and value arrays
+	 */
+	protected abstract AbstractPrimitiveHashMap<K, V> detachSlots();
+}
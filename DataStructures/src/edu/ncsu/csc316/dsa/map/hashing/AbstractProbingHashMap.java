@@ -0,0 +1,141 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+/**
+ * A skeletal implementation of a hash map that is implemented as a hash table
+ * that uses linear probing for collision resolution, where removed entries
+ * leave deleted slots behind so that probes continue past them. Subclasses
+ * decide how slots are stored; this class implements the probe sequence and
+ * decides when deleted slots are cleaned up.
+ *
+ * Deleted slots lengthen probes just like live entries, so they count toward
+ * the load factor. When live and deleted slots together fill more than the
+ * maximum load factor, the table grows if the live entries alone fill more than
+ * half of the allowed load, and is otherwise compacted at the same capacity, so
+ * a map under steady put and remove churn keeps short probes without growing.
+ *
+ * @author Maggie Lin
+ *
+ * @param <K> the type of keys stored in the hash map
+ * @param <V> the type of values associated with keys in the hash map
+ */
+abstract class AbstractProbingHashMap<K, V> extends AbstractHashMap<K, V> {
+
+	/**
+	 * Constructs a new linear probing hash map with the given capacity
+	 *
+	 * @param capacity  the initial capacity of the hash table
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	AbstractProbingHashMap(int capacity, boolean isTesting) {
+		super(capacity, isTesting);
+	}
+
+	/**
+	 * Constructs a new linear probing hash map with random hash function values
+	 * and the given compression strategy. The subclass must create or open a
+	 * table.
+	 *
+	 * @param strategy the compression strategy to use
+	 */
+	AbstractProbingHashMap(CompressionStrategy strategy) {
+		super(strategy);
+	}
+
+	/**
+	 * Constructs a linear probing hash map that shares the hash function of the
+	 * given map. The caller must assign the table.
+	 *
+	 * @param other the map whose hash function is shared
+	 */
+	AbstractProbingHashMap(AbstractProbingHashMap<K, V> other) {
+		super(other);
+	}
+
+	/**
+	 * Returns a number that represents the index at which the key is located at
+	 *
+	 * @param index the index in the Hash Table
+	 * @param key   the key of the entry to locate
+	 * @return the index of the bucket that contains the entry(if it exist) or a
+	 *         number which represent the index where the entry should be stored
+	 */
+	protected int findBucket(int index, K key) {
+		int avail = -1;
+		int idx = index;
+		do {
+			if (isAvailable(idx)) {
+				if (avail == -1) {
+					avail = idx;
+				}
+				if (isEmptySlot(idx)) {
+					return -(avail + 1);
+				}
+			} else if (keyAt(idx).equals(key)) {
+				return idx;
+			}
+			idx = (idx + 1) % capacity();
+		} while (idx != index);
+		return -(avail + 1);
+	}
+
+	/**
+	 * {@inheritDoc} Deleted slots count toward the load factor, because probes
+	 * pass over them just like live entries. If the live entries alone fill no
+	 * more than half of the allowed load, the table is compacted at the same
+	 * capacity instead of growing.
+	 */
+	@Override
+	protected void checkLoadFactor() {
+		double maxLoad = maxLoadFactor();
+		if ((double) (size() + deletedSlots()) / capacity() <= maxLoad) {
+			return;
+		}
+		if (isResizing() || (double) size() / capacity() > maxLoad / 2) {
+			grow();
+		} else {
+			compact();
+		}
+	}
+
+	/**
+	 * Removes every deleted slot from the hash table without changing its
+	 * capacity. Any incremental resize is finished first.
+	 */
+	public abstract void compact();
+
+	/**
+	 * Returns the number of slots of the current table that hold deleted entries
+	 *
+	 * @return the number of deleted slots
+	 */
+	protected abstract int deletedSlots();
+
+	/**
+	 * Returns true if the Hash table slot at the given index is free for a new
+	 * entry
+	 *
+	 * @param index the index of the hash table we are looking at to see if it is
+	 *              free
+	 * @return true if the table slot at the given index is available for a new
+	 *         entry
+	 */
+	protected abstract boolean isAvailable(int index);
+
+	/**
+	 * Returns true if the slot at the given index has never held an entry, so
+	 * that probes stop there
+	 *
+	 * @param index the index of a slot
+	 * @return true if the slot is empty
+	 */
+	protected abstract boolean isEmptySlot(int index);
+
+	/**
+	 * Returns the key of the live entry in the slot at the given index
+	 *
+	 * @param index the index of a slot that holds a live entry
+	 * @return the key in the slot
+	 */
+	protected abstract K keyAt(int index);
+}
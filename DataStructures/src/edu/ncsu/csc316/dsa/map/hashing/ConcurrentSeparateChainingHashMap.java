@@ -0,0 +1,534 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import edu.ncsu.csc316.dsa.map.AbstractMap;
+import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.search_tree.AVLTreeMap;
+
+/**
+ * The ConcurrentSeparateChainingHashMap is a thread-safe hash map that uses
+ * separate chaining for collision resolution, so that many threads can load
+ * and read the map at the same time without a global lock.
+ *
+ * The map is split into segments ("lock striping"). Each key belongs to one
+ * segment, chosen by the high bits of its hash, and each segment is a separate
+ * hash table with its own lock. Threads that put or remove keys in different
+ * segments never wait for each other, and each segment resizes on its own
+ * while the rest of the map stays available.
+ *
+ * Buckets hold chains of nodes whose links never change once a node is
+ * published; puts add a node at the front of a chain and removes copy the
+ * nodes in front of the removed node. Gets therefore never lock: they read the
+ * current table and walk the chain, seeing either the state before or after
+ * any concurrent update. A resize builds a new table from copies of the nodes
+ * and then publishes it, so readers can keep using the old table until then.
+ *
+ * When a chain grows past {@link #TREEIFY_THRESHOLD} entries (for example,
+ * because many keys share a hash code), the bucket is converted to an
+ * {@link AVLTreeMap} for worst-case O(logn) operations. Reads of these
+ * tree buckets take the segment lock. The bucket turns back into a chain when
+ * it shrinks to {@link #UNTREEIFY_THRESHOLD} entries.
+ *
+ * Keys are hashed by multiplying their hash codes by a random odd 64-bit seed.
+ * Null keys and values are not allowed. The size and entrySet reflect each
+ * segment at some moment during the call, and do not block other threads for
+ * longer than it takes to copy one segment.
+ *
+ * @author Maggie Lin
+ *
+ * @param <K> the type of keys stored in the hash map
+ * @param <V> the type of values associated with keys in the hash map
+ */
+public class ConcurrentSeparateChainingHashMap<K extends Comparable<K>, V> extends AbstractMap<K, V> {
+
+	/** The default total initial capacity of the segment tables */
+	private static final int DEFAULT_CAPACITY = 64;
+
+	/** The default number of segments */
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+	/** The maximum load factor of a segment before its table is resized */
+	private static final double MAX_LOAD_FACTOR = 0.75;
+
+	/** Chains longer than this number of entries are converted to trees */
+	static final int TREEIFY_THRESHOLD = 8;
+
+	/** Trees with this number of entries or fewer are converted to chains */
+	static final int UNTREEIFY_THRESHOLD = 6;
+
+	/** The segments of the map, each with its own table and lock */
+	private final Segment[] segments;
+
+	/** The number of low bits of a hash that are not used to pick a segment */
+	private final int segmentShift;
+
+	/** The mask applied to the shifted hash to pick a segment */
+	private final int segmentMask;
+
+	/** Random odd multiplier used to hash keys */
+	private final long seed;
+
+	/**
+	 * Constructs a new concurrent hash map with the default capacity and 16
+	 * segments
+	 */
+	public ConcurrentSeparateChainingHashMap() {
+		this(DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * Constructs a new concurrent hash map with the given total initial capacity
+	 * and 16 segments
+	 *
+	 * @param capacity the total initial capacity of the hash tables
+	 */
+	public ConcurrentSeparateChainingHashMap(int capacity) {
+		this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * Constructs a new concurrent hash map with the given total initial capacity.
+	 * The number of segments is the concurrency level rounded up to a power of
+	 * two; about that many threads can update the map without waiting.
+	 *
+	 * @param capacity         the total initial capacity of the hash tables
+	 * @param concurrencyLevel the expected number of threads updating the map
+	 */
+	public ConcurrentSeparateChainingHashMap(int capacity, int concurrencyLevel) {
+		if (capacity < 0 || concurrencyLevel < 1) {
+			throw new IllegalArgumentException("Capacity cannot be negative and concurrency level must be positive.");
+		}
+		int segmentBits = 32 - Integer.numberOfLeadingZeros(Math.min(concurrencyLevel, 1 << 16) - 1);
+		segmentShift = 32 - segmentBits;
+		segmentMask = (1 << segmentBits) - 1;
+		seed = new Random().nextLong() | 1;
+		segments = newSegmentArray(1 << segmentBits);
+		int segmentCapacity = Math.max(2, Integer.highestOneBit(Math.max(1, capacity >> segmentBits) * 2 - 1));
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = new Segment(segmentCapacity);
+		}
+	}
+
+	/**
+	 * Returns a new array of segments
+	 *
+	 * @param length the length of the array
+	 * @return the new array
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Segment[] newSegmentArray(int length) {
+		return (Segment[]) new ConcurrentSeparateChainingHashMap.Segment[length];
+	}
+
+	/**
+	 * Returns the hash of the given key
+	 *
+	 * @param key the key to hash
+	 * @return the hash of the key
+	 */
+	private int hash(K key) {
+		return (int) (((key.hashCode() & 0xFFFFFFFFL) * seed) >>> 32);
+	}
+
+	/**
+	 * Returns the segment that holds keys with the given hash
+	 *
+	 * @param hash the hash of a key
+	 * @return the segment for the hash
+	 */
+	private Segment segmentFor(int hash) {
+		return segments[(hash >>> segmentShift) & segmentMask];
+	}
+
+	/**
+	 * Throws an exception if the given key is null
+	 *
+	 * @param key the key to check
+	 */
+	private static void checkKey(Object key) {
+		if (key == null) {
+			throw new IllegalArgumentException("Null keys are not allowed.");
+		}
+	}
+
+	/**
+	 * Throws an exception if the given key or value is null
+	 *
+	 * @param key   the key to check
+	 * @param value the value to check
+	 */
+	private static void checkNotNull(Object key, Object value) {
+		if (key == null || value == null) {
+			throw new IllegalArgumentException("Null keys and values are not allowed.");
+		}
+	}
+
+	/**
+	 * {@inheritDoc} This method does not lock unless the key's bucket is a tree.
+	 */
+	@Override
+	public V get(K key) {
+		checkKey(key);
+		int hash = hash(key);
+		return segmentFor(hash).get(hash, key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V put(K key, V value) {
+		checkNotNull(key, value);
+		int hash = hash(key);
+		return segmentFor(hash).put(hash, key, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V remove(K key) {
+		checkKey(key);
+		int hash = hash(key);
+		return segmentFor(hash).remove(hash, key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.count;
+		}
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterable<Entry<K, V>> entrySet() {
+		EntryCollection collection = new EntryCollection();
+		for (Segment segment : segments) {
+			segment.lock();
+			try {
+				AtomicReferenceArray<Object> table = segment.table;
+				for (int i = 0; i < table.length(); i++) {
+					Object bin = table.get(i);
+					if (bin instanceof TreeBin) {
+						for (Entry<K, V> entry : treeBin(bin).tree.entrySet()) {
+							collection.add(new MapEntry<K, V>(entry.getKey(), entry.getValue()));
+						}
+					} else {
+						for (Node<K, V> node = chain(bin); node != null; node = node.next) {
+							collection.add(new MapEntry<K, V>(node.key, node.value));
+						}
+					}
+				}
+			} finally {
+				segment.unlock();
+			}
+		}
+		return collection;
+	}
+
+	/**
+	 * Returns the given bucket as a chain
+	 *
+	 * @param bin the bucket, which holds a chain or is empty
+	 * @return the first node of the chain, or null
+	 */
+	@SuppressWarnings("unchecked")
+	private Node<K, V> chain(Object bin) {
+		return (Node<K, V>) bin;
+	}
+
+	/**
+	 * Returns the given bucket as a tree
+	 *
+	 * @param bin the bucket, which holds a tree
+	 * @return the tree bucket
+	 */
+	@SuppressWarnings("unchecked")
+	private TreeBin<K, V> treeBin(Object bin) {
+		return (TreeBin<K, V>) bin;
+	}
+
+	/**
+	 * Segment is an independently locked and resized hash table that holds the
+	 * keys whose hashes select it
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private class Segment extends ReentrantLock {
+
+		/** The serialization version of the lock */
+		private static final long serialVersionUID = 1L;
+
+		/** The buckets; each holds null, a chain of Nodes, or a TreeBin */
+		private volatile AtomicReferenceArray<Object> table;
+
+		/** The number of entries in the segment */
+		private volatile int count;
+
+		/**
+		 * Constructs an empty segment with the given power-of-two capacity
+		 *
+		 * @param capacity the initial capacity of the segment's table
+		 */
+		Segment(int capacity) {
+			table = new AtomicReferenceArray<Object>(capacity);
+		}
+
+		/**
+		 * Returns the value associated with the key, locking only if the key's
+		 * bucket is a tree
+		 *
+		 * @param hash the hash of the key
+		 * @param key  the key
+		 * @return the value associated with the key, or null
+		 */
+		V get(int hash, K key) {
+			AtomicReferenceArray<Object> tab = table;
+			Object bin = tab.get(hash & (tab.length() - 1));
+			if (bin instanceof TreeBin) {
+				lock();
+				try {
+					// Read the bucket again in case the table was resized
+					tab = table;
+					bin = tab.get(hash & (tab.length() - 1));
+					if (bin instanceof TreeBin) {
+						return treeBin(bin).tree.get(key);
+					}
+				} finally {
+					unlock();
+				}
+			}
+			for (Node<K, V> node = chain(bin); node != null; node = node.next) {
+				if (node.hash == hash && node.key.equals(key)) {
+					return node.value;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Adds or updates the entry with the given key
+		 *
+		 * @param hash  the hash of the key
+		 * @param key   the key
+		 * @param value the value
+		 * @return the original value of the entry, or null
+		 */
+		V put(int hash, K key, V value) {
+			lock();
+			try {
+				AtomicReferenceArray<Object> tab = table;
+				int index = hash & (tab.length() - 1);
+				Object bin = tab.get(index);
+				if (bin instanceof TreeBin) {
+					Map<K, V> tree = treeBin(bin).tree;
+					int oldSize = tree.size();
+					V answer = tree.put(key, value);
+					count += tree.size() - oldSize;
+					return answer;
+				}
+				int length = 0;
+				for (Node<K, V> node = chain(bin); node != null; node = node.next) {
+					if (node.hash == hash && node.key.equals(key)) {
+						V answer = node.value;
+						node.value = value;
+						return answer;
+					}
+					length++;
+				}
+				Node<K, V> first = new Node<K, V>(hash, key, value, chain(bin));
+				tab.set(index, length + 1 > TREEIFY_THRESHOLD ? treeify(first) : first);
+				count++;
+				if (count > MAX_LOAD_FACTOR * tab.length()) {
+					rehash();
+				}
+				return null;
+			} finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * Removes the entry with the given key
+		 *
+		 * @param hash the hash of the key
+		 * @param key  the key
+		 * @return the value of the removed entry, or null
+		 */
+		V remove(int hash, K key) {
+			lock();
+			try {
+				AtomicReferenceArray<Object> tab = table;
+				int index = hash & (tab.length() - 1);
+				Object bin = tab.get(index);
+				if (bin instanceof TreeBin) {
+					Map<K, V> tree = treeBin(bin).tree;
+					int oldSize = tree.size();
+					V answer = tree.remove(key);
+					count -= oldSize - tree.size();
+					if (tree.size() <= UNTREEIFY_THRESHOLD) {
+						tab.set(index, untreeify(tree));
+					}
+					return answer;
+				}
+				Node<K, V> first = chain(bin);
+				Node<K, V> target = first;
+				while (target != null && !(target.hash == hash && target.key.equals(key))) {
+					target = target.next;
+				}
+				if (target == null) {
+					return null;
+				}
+				// Links never change, so copy the nodes in front of the target
+				Node<K, V> newFirst = target.next;
+				for (Node<K, V> node = first; node != target; node = node.next) {
+					newFirst = new Node<K, V>(node.hash, node.key, node.value, newFirst);
+				}
+				tab.set(index, newFirst);
+				count--;
+				return target.value;
+			} finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * Builds a table with twice the capacity from copies of the entries and
+		 * publishes it. The caller holds the lock.
+		 */
+		private void rehash() {
+			AtomicReferenceArray<Object> oldTable = table;
+			AtomicReferenceArray<Object> newTable = new AtomicReferenceArray<Object>(oldTable.length() * 2);
+			for (int i = 0; i < oldTable.length(); i++) {
+				Object bin = oldTable.get(i);
+				if (bin instanceof TreeBin) {
+					for (Entry<K, V> entry : treeBin(bin).tree.entrySet()) {
+						insert(newTable, hash(entry.getKey()), entry.getKey(), entry.getValue());
+					}
+				} else {
+					for (Node<K, V> node = chain(bin); node != null; node = node.next) {
+						insert(newTable, node.hash, node.key, node.value);
+					}
+				}
+			}
+			table = newTable;
+		}
+
+		/**
+		 * Adds an entry whose key is not yet in the given unpublished table
+		 *
+		 * @param tab   the table
+		 * @param hash  the hash of the key
+		 * @param key   the key
+		 * @param value the value
+		 */
+		private void insert(AtomicReferenceArray<Object> tab, int hash, K key, V value) {
+			int index = hash & (tab.length() - 1);
+			Object bin = tab.get(index);
+			if (bin instanceof TreeBin) {
+				treeBin(bin).tree.put(key, value);
+				return;
+			}
+			int length = 0;
+			for (Node<K, V> node = chain(bin); node != null; node = node.next) {
+				length++;
+			}
+			Node<K, V> first = new Node<K, V>(hash, key, value, chain(bin));
+			tab.lazySet(index, length + 1 > TREEIFY_THRESHOLD ? treeify(first) : first);
+		}
+
+		/**
+		 * Returns a tree bucket that holds the entries of the given chain
+		 *
+		 * @param first the first node of the chain
+		 * @return the tree bucket
+		 */
+		private TreeBin<K, V> treeify(Node<K, V> first) {
+			TreeBin<K, V> bin = new TreeBin<K, V>();
+			for (Node<K, V> node = first; node != null; node = node.next) {
+				bin.tree.put(node.key, node.value);
+			}
+			return bin;
+		}
+
+		/**
+		 * Returns a chain that holds the entries of the given tree
+		 *
+		 * @param tree the tree of a bucket
+		 * @return the first node of the chain, or null if the tree is empty
+		 */
+		private Node<K, V> untreeify(Map<K, V> tree) {
+			Node<K, V> first = null;
+			for (Entry<K, V> entry : tree.entrySet()) {
+				first = new Node<K, V>(hash(entry.getKey()), entry.getKey(), entry.getValue(), first);
+			}
+			return first;
+		}
+	}
+
+	/**
+	 * Node is an entry of a bucket's chain. The key, hash, and link are fixed
+	 * once the node is created, so a chain can be read without locking.
+	 *
+	 * @author Maggie Lin
+	 *
+	 * @param <K> the type of the key
+	 * @param <V> the type of the value
+	 */
+	private static final class Node<K, V> {
+
+		/** The hash of the key */
+		private final int hash;
+
+		/** The key of the entry */
+		private final K key;
+
+		/** The value of the entry, which may be replaced by a put */
+		private volatile V value;
+
+		/** The next node of the chain */
+		private final Node<K, V> next;
+
+		/**
+		 * Constructs a node
+		 *
+		 * @param hash  the hash of the key
+		 * @param key   the key
+		 * @param value the value
+		 * @param next  the next node of the chain
+		 */
+		Node(int hash, K key, V value, Node<K, V> next) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+			this.next = next;
+		}
+	}
+
+	/**
+	 * TreeBin is a bucket whose entries are held in an AVL tree because too many
+	 * keys collided. It is read and written only while holding the segment lock.
+	 *
+	 * @author Maggie Lin
+	 *
+	 * @param <K> the type of the keys
+	 * @param <V> the type of the values
+	 */
+	private static final class TreeBin<K extends Comparable<K>, V> {
+
+		/** The entries of the bucket */
+		private final Map<K, V> tree = new AVLTreeMap<K, V>();
+	}
+}
@@ -0,0 +1,466 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * The CuckooHashMap is implemented as a bucketized cuckoo hash table, which
+ * bounds the work of every lookup.
+ *
+ * Each bucket has four slots. A key may only be stored in one of two buckets:
+ * the bucket chosen by the map's compression strategy, and the bucket chosen
+ * by the same strategy after the key's hash code is scrambled. A get therefore
+ * inspects at most eight slots, no matter how full the table is. The hash codes
+ * of the slots in a bucket are stored next to each other in an int array, so a
+ * get reads the hash codes of at most two buckets and only compares keys whose
+ * hash codes match.
+ *
+ * When both buckets of a new key are full, the key takes a slot in one of them
+ * and the entry it displaces moves to its own other bucket, possibly displacing
+ * another entry, and so on. If this does not end within
+ * {@link #MAX_DISPLACEMENTS} moves, the entry that is left over is kept in a
+ * small stash that every lookup also checks. A stash with more than
+ * {@link #STASH_SIZE} entries causes the table to grow.
+ *
+ * The hash map ensures worst-case O(1) performance of (@link Map#get) and
+ * (@link Map#remove) apart from the stash, and expected O(1) performance of
+ * (@link Map#put). The hash table resizes if more than 90% of its slots are
+ * full.
+ *
+ * @author Maggie Lin
+ *
+ * @param <K> the type of keys stored in the hash map
+ * @param <V> the type of values associated with keys in the hash map
+ */
+public class CuckooHashMap<K, V> extends AbstractHashMap<K, V> {
+
+	/** The number of slots in each bucket */
+	static final int SLOTS = 4;
+
+	/** The number of stashed entries allowed before the table grows */
+	static final int STASH_SIZE = 4;
+
+	/** The number of entries displaced by a put before an entry is stashed */
+	static final int MAX_DISPLACEMENTS = 100;
+
+	/** The maximum fraction of slots that may be full before resizing */
+	private static final double MAX_LOAD_FACTOR = 0.9;
+
+	/** The hash code of the key in each slot; slot i belongs to bucket i / 4 */
+	private int[] hashCodes;
+
+	/** The key in each slot, or null if the slot is empty */
+	private K[] keys;
+
+	/** The value in each slot */
+	private V[] values;
+
+	/** The keys of the stashed entries */
+	private K[] stashKeys;
+
+	/** The values of the stashed entries */
+	private V[] stashValues;
+
+	/** The number of stashed entries */
+	private int stashSize;
+
+	/** Size of the Hash Table */
+	private int size;
+
+	/**
+	 * Constructs a new cuckoo hash map. The created hash table uses the
+	 * {@link AbstractHashMap#DEFAULT_CAPACITY} number of buckets
+	 */
+	public CuckooHashMap() {
+		this(AbstractHashMap.DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * FOR TESTING PURPOSES ONLY! Constructs a new cuckoo hash map. The created
+	 * hash table uses the {@link AbstractHashMap#DEFAULT_CAPACITY} number of
+	 * buckets
+	 *
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	public CuckooHashMap(boolean isTesting) {
+		this(AbstractHashMap.DEFAULT_CAPACITY, isTesting);
+	}
+
+	/**
+	 * Constructs a new cuckoo hash map. The created hash table is initialized to
+	 * have the provided number of buckets.
+	 *
+	 * @param capacity the initial number of buckets of the hash table
+	 */
+	public CuckooHashMap(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * FOR TESTING PURPOSES ONLY! Constructs a new cuckoo hash map. The created
+	 * hash table is initialized to have the provided number of buckets.
+	 *
+	 * @param capacity  the initial number of buckets of the hash table
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	public CuckooHashMap(int capacity, boolean isTesting) {
+		super(capacity, isTesting);
+	}
+
+	/**
+	 * Constructs a cuckoo hash map that shares the hash function of the given map.
+	 * The caller must assign the table.
+	 *
+	 * @param other the map whose hash function is shared
+	 */
+	private CuckooHashMap(CuckooHashMap<K, V> other) {
+		super(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterable<Entry<K, V>> entrySet() {
+		finishResize();
+		EntryCollection collection = new EntryCollection();
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != null) {
+				collection.add(new MapEntry<K, V>(keys[i], values[i]));
+			}
+		}
+		for (int i = 0; i < stashSize; i++) {
+			collection.add(new MapEntry<K, V>(stashKeys[i], stashValues[i]));
+		}
+		return collection;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		finishResize();
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != null) {
+				action.accept(keys[i], values[i]);
+			}
+		}
+		for (int i = 0; i < stashSize; i++) {
+			action.accept(stashKeys[i], stashValues[i]);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void createTable(int capacity) {
+		hashCodes = new int[capacity * SLOTS];
+		keys = (K[]) new Object[capacity * SLOTS];
+		values = (V[]) new Object[capacity * SLOTS];
+		stashKeys = (K[]) new Object[STASH_SIZE];
+		stashValues = (V[]) new Object[STASH_SIZE];
+		stashSize = 0;
+		size = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketGet(int hash, K key) {
+		int hashCode = key.hashCode();
+		int idx = findSlot(hash, hashCode, key);
+		if (idx < 0) {
+			idx = findSlot(alternateHash(hashCode), hashCode, key);
+		}
+		if (idx >= 0) {
+			return values[idx];
+		}
+		idx = findStashed(key);
+		return idx < 0 ? null : stashValues[idx];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketPut(int hash, K key, V value) {
+		int hashCode = key.hashCode();
+		int alternate = alternateHash(hashCode);
+		int idx = findSlot(hash, hashCode, key);
+		if (idx < 0) {
+			idx = findSlot(alternate, hashCode, key);
+		}
+		if (idx >= 0) {
+			V answer = values[idx];
+			values[idx] = value;
+			return answer;
+		}
+		idx = findStashed(key);
+		if (idx >= 0) {
+			V answer = stashValues[idx];
+			stashValues[idx] = value;
+			return answer;
+		}
+		size++;
+		idx = findEmpty(hash);
+		if (idx < 0) {
+			idx = findEmpty(alternate);
+		}
+		if (idx >= 0) {
+			setSlot(idx, hashCode, key, value);
+			return null;
+		}
+		displace(hash, hashCode, key, value);
+		return null;
+	}
+
+	/**
+	 * Places an entry whose two buckets are full by displacing entries into their
+	 * other buckets. The entry left over after {@link #MAX_DISPLACEMENTS} moves
+	 * is stashed.
+	 *
+	 * @param bucket   the index of a full bucket of the entry
+	 * @param hashCode the hash code of the entry's key
+	 * @param key      the key of the entry
+	 * @param value    the value of the entry
+	 */
+	private void displace(int bucket, int hashCode, K key, V value) {
+		int carryHashCode = hashCode;
+		K carryKey = key;
+		V carryValue = value;
+		for (int moves = 0; moves < MAX_DISPLACEMENTS; moves++) {
+			// Rotate through the slots so that a cycle of entries is not repeated
+			int idx = bucket * SLOTS + moves % SLOTS;
+			int tempHashCode = hashCodes[idx];
+			K tempKey = keys[idx];
+			V tempValue = values[idx];
+			setSlot(idx, carryHashCode, carryKey, carryValue);
+			carryHashCode = tempHashCode;
+			carryKey = tempKey;
+			carryValue = tempValue;
+
+			int primary = compressHash(carryHashCode);
+			bucket = primary == bucket ? alternateHash(carryHashCode) : primary;
+			int empty = findEmpty(bucket);
+			if (empty >= 0) {
+				setSlot(empty, carryHashCode, carryKey, carryValue);
+				return;
+			}
+		}
+		if (stashSize == stashKeys.length) {
+			stashKeys = Arrays.copyOf(stashKeys, stashSize * 2);
+			stashValues = Arrays.copyOf(stashValues, stashSize * 2);
+		}
+		stashKeys[stashSize] = carryKey;
+		stashValues[stashSize] = carryValue;
+		stashSize++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketRemove(int hash, K key) {
+		int hashCode = key.hashCode();
+		int idx = findSlot(hash, hashCode, key);
+		if (idx < 0) {
+			idx = findSlot(alternateHash(hashCode), hashCode, key);
+		}
+		if (idx >= 0) {
+			V answer = values[idx];
+			keys[idx] = null;
+			values[idx] = null;
+			size--;
+			return answer;
+		}
+		idx = findStashed(key);
+		if (idx < 0) {
+			return null;
+		}
+		V answer = stashValues[idx];
+		removeStashed(idx);
+		size--;
+		return answer;
+	}
+
+	/**
+	 * Returns the index of the bucket that a key may be stored in besides the
+	 * bucket chosen by the compression strategy. The hash code is scrambled with
+	 * a fixed multiplier and shift and then compressed, so the second bucket uses
+	 * the same alpha, beta, and seed as the first.
+	 *
+	 * @param hashCode the hash code of the key
+	 * @return the index of the key's second bucket
+	 */
+	private int alternateHash(int hashCode) {
+		int scrambled = hashCode * 0x85EBCA6B;
+		return compressHash(scrambled ^ (scrambled >>> 13));
+	}
+
+	/**
+	 * Returns the index of the slot of the given bucket that holds the given key
+	 *
+	 * @param bucket   the index of the bucket
+	 * @param hashCode the hash code of the key
+	 * @param key      the key of the entry to locate
+	 * @return the index of the slot that holds the key, or -1 if the key is not
+	 *         in the bucket
+	 */
+	private int findSlot(int bucket, int hashCode, K key) {
+		int first = bucket * SLOTS;
+		for (int idx = first; idx < first + SLOTS; idx++) {
+			if (hashCodes[idx] == hashCode && keys[idx] != null && keys[idx].equals(key)) {
+				return idx;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of an empty slot of the given bucket
+	 *
+	 * @param bucket the index of the bucket
+	 * @return the index of an empty slot, or -1 if the bucket is full
+	 */
+	private int findEmpty(int bucket) {
+		int first = bucket * SLOTS;
+		for (int idx = first; idx < first + SLOTS; idx++) {
+			if (keys[idx] == null) {
+				return idx;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the given key in the stash
+	 *
+	 * @param key the key of the entry to locate
+	 * @return the index of the key in the stash, or -1 if it is not stashed
+	 */
+	private int findStashed(K key) {
+		for (int i = 0; i < stashSize; i++) {
+			if (stashKeys[i].equals(key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Removes the stashed entry at the given index by moving the last stashed
+	 * entry into its place
+	 *
+	 * @param index the index of the entry in the stash
+	 */
+	private void removeStashed(int index) {
+		stashSize--;
+		stashKeys[index] = stashKeys[stashSize];
+		stashValues[index] = stashValues[stashSize];
+		stashKeys[stashSize] = null;
+		stashValues[stashSize] = null;
+	}
+
+	/**
+	 * Stores an entry in the slot at the given index
+	 *
+	 * @param index    the index of the slot
+	 * @param hashCode the hash code of the key
+	 * @param key      the key of the entry
+	 * @param value    the value of the entry
+	 */
+	private void setSlot(int index, int hashCode, K key, V value) {
+		hashCodes[index] = hashCode;
+		keys[index] = key;
+		values[index] = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size + migratingSize();
+	}
+
+	/**
+	 * Returns the number of buckets in the hash table
+	 *
+	 * @return the number of buckets
+	 */
+	@Override
+	protected int capacity() {
+		return keys.length / SLOTS;
+	}
+
+	/**
+	 * Returns the maximum number of entries per bucket, which is 90% of the
+	 * slots
+	 *
+	 * @return the maximum load factor
+	 */
+	@Override
+	protected double maxLoadFactor() {
+		return SLOTS * MAX_LOAD_FACTOR;
+	}
+
+	/**
+	 * Resizes the hash table if the load factor is exceeded or the stash has
+	 * overflowed. Keys with equal hash codes share both of their buckets, so a
+	 * stash that overflows while at most a quarter of the slots are full does not
+	 * cause the table to grow.
+	 */
+	@Override
+	protected void checkLoadFactor() {
+		if (stashSize > STASH_SIZE && size() >= capacity()) {
+			grow();
+		} else {
+			super.checkLoadFactor();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+		CuckooHashMap<K, V> old = new CuckooHashMap<K, V>(this);
+		old.hashCodes = hashCodes;
+		old.keys = keys;
+		old.values = values;
+		old.stashKeys = stashKeys;
+		old.stashValues = stashValues;
+		old.stashSize = stashSize;
+		old.size = size;
+		createTable(newCapacity);
+		return old;
+	}
+
+	/**
+	 * {@inheritDoc} The stashed entries are moved with the last bucket.
+	 */
+	@Override
+	protected void transferBucket(int index, AbstractHashMap<K, V> target) {
+		for (int idx = index * SLOTS; idx < (index + 1) * SLOTS; idx++) {
+			if (keys[idx] != null) {
+				target.putMigrated(keys[idx], values[idx]);
+				keys[idx] = null;
+				values[idx] = null;
+				size--;
+			}
+		}
+		if (index == capacity() - 1) {
+			while (stashSize > 0) {
+				target.putMigrated(stashKeys[stashSize - 1], stashValues[stashSize - 1]);
+				removeStashed(stashSize - 1);
+				size--;
+			}
+		}
+	}
+}
@@ -0,0 +1,316 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import java.util.Arrays;
+
+/**
+ * A HashMapStats is a snapshot of the shape of a hash table, returned by
+ * {@link AbstractHashMap#stats()}. It reports how many probes are needed to
+ * find each entry, how many deleted slots remain in an open addressing table,
+ * the largest bucket or cluster, the height of the tallest tree bucket, how
+ * evenly the keys' hash codes spread over the table, and, if statistics are
+ * enabled on the map, how often and for how long the table was resized.
+ *
+ * The probe length of an entry is the number of slots or keys that a lookup
+ * examines before it finds the entry: its distance from its home slot plus one
+ * for open addressing, its position in an array bucket plus one, or its depth
+ * in a tree bucket.
+ *
+ * @author Maggie Lin
+ *
+ */
+public class HashMapStats {
+
+	/** The number of entries in the map */
+	private int size;
+
+	/** The capacity of the hash table */
+	private int capacity;
+
+	/** Element i is the number of entries whose probe length is i + 1 */
+	private long[] probeHistogram;
+
+	/** The sum of the probe lengths of every recorded entry */
+	private long totalProbes;
+
+	/** The number of entries whose probe length was recorded */
+	private long probedEntries;
+
+	/** The largest probe length recorded */
+	private int maxProbeLength;
+
+	/** The number of deleted slots that still occupy the table */
+	private int tombstones;
+
+	/** The largest number of entries in one bucket or occupied run of slots */
+	private int maxChainLength;
+
+	/** The height of the tallest tree bucket */
+	private int maxTreeHeight;
+
+	/** The number of distinct buckets that are the home of at least one key */
+	private int homeBuckets;
+
+	/** The number of times the table was resized while statistics were enabled */
+	private int resizeCount;
+
+	/** The time spent resizing the table while statistics were enabled */
+	private long resizeNanos;
+
+	/** The number of table slots recorded by {@link #recordSlot} */
+	private int slots;
+
+	/**
+	 * The length of the run of occupied slots before the first empty slot, or -1
+	 * if no empty slot has been recorded
+	 */
+	private int leadingRun;
+
+	/** The length of the current run of occupied slots */
+	private int run;
+
+	/**
+	 * Constructs an empty snapshot of a hash table
+	 *
+	 * @param size        the number of entries in the map
+	 * @param capacity    the capacity of the hash table
+	 * @param resizeCount the number of recorded resizes
+	 * @param resizeNanos the time spent in recorded resizes, in nanoseconds
+	 */
+	HashMapStats(int size, int capacity, int resizeCount, long resizeNanos) {
+		this.size = size;
+		this.capacity = capacity;
+		this.resizeCount = resizeCount;
+		this.resizeNanos = resizeNanos;
+		probeHistogram = new long[8];
+		leadingRun = -1;
+	}
+
+	/**
+	 * Records the probe length of one entry
+	 *
+	 * @param length the number of slots or keys examined to find the entry, at
+	 *               least 1
+	 */
+	void recordProbeLength(int length) {
+		if (length > probeHistogram.length) {
+			probeHistogram = Arrays.copyOf(probeHistogram, Math.max(length, 2 * probeHistogram.length));
+		}
+		probeHistogram[length - 1]++;
+		totalProbes += length;
+		probedEntries++;
+		maxProbeLength = Math.max(maxProbeLength, length);
+	}
+
+	/**
+	 * Records a deleted slot that still occupies the table
+	 */
+	void recordTombstone() {
+		tombstones++;
+	}
+
+	/**
+	 * Records the number of entries in one bucket
+	 *
+	 * @param length the number of entries in the bucket
+	 */
+	void recordChainLength(int length) {
+		maxChainLength = Math.max(maxChainLength, length);
+	}
+
+	/**
+	 * Records the height of one tree bucket
+	 *
+	 * @param height the number of nodes on the longest path from the root
+	 */
+	void recordTreeHeight(int height) {
+		maxTreeHeight = Math.max(maxTreeHeight, height);
+	}
+
+	/**
+	 * Records the next slot of an open addressing table, from first to last, so
+	 * that the longest run of occupied slots is recorded as a chain. Runs wrap
+	 * around from the end of the table to the start.
+	 *
+	 * @param occupied true if the slot holds an entry or a deleted entry
+	 */
+	void recordSlot(boolean occupied) {
+		slots++;
+		if (occupied) {
+			run++;
+		} else {
+			if (leadingRun < 0) {
+				leadingRun = run;
+			} else {
+				recordChainLength(run);
+			}
+			run = 0;
+		}
+	}
+
+	/**
+	 * Sets the number of distinct buckets that are the home of at least one key
+	 *
+	 * @param homeBuckets the number of distinct home buckets
+	 */
+	void setHomeBuckets(int homeBuckets) {
+		this.homeBuckets = homeBuckets;
+	}
+
+	/**
+	 * Completes the snapshot once every bucket has been recorded
+	 */
+	void finish() {
+		if (slots > 0) {
+			// The run at the end of the table continues at the start
+			recordChainLength(leadingRun < 0 ? run : run + leadingRun);
+		}
+	}
+
+	/**
+	 * Returns the number of entries in the map
+	 *
+	 * @return the number of entries
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the capacity of the hash table
+	 *
+	 * @return the capacity of the hash table
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Returns the load factor of the hash table
+	 *
+	 * @return the number of entries divided by the capacity
+	 */
+	public double getLoadFactor() {
+		return (double) size / capacity;
+	}
+
+	/**
+	 * Returns the histogram of probe lengths. Element i is the number of entries
+	 * whose probe length is i + 1. The histogram is empty if the map does not
+	 * report probe lengths.
+	 *
+	 * @return the histogram of probe lengths
+	 */
+	public long[] getProbeHistogram() {
+		return Arrays.copyOf(probeHistogram, maxProbeLength);
+	}
+
+	/**
+	 * Returns the average probe length of the entries, which is the expected
+	 * cost of a successful lookup
+	 *
+	 * @return the average probe length, or 0 if no probe lengths were recorded
+	 */
+	public double getAverageProbeLength() {
+		return probedEntries == 0 ? 0 : (double) totalProbes / probedEntries;
+	}
+
+	/**
+	 * Returns the largest probe length of any entry
+	 *
+	 * @return the largest probe length
+	 */
+	public int getMaxProbeLength() {
+		return maxProbeLength;
+	}
+
+	/**
+	 * Returns the number of deleted slots that still occupy the table
+	 *
+	 * @return the number of deleted slots
+	 */
+	public int getTombstones() {
+		return tombstones;
+	}
+
+	/**
+	 * Returns the fraction of the table's slots that hold deleted entries.
+	 * Deleted slots lengthen probes just like live entries.
+	 *
+	 * @return the number of deleted slots divided by the capacity
+	 */
+	public double getTombstoneRatio() {
+		return (double) tombstones / capacity;
+	}
+
+	/**
+	 * Returns the largest number of entries in one bucket for separate chaining,
+	 * or the longest run of occupied and deleted slots for open addressing, which
+	 * bounds the cost of an unsuccessful lookup
+	 *
+	 * @return the length of the longest chain
+	 */
+	public int getMaxChainLength() {
+		return maxChainLength;
+	}
+
+	/**
+	 * Returns the height of the tallest tree bucket
+	 *
+	 * @return the height of the tallest tree bucket, or 0 if no bucket is a tree
+	 */
+	public int getMaxTreeHeight() {
+		return maxTreeHeight;
+	}
+
+	/**
+	 * Returns the number of times the table was resized while statistics were
+	 * enabled
+	 *
+	 * @return the number of resizes
+	 */
+	public int getResizeCount() {
+		return resizeCount;
+	}
+
+	/**
+	 * Returns the time spent resizing the table while statistics were enabled,
+	 * including the buckets moved by an incremental resize
+	 *
+	 * @return the time spent resizing, in nanoseconds
+	 */
+	public long getResizeNanos() {
+		return resizeNanos;
+	}
+
+	/**
+	 * Returns how evenly the keys' hash functions spread over the table: the
+	 * number of distinct home buckets divided by the number expected if every
+	 * key were hashed to a random bucket, m(1 - (1 - 1/m)^n). A score near 1
+	 * means the hash codes are as good as random, a score above 1 means they
+	 * spread more evenly than random, and a score near 0 means that most keys
+	 * share a few buckets, as with a poor hashCode.
+	 *
+	 * @return the collision-quality score, or 1 if the map is empty
+	 */
+	public double getCollisionScore() {
+		if (size == 0) {
+			return 1;
+		}
+		double expected = capacity * -Math.expm1(size * Math.log1p(-1.0 / capacity));
+		return homeBuckets / expected;
+	}
+
+	/**
+	 * Returns a summary of the statistics
+	 *
+	 * @return a summary of the statistics
+	 */
+	@Override
+	public String toString() {
+		return String.format(
+				"HashMapStats[size=%d, capacity=%d, load=%.3f, avgProbe=%.3f, maxProbe=%d, tombstones=%.3f, "
+						+ "maxChain=%d, maxTreeHeight=%d, collisionScore=%.3f, resizes=%d, resizeMs=%.3f]",
+				size, capacity, getLoadFactor(), getAverageProbeLength(), maxProbeLength, getTombstoneRatio(),
+				maxChainLength, maxTreeHeight, getCollisionScore(), resizeCount, resizeNanos / 1e6);
+	}
+}
@@ -0,0 +1,304 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+/**
+ * The IntIntHashMap is a hash map with int keys and int values that is
+ * implemented as a hash table that uses linear probing for collision
+ * resolution.
+ *
+ * Keys and values are stored in parallel int arrays, so the map allocates no
+ * entry object per slot and no Integer object per key or value. The methods
+ * that take an int key ({@link #get(int)}, {@link #getOrDefault(int, int)},
+ * {@link #put(int, int)}, {@link #remove(int)}, and
+ * {@link #containsKey(int)}) never box the key or value; the inherited
+ * {@link edu.ncsu.csc316.dsa.map.Map} methods still work with Integer keys and
+ * values, but null values are not allowed.
+ *
+ * Removal moves later entries of the probe sequence back into the emptied slot
+ * instead of leaving a tombstone, so probe sequences do not grow under repeated
+ * puts and removes. The unboxed methods also work during an incremental resize:
+ * they move buckets of the old table and check it for keys that have not moved
+ * yet, just like the inherited methods.
+ *
+ * The hash map uses a multiply-and-divide compression strategy for calculating
+ * hash functions. The hash map ensures expected O(1) performance of put, get,
+ * and remove. The hash table resizes if the load factor exceeds 0.5.
+ *
+ * @author Maggie Lin
+ */
+public class IntIntHashMap extends AbstractPrimitiveHashMap<Integer, Integer> {
+
+	/** The key in each slot of the hash table */
+	private int[] keys;
+
+	/** The value in each slot of the hash table */
+	private int[] values;
+
+	/**
+	 * Constructs a new int-keyed hash map. The created hash table uses the
+	 * {@link AbstractHashMap#DEFAULT_CAPACITY}
+	 */
+	public IntIntHashMap() {
+		this(AbstractHashMap.DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * FOR TESTING PURPOSES ONLY! Constructs a new int-keyed hash map. The created
+	 * hash table uses the {@link AbstractHashMap#DEFAULT_CAPACITY}
+	 *
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	public IntIntHashMap(boolean isTesting) {
+		this(AbstractHashMap.DEFAULT_CAPACITY, isTesting);
+	}
+
+	/**
+	 * Constructs a new int-keyed hash map. The created hash table is initialized
+	 * to have the provided capacity.
+	 *
+	 * @param capacity the initial capacity of the hash table
+	 */
+	public IntIntHashMap(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * FOR TESTING PURPOSES ONLY! Constructs a new int-keyed hash map. The created
+	 * hash table is initialized to have the provided capacity.
+	 *
+	 * @param capacity  the initial capacity of the hash table
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	public IntIntHashMap(int capacity, boolean isTesting) {
+		super(capacity, isTesting);
+	}
+
+	/**
+	 * Constructs an int-keyed hash map that shares the hash function of the given
+	 * map. The caller must assign the table.
+	 *
+	 * @param other the map whose hash function is shared
+	 */
+	private IntIntHashMap(IntIntHashMap other) {
+		super(other);
+	}
+
+	/**
+	 * Returns the value associated with the given key
+	 *
+	 * @param key the key of the entry
+	 * @return the value associated with the key, or 0 if the key is not in the
+	 *         map
+	 */
+	public int get(int key) {
+		return getOrDefault(key, 0);
+	}
+
+	/**
+	 * Returns the value associated with the given key, or the given default value
+	 * if the key is not in the map
+	 *
+	 * @param key          the key of the entry
+	 * @param defaultValue the value to return if the key is not in the map
+	 * @return the value associated with the key, or the default value
+	 */
+	public int getOrDefault(int key, int defaultValue) {
+		IntIntHashMap old = (IntIntHashMap) stepResize();
+		int idx = findSlot(compressHash(Integer.hashCode(key)), key);
+		if (idx >= 0) {
+			return values[idx];
+		}
+		return old == null ? defaultValue : old.getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Adds an entry with the given key and value, or updates the value of an
+	 * existing entry with the given key
+	 *
+	 * @param key   the key of the entry
+	 * @param value the value of the entry
+	 * @return the original value of the entry, or 0 if the key was not in the
+	 *         map
+	 */
+	public int put(int key, int value) {
+		IntIntHashMap old = (IntIntHashMap) stepResize();
+		int hash = compressHash(Integer.hashCode(key));
+		int idx = findSlot(hash, key);
+		if (idx >= 0) {
+			int answer = values[idx];
+			values[idx] = value;
+			return answer;
+		}
+		insert(hash, key, value);
+		// The key may still be waiting in the old table
+		int answer = old == null ? 0 : old.remove(key);
+		checkLoadFactor();
+		return answer;
+	}
+
+	/**
+	 * Removes the entry with the given key
+	 *
+	 * @param key the key of the entry to remove
+	 * @return the value of the removed entry, or 0 if the key was not in the map
+	 */
+	public int remove(int key) {
+		IntIntHashMap old = (IntIntHashMap) stepResize();
+		int idx = findSlot(compressHash(Integer.hashCode(key)), key);
+		if (idx >= 0) {
+			int answer = values[idx];
+			removeSlot(idx);
+			return answer;
+		}
+		return old == null ? 0 : old.remove(key);
+	}
+
+	/**
+	 * Returns true if the map contains an entry with the given key
+	 *
+	 * @param key the key of the entry
+	 * @return true if the key is in the map
+	 */
+	public boolean containsKey(int key) {
+		IntIntHashMap old = (IntIntHashMap) stepResize();
+		return findSlot(compressHash(Integer.hashCode(key)), key) >= 0 || old != null && old.containsKey(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer bucketGet(int hash, Integer key) {
+		int idx = findSlot(hash, key);
+		return idx < 0 ? null : values[idx];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer bucketPut(int hash, Integer key, Integer value) {
+		if (value == null) {
+			throw new IllegalArgumentException("IntIntHashMap does not allow null values.");
+		}
+		int idx = findSlot(hash, key);
+		if (idx >= 0) {
+			int answer = values[idx];
+			values[idx] = value;
+			return answer;
+		}
+		insert(hash, key, value);
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer bucketRemove(int hash, Integer key) {
+		int idx = findSlot(hash, key);
+		if (idx < 0) {
+			return null;
+		}
+		int answer = values[idx];
+		removeSlot(idx);
+		return answer;
+	}
+
+	/**
+	 * Adds an entry with the given key, which is not in the map, at the end of
+	 * the probe sequence that starts at the given bucket
+	 *
+	 * @param hash  the index of the bucket selected by the key's hash function
+	 * @param key   the key of the entry
+	 * @param value the value of the entry
+	 */
+	private void insert(int hash, int key, int value) {
+		int idx = claimSlot(hash);
+		keys[idx] = key;
+		values[idx] = value;
+	}
+
+	/**
+	 * Returns the index of the slot that holds the given key
+	 *
+	 * @param hash the index of the bucket selected by the key's hash function
+	 * @param key  the key of the entry to locate
+	 * @return the index of the slot that contains the key, or -1 if the key is
+	 *         not in the table
+	 */
+	private int findSlot(int hash, int key) {
+		int idx = hash;
+		while (isUsed(idx)) {
+			if (keys[idx] == key) {
+				return idx;
+			}
+			idx = next(idx);
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void createSlots(int capacity) {
+		keys = new int[capacity];
+		values = new int[capacity];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int slotHashCode(int index) {
+		return Integer.hashCode(keys[index]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Entry<Integer, Integer> entryAt(int index) {
+		return new MapEntry<Integer, Integer>(keys[index], values[index]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void moveSlot(int from, int to) {
+		keys[to] = keys[from];
+		values[to] = values[from];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void copySlot(int index, AbstractPrimitiveHashMap<Integer, Integer> target, int targetIndex) {
+		IntIntHashMap map = (IntIntHashMap) target;
+		map.keys[targetIndex] = keys[index];
+		map.values[targetIndex] = values[index];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void clearSlot(int index) {
+		// The slot holds no objects
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected AbstractPrimitiveHashMap<Integer, Integer> detachSlots() {
+		IntIntHashMap old = new IntIntHashMap(this);
+		old.keys = keys;
+		old.values = values;
+		return old;
+	}
+}
@@ -0,0 +1,291 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+/**
+ * The IntObjectHashMap is a hash map with int keys that is implemented as a
+ * hash table that uses linear probing for collision resolution.
+ *
+ * Keys are stored in an int array and values in a parallel array, so the map
+ * allocates no entry object per slot and no Integer object per key. The
+ * methods that take an int key ({@link #get(int)}, {@link #put(int, Object)},
+ * {@link #remove(int)}, and {@link #containsKey(int)}) never box the key; the
+ * inherited {@link edu.ncsu.csc316.dsa.map.Map} methods still work with
+ * Integer keys.
+ *
+ * Removal moves later entries of the probe sequence back into the emptied slot
+ * instead of leaving a tombstone, so probe sequences do not grow under repeated
+ * puts and removes. The unboxed methods also work during an incremental resize:
+ * they move buckets of the old table and check it for keys that have not moved
+ * yet, just like the inherited methods.
+ *
+ * The hash map uses a multiply-and-divide compression strategy for calculating
+ * hash functions. The hash map ensures expected O(1) performance of put, get,
+ * and remove. The hash table resizes if the load factor exceeds 0.5.
+ *
+ * @author Maggie Lin
+ *
+ * @param <V> the type of values associated with keys in the hash map
+ */
+public class IntObjectHashMap<V> extends AbstractPrimitiveHashMap<Integer, V> {
+
+	/** The key in each slot of the hash table */
+	private int[] keys;
+
+	/** The value in each slot of the hash table */
+	private V[] values;
+
+	/**
+	 * Constructs a new int-keyed hash map. The created hash table uses the
+	 * {@link AbstractHashMap#DEFAULT_CAPACITY}
+	 */
+	public IntObjectHashMap() {
+		this(AbstractHashMap.DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * FOR TESTING PURPOSES ONLY! Constructs a new int-keyed hash map. The created
+	 * hash table uses the {@link AbstractHashMap#DEFAULT_CAPACITY}
+	 *
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	public IntObjectHashMap(boolean isTesting) {
+		this(AbstractHashMap.DEFAULT_CAPACITY, isTesting);
+	}
+
+	/**
+	 * Constructs a new int-keyed hash map. The created hash table is initialized
+	 * to have the provided capacity.
+	 *
+	 * @param capacity the initial capacity of the hash table
+	 */
+	public IntObjectHashMap(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * FOR TESTING PURPOSES ONLY! Constructs a new int-keyed hash map. The created
+	 * hash table is initialized to have the provided capacity.
+	 *
+	 * @param capacity  the initial capacity of the hash table
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	public IntObjectHashMap(int capacity, boolean isTesting) {
+		super(capacity, isTesting);
+	}
+
+	/**
+	 * Constructs an int-keyed hash map that shares the hash function of the given
+	 * map. The caller must assign the table.
+	 *
+	 * @param other the map whose hash function is shared
+	 */
+	private IntObjectHashMap(IntObjectHashMap<V> other) {
+		super(other);
+	}
+
+	/**
+	 * Returns the value associated with the given key
+	 *
+	 * @param key the key of the entry
+	 * @return the value associated with the key, or null if the key is not in the
+	 *         map
+	 */
+	public V get(int key) {
+		IntObjectHashMap<V> old = (IntObjectHashMap<V>) stepResize();
+		int idx = findSlot(compressHash(Integer.hashCode(key)), key);
+		if (idx >= 0) {
+			return values[idx];
+		}
+		return old == null ? null : old.get(key);
+	}
+
+	/**
+	 * Adds an entry with the given key and value, or updates the value of an
+	 * existing entry with the given key
+	 *
+	 * @param key   the key of the entry
+	 * @param value the value of the entry
+	 * @return the original value of the entry, or null if the key was not in the
+	 *         map
+	 */
+	public V put(int key, V value) {
+		IntObjectHashMap<V> old = (IntObjectHashMap<V>) stepResize();
+		V answer = insert(compressHash(Integer.hashCode(key)), key, value);
+		if (old != null) {
+			// The key may still be waiting in the old table
+			V oldValue = old.remove(key);
+			if (answer == null) {
+				answer = oldValue;
+			}
+		}
+		checkLoadFactor();
+		return answer;
+	}
+
+	/**
+	 * Removes the entry with the given key
+	 *
+	 * @param key the key of the entry to remove
+	 * @return the value of the removed entry, or null if the key was not in the
+	 *         map
+	 */
+	public V remove(int key) {
+		IntObjectHashMap<V> old = (IntObjectHashMap<V>) stepResize();
+		int idx = findSlot(compressHash(Integer.hashCode(key)), key);
+		if (idx >= 0) {
+			V answer = values[idx];
+			removeSlot(idx);
+			return answer;
+		}
+		return old == null ? null : old.remove(key);
+	}
+
+	/**
+	 * Returns true if the map contains an entry with the given key
+	 *
+	 * @param key the key of the entry
+	 * @return true if the key is in the map
+	 */
+	public boolean containsKey(int key) {
+		IntObjectHashMap<V> old = (IntObjectHashMap<V>) stepResize();
+		return findSlot(compressHash(Integer.hashCode(key)), key) >= 0 || old != null && old.containsKey(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketGet(int hash, Integer key) {
+		int idx = findSlot(hash, key);
+		return idx < 0 ? null : values[idx];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketPut(int hash, Integer key, V value) {
+		return insert(hash, key, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketRemove(int hash, Integer key) {
+		int idx = findSlot(hash, key);
+		if (idx < 0) {
+			return null;
+		}
+		V answer = values[idx];
+		removeSlot(idx);
+		return answer;
+	}
+
+	/**
+	 * Adds or updates the entry with the given key in the probe sequence that
+	 * starts at the given bucket
+	 *
+	 * @param hash  the index of the bucket selected by the key's hash function
+	 * @param key   the key of the entry
+	 * @param value the value of the entry
+	 * @return the original value of the entry, or null if the key was not in the
+	 *         map
+	 */
+	private V insert(int hash, int key, V value) {
+		int idx = findSlot(hash, key);
+		if (idx >= 0) {
+			V answer = values[idx];
+			values[idx] = value;
+			return answer;
+		}
+		idx = claimSlot(hash);
+		keys[idx] = key;
+		values[idx] = value;
+		return null;
+	}
+
+	/**
+	 * Returns the index of the slot that holds the given key
+	 *
+	 * @param hash the index of the bucket selected by the key's hash function
+	 * @param key  the key of the entry to locate
+	 * @return the index of the slot that contains the key, or -1 if the key is
+	 *         not in the table
+	 */
+	private int findSlot(int hash, int key) {
+		int idx = hash;
+		while (isUsed(idx)) {
+			if (keys[idx] == key) {
+				return idx;
+			}
+			idx = next(idx);
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	protected void createSlots(int capacity) {
+		keys = new int[capacity];
+		values = (V[]) new Object[capacity];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int slotHashCode(int index) {
+		return Integer.hashCode(keys[index]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Entry<Integer, V> entryAt(int index) {
+		return new MapEntry<Integer, V>(keys[index], values[index]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void moveSlot(int from, int to) {
+		keys[to] = keys[from];
+		values[to] = values[from];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void copySlot(int index, AbstractPrimitiveHashMap<Integer, V> target, int targetIndex) {
+		IntObjectHashMap<V> map = (IntObjectHashMap<V>) target;
+		map.keys[targetIndex] = keys[index];
+		map.values[targetIndex] = values[index];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void clearSlot(int index) {
+		values[index] = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected AbstractPrimitiveHashMap<Integer, V> detachSlots() {
+		IntObjectHashMap<V> old = new IntObjectHashMap<V>(this);
+		old.keys = keys;
+		old.values = values;
+		return old;
+	}
+}
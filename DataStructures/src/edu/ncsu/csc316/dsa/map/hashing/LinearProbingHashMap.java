@@ -1,5 +1,9 @@
 package edu.ncsu.csc316.dsa.map.hashing;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
 /**
  * The LinearProbingHashMap is implemented as a hash table that uses linear
  * probing for collision resolution.
@@ -8,7 +12,13 @@ package edu.ncsu.csc316.dsa.map.hashing;
  * hash functions. The hash map ensures expected O(1) performance of (@link
  * Map#put), (@link Map#get), and (@link Map#remove).
  * 
- * The hash table resizes if the load factor exceeds 0.5.
+ * The hash table resizes if the load factor exceeds 0.5. Removed entries leave
+ * deleted slots behind so that probes continue past them, and these slots
+ * lengthen probes just like live entries. When live and deleted slots together
+ * fill more than half of the table, the table grows if the live entries alone
+ * fill more than a quarter of it, and is otherwise compacted in place at the
+ * same capacity, so a map under steady put and remove churn keeps short
+ * probes without growing.
  * 
  * The LinearProbingHashMap class is based on the implementation developed for
  * use with the textbook:
@@ -26,7 +36,7 @@ package edu.ncsu.csc316.dsa.map.hashing;
  * @param <K> the type of keys stored in the hash map
  * @param <V> the type of values associated with keys in the hash map
  */
-public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
+public class LinearProbingHashMap<K, V> extends AbstractProbingHashMap<K, V> {
 
 	/** Hash Table represented by an array of TableEntries */
 	private TableEntry<K, V>[] table;
@@ -34,6 +44,9 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
 	/** Size of the Hash Table */
 	private int size;
 
+	/** The number of slots that hold deleted entries */
+	private int tombstones;
+
 	/**
 	 * Constructs a new linear probing hash map that uses natural ordering of keys
 	 * when performing comparisons. The created hash table uses the
@@ -81,17 +94,38 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Constructs a linear probing hash map that shares the hash function of the
+	 * given map. The caller must assign the table.
+	 * 
+	 * @param other the map whose hash function is shared
+	 */
+	private LinearProbingHashMap(LinearProbingHashMap<K, V> other) {
+		super(other);
+		size = 0;
+	}
+
+	/**
+	 * {@inheritDoc} The entries are not copied: the returned collection iterates
+	 * over the hash table itself, so the map must not be changed while it is
+	 * being iterated.
 	 */
 	@Override
 	public Iterable<Entry<K, V>> entrySet() {
-		EntryCollection collection = new EntryCollection();
+		finishResize();
+		return new TableIterable();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		finishResize();
 		for (int i = 0; i < table.length; i++) {
 			if (!isAvailable(i)) {
-				collection.add(table[i]);
+				action.accept(table[i].getKey(), table[i].getValue());
 			}
 		}
-		return collection;
 	}
 
 	/**
@@ -102,21 +136,33 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
 	public void createTable(int capacity) {
 		table = (TableEntry<K, V>[]) new TableEntry[capacity];
 		size = 0;
+		tombstones = 0;
 	}
 
 	/**
-	 * Returns true if the Hash table slot at the given index is free for a new
-	 * entry
-	 * 
-	 * @param index the index of the hash table we are looking at to see if it is
-	 *              free
-	 * @return true if the table slot at the given index is available for a new
-	 *         entry
+	 * {@inheritDoc}
 	 */
-	private boolean isAvailable(int index) {
+	@Override
+	protected boolean isAvailable(int index) {
 		return table[index] == null || table[index].isDeleted();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isEmptySlot(int index) {
+		return table[index] == null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected K keyAt(int index) {
+		return table[index].getKey();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -140,38 +186,15 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
 			table[idx].setValue(value);
 			return answer;
 		}
-		table[-(idx + 1)] = new TableEntry<K, V>(key, value);
+		idx = -(idx + 1);
+		if (table[idx] != null) {
+			tombstones--;
+		}
+		table[idx] = new TableEntry<K, V>(key, value);
 		size++;
 		return null;
 	}
 
-	/**
-	 * Returns a number that represents the index at which the key is located at
-	 * 
-	 * @param index the index in the Hash Table
-	 * @param key   the key of the entry to locate
-	 * @return the index of the bucket that contains the entry(if it exist) or a
-	 *         number which represent the index where the entry should be stored
-	 */
-	private int findBucket(int index, K key) {
-		int avail = -1;
-		int idx = index;
-		do {
-			if (isAvailable(idx)) {
-				if (avail == -1) {
-					avail = idx;
-				}
-				if (table[idx] == null) {
-					return -(avail + 1);
-				}
-			} else if (table[idx].getKey().equals(key)) {
-				return idx;
-			}
-			idx = (idx + 1) % table.length;
-		} while (idx != index);
-		return -(avail + 1);
-	}
-
 	/**
 	 * {@inheritDoc}
 	 */
@@ -184,15 +207,90 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
 		V answer = table[idx].getValue();
 		table[idx].setDeleted(true);
 		size--;
+		tombstones++;
 		return answer;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int deletedSlots() {
+		return tombstones;
+	}
+
+	/**
+	 * Removes every deleted slot from the hash table without changing its
+	 * capacity or allocating a new table. Any incremental resize is finished
+	 * first. Maps that remove many entries and then mostly look keys up can call
+	 * this to shorten their probes; otherwise the map compacts itself when
+	 * needed.
+	 * 
+	 * The slots are visited once, starting after an empty slot. Each live entry
+	 * is lifted out and placed in the first empty slot from its home slot, which
+	 * is never past the slot it came from. No entry's probe sequence passes the
+	 * starting empty slot, so every slot between an entry's home and its new slot
+	 * has already been placed and stays occupied, and every entry can still be
+	 * found.
+	 */
+	@Override
+	public void compact() {
+		finishResize();
+		if (tombstones == 0) {
+			return;
+		}
+		int start = 0;
+		while (start < table.length && table[start] != null) {
+			start++;
+		}
+		for (int i = 0; i < table.length; i++) {
+			if (table[i] != null && table[i].isDeleted()) {
+				table[i] = null;
+			}
+		}
+		tombstones = 0;
+		if (start == table.length) {
+			// Every slot was full, so no probe sequence is known to stop anywhere;
+			// place every entry again from the first slot
+			TableEntry<K, V>[] old = table;
+			createTable(old.length);
+			for (TableEntry<K, V> entry : old) {
+				if (entry != null) {
+					place(entry);
+					size++;
+				}
+			}
+			return;
+		}
+		for (int k = 1; k < table.length; k++) {
+			int i = (start + k) % table.length;
+			if (table[i] != null) {
+				TableEntry<K, V> entry = table[i];
+				table[i] = null;
+				place(entry);
+			}
+		}
+	}
+
+	/**
+	 * Stores the given entry in the first empty slot from its home slot
+	 * 
+	 * @param entry the live entry to store
+	 */
+	private void place(TableEntry<K, V> entry) {
+		int idx = compressHash(entry.getKey().hashCode());
+		while (table[idx] != null) {
+			idx = (idx + 1) % table.length;
+		}
+		table[idx] = entry;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public int size() {
-		return size;
+		return size + migratingSize();
 	}
 
 	/**
@@ -203,6 +301,118 @@ public class LinearProbingHashMap<K, V> extends AbstractHashMap<K, V> {
 		return table.length;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+		LinearProbingHashMap<K, V> old = new LinearProbingHashMap<K, V>(this);
+		old.table = table;
+		old.size = size;
+		old.tombstones = tombstones;
+		createTable(newCapacity);
+		return old;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void transferBucket(int index, AbstractHashMap<K, V> target) {
+		if (!isAvailable(index)) {
+			target.putMigrated(table[index].getKey(), table[index].getValue());
+			// Leave a tombstone so that probes for later entries in the old table
+			// still pass this slot
+			table[index].setDeleted(true);
+			size--;
+			tombstones++;
+		}
+	}
+
+	/**
+	 * {@inheritDoc} The probe length of an entry is its distance from its home
+	 * slot plus one, and deleted slots are counted as tombstones.
+	 */
+	@Override
+	protected void collectStats(HashMapStats stats) {
+		for (int i = 0; i < table.length; i++) {
+			stats.recordSlot(table[i] != null);
+			if (table[i] == null) {
+				continue;
+			}
+			if (table[i].isDeleted()) {
+				stats.recordTombstone();
+			} else {
+				int home = compressHash(table[i].getKey().hashCode());
+				stats.recordProbeLength((i - home + table.length) % table.length + 1);
+			}
+		}
+	}
+
+	/**
+	 * TableIterable allows iterating over the entries in the hash table without
+	 * copying them
+	 * 
+	 * @author Maggie Lin
+	 *
+	 */
+	private class TableIterable implements Iterable<Entry<K, V>> {
+
+		/**
+		 * Return an iterator over the entries in the hash table
+		 * 
+		 * @return an iterator over the entries in the hash table
+		 */
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new TableIterator();
+		}
+	}
+
+	/**
+	 * TableIterator visits the occupied slots of the hash table in order
+	 * 
+	 * @author Maggie Lin
+	 *
+	 */
+	private class TableIterator implements Iterator<Entry<K, V>> {
+
+		/** The index of the next slot to inspect */
+		private int index;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			while (index < table.length && isAvailable(index)) {
+				index++;
+			}
+			return index < table.length;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return table[index++];
+		}
+
+		/**
+		 * Do not allow for remove operation
+		 * 
+		 * @throws UnsupportedOperationException when remove operation is called
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("The remove operation is not supported yet.");
+		}
+	}
+
 	/**
 	 * The data structure which represents a bucket in a Linear Hash Map
 	 * 
@@ -0,0 +1,684 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * The MappedHashMap is a hash map whose table is stored in a memory-mapped
+ * file instead of on the Java heap. The table uses linear probing for collision
+ * resolution, with the same probe sequence and deleted-slot markers as
+ * {@link LinearProbingHashMap}.
+ *
+ * Keys and values have a fixed width in bytes and are converted to and from
+ * the table by a {@link Codec}, such as {@link #INTEGER_CODEC} or
+ * {@link #LONG_CODEC}. Each slot holds one state byte followed by the key and
+ * the value. The file begins with a header that records the widths, capacity,
+ * size, number of deleted slots, compression strategy, and hash function of
+ * the table, so a map that is constructed with the path of an existing file
+ * reopens that table as it is, without reading or rehashing any entries.
+ * Because of this, the hash codes of the keys must be the same in every
+ * process, as they are for Integer, Long, and String keys. For the same
+ * reason, only {@link AbstractHashMap#MIXING_COMPRESSION}, the default, and
+ * {@link AbstractHashMap#MAD_COMPRESSION} can be used.
+ *
+ * Changes are written to the mapped file as they are made, and the operating
+ * system keeps them even if the process exits; {@link #force()} waits until
+ * they reach the storage device, and {@link #close()} also releases the map. A
+ * resize, or a compaction that drops deleted slots, builds the new table in a
+ * separate file, forces it, and then moves it over the original, so the
+ * original file remains a complete table until the resize is finished. During
+ * an incremental resize, puts and removes change both files, so the original
+ * is only complete again once the resize is finished.
+ *
+ * The hash map ensures expected O(1) performance of (@link Map#put), (@link
+ * Map#get), and (@link Map#remove). Like {@link LinearProbingHashMap}, the
+ * hash table resizes if the load factor exceeds 0.5 and is compacted if most of
+ * its filled slots are deleted. Null values are not supported. A table may be
+ * at most 2 GB.
+ *
+ * @author Maggie Lin
+ *
+ * @param <K> the type of keys stored in the hash map
+ * @param <V> the type of values associated with keys in the hash map
+ */
+public class MappedHashMap<K, V> extends AbstractProbingHashMap<K, V> implements Closeable {
+
+	/** Codec for Integer keys or values, which are 4 bytes wide */
+	public static final Codec<Integer> INTEGER_CODEC = new IntegerCodec();
+
+	/** Codec for Long keys or values, which are 8 bytes wide */
+	public static final Codec<Long> LONG_CODEC = new LongCodec();
+
+	/** The value at the start of every mapped hash map file */
+	private static final int MAGIC = 0x48534832;
+
+	/** The offset of the key width in the header */
+	private static final int KEY_WIDTH_OFFSET = 4;
+
+	/** The offset of the value width in the header */
+	private static final int VALUE_WIDTH_OFFSET = 8;
+
+	/** The offset of the capacity in the header */
+	private static final int CAPACITY_OFFSET = 12;
+
+	/** The offset of the size in the header */
+	private static final int SIZE_OFFSET = 16;
+
+	/** The offset of the number of deleted slots in the header */
+	private static final int DELETED_OFFSET = 20;
+
+	/** The offset of the compression strategy in the header */
+	private static final int STRATEGY_OFFSET = 24;
+
+	/** The offset of the hash function values in the header */
+	private static final int HASH_FUNCTION_OFFSET = 32;
+
+	/** The number of bytes in the header, before the first slot */
+	private static final int HEADER_SIZE = 64;
+
+	/** The code recorded in the header for mixing compression */
+	private static final int MIXING_CODE = 0;
+
+	/** The code recorded in the header for MAD compression */
+	private static final int MAD_CODE = 1;
+
+	/** The state of a slot that has never held an entry */
+	private static final byte EMPTY = 0;
+
+	/** The state of a slot that holds an entry */
+	private static final byte FULL = 1;
+
+	/** The state of a slot whose entry has been removed */
+	private static final byte DELETED = 2;
+
+	/** The path of the file that holds the table */
+	private final String path;
+
+	/** Converts keys to and from bytes */
+	private final Codec<K> keyCodec;
+
+	/** Converts values to and from bytes */
+	private final Codec<V> valueCodec;
+
+	/** The number of bytes in each slot */
+	private final int slotWidth;
+
+	/** The mapped file that holds the header and table */
+	private MappedByteBuffer buffer;
+
+	/** The number of slots in the table */
+	private int capacity;
+
+	/** Size of the Hash Table */
+	private int size;
+
+	/** The number of slots that hold deleted entries */
+	private int deleted;
+
+	/**
+	 * The number of slots, from the start of the table, whose entries have been
+	 * moved to a new table by an incremental resize
+	 */
+	private int moved;
+
+	/** The path of the file that receives the table during a resize, or null */
+	private String resizePath;
+
+	/**
+	 * Constructs a hash map that is stored in the file with the given path. If
+	 * the file exists, its table is reopened; otherwise, a new table with the
+	 * {@link AbstractHashMap#DEFAULT_CAPACITY} is created.
+	 *
+	 * @param path       the path of the file that holds the table
+	 * @param keyCodec   the codec for keys
+	 * @param valueCodec the codec for values
+	 * @throws IllegalArgumentException if the file cannot be opened or created,
+	 *                                  or holds a table with different widths or
+	 *                                  a damaged header
+	 */
+	public MappedHashMap(String path, Codec<K> keyCodec, Codec<V> valueCodec) {
+		this(path, keyCodec, valueCodec, AbstractHashMap.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a hash map that is stored in the file with the given path. If
+	 * the file exists, its table is reopened; otherwise, a new table with at least
+	 * the given capacity is created.
+	 *
+	 * @param path       the path of the file that holds the table
+	 * @param keyCodec   the codec for keys
+	 * @param valueCodec the codec for values
+	 * @param capacity   the initial capacity of a new hash table
+	 * @throws IllegalArgumentException if the file cannot be opened or created,
+	 *                                  or holds a table with different widths or
+	 *                                  a damaged header
+	 */
+	public MappedHashMap(String path, Codec<K> keyCodec, Codec<V> valueCodec, int capacity) {
+		super(MIXING_COMPRESSION);
+		if (path == null || keyCodec == null || valueCodec == null) {
+			throw new IllegalArgumentException("A path and codecs are required.");
+		}
+		this.path = path;
+		this.keyCodec = keyCodec;
+		this.valueCodec = valueCodec;
+		slotWidth = 1 + keyCodec.width() + valueCodec.width();
+		if (new File(path).length() > 0) {
+			open();
+		} else {
+			createTable(MIXING_COMPRESSION.tableCapacity(capacity));
+		}
+	}
+
+	/**
+	 * Constructs a hash map that shares the file, codecs, and hash function of
+	 * the given map. The caller must assign the table.
+	 *
+	 * @param other the map whose file, codecs, and hash function are shared
+	 */
+	private MappedHashMap(MappedHashMap<K, V> other) {
+		super(other);
+		path = other.path;
+		keyCodec = other.keyCodec;
+		valueCodec = other.valueCodec;
+		slotWidth = other.slotWidth;
+	}
+
+	/**
+	 * Maps the existing file and checks that its header matches the codecs and
+	 * the length of the file
+	 */
+	private void open() {
+		try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+			buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, file.length());
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Could not open file: " + e.getMessage());
+		}
+		if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IllegalArgumentException("Not a mapped hash map file: " + path);
+		}
+		if (buffer.getInt(KEY_WIDTH_OFFSET) != keyCodec.width()
+				|| buffer.getInt(VALUE_WIDTH_OFFSET) != valueCodec.width()) {
+			throw new IllegalArgumentException("The file holds keys or values of a different width: " + path);
+		}
+		int code = buffer.getInt(STRATEGY_OFFSET);
+		if (code != MIXING_CODE && code != MAD_CODE) {
+			throw new IllegalArgumentException("The file holds an unknown compression strategy: " + path);
+		}
+		CompressionStrategy strategy = code == MAD_CODE ? MAD_COMPRESSION : MIXING_COMPRESSION;
+		capacity = buffer.getInt(CAPACITY_OFFSET);
+		size = buffer.getInt(SIZE_OFFSET);
+		deleted = buffer.getInt(DELETED_OFFSET);
+		if (capacity < 1 || strategy.tableCapacity(capacity) != capacity
+				|| HEADER_SIZE + (long) capacity * slotWidth > buffer.capacity() || size < 0 || deleted < 0
+				|| (long) size + deleted > capacity) {
+			throw new IllegalArgumentException("The file header does not match the table: " + path);
+		}
+		long[] values = new long[4];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = buffer.getLong(HASH_FUNCTION_OFFSET + i * Long.BYTES);
+		}
+		restoreHashFunction(values, strategy);
+	}
+
+	/**
+	 * Writes every change to the table to the storage device that holds the file
+	 *
+	 * @throws IllegalStateException if the map is closed
+	 */
+	public void force() {
+		checkOpen();
+		buffer.force();
+	}
+
+	/**
+	 * Finishes any incremental resize, writes every change to the table to the
+	 * storage device that holds the file, and releases the map. The map cannot be
+	 * used after it is closed; closing it again has no effect.
+	 */
+	@Override
+	public void close() {
+		if (buffer == null) {
+			return;
+		}
+		finishResize();
+		buffer.force();
+		// The file is unmapped once the buffer is garbage collected
+		buffer = null;
+	}
+
+	/**
+	 * Throws an exception if the map has been closed
+	 *
+	 * @throws IllegalStateException if the map is closed
+	 */
+	private void checkOpen() {
+		if (buffer == null) {
+			throw new IllegalStateException("The mapped hash map is closed.");
+		}
+	}
+
+	/**
+	 * {@inheritDoc} Only {@link AbstractHashMap#MIXING_COMPRESSION} and
+	 * {@link AbstractHashMap#MAD_COMPRESSION} can be used, because the file
+	 * records which strategy built its table.
+	 *
+	 * @throws IllegalArgumentException if the strategy is not one of the two
+	 *                                  built-in strategies
+	 */
+	@Override
+	public void setCompressionStrategy(CompressionStrategy strategy) {
+		if (strategy != null && strategy != MIXING_COMPRESSION && strategy != MAD_COMPRESSION) {
+			throw new IllegalArgumentException("Mapped hash maps can only record the built-in compression strategies.");
+		}
+		checkOpen();
+		super.setCompressionStrategy(strategy);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterable<Entry<K, V>> entrySet() {
+		checkOpen();
+		finishResize();
+		EntryCollection collection = new EntryCollection();
+		for (int i = 0; i < capacity; i++) {
+			if (state(i) == FULL) {
+				collection.add(new MapEntry<K, V>(key(i), value(i)));
+			}
+		}
+		return collection;
+	}
+
+	/**
+	 * Creates a new file with an empty table of the given capacity. During a
+	 * resize, the file is created beside the original file.
+	 *
+	 * @param capacity the capacity of the new table
+	 * @throws IllegalArgumentException if the file cannot be created
+	 * @throws IllegalStateException    if the table would be larger than 2 GB
+	 */
+	@Override
+	public void createTable(int capacity) {
+		long length = HEADER_SIZE + (long) capacity * slotWidth;
+		if (length > Integer.MAX_VALUE) {
+			throw new IllegalStateException("The table is too large to map.");
+		}
+		String target = resizePath == null ? path : resizePath;
+		try (RandomAccessFile file = new RandomAccessFile(target, "rw")) {
+			// Extending an empty file fills it with zeros, so every slot is EMPTY
+			file.setLength(0);
+			file.setLength(length);
+			buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Could not create file: " + e.getMessage());
+		}
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(KEY_WIDTH_OFFSET, keyCodec.width());
+		buffer.putInt(VALUE_WIDTH_OFFSET, valueCodec.width());
+		buffer.putInt(CAPACITY_OFFSET, capacity);
+		buffer.putInt(STRATEGY_OFFSET, strategyCode());
+		long[] values = hashFunction();
+		for (int i = 0; i < values.length; i++) {
+			buffer.putLong(HASH_FUNCTION_OFFSET + i * Long.BYTES, values[i]);
+		}
+		this.capacity = capacity;
+		setSize(0);
+		setDeleted(0);
+	}
+
+	/**
+	 * Returns the code recorded in the header for the current compression
+	 * strategy
+	 *
+	 * @return the code of the compression strategy
+	 */
+	private int strategyCode() {
+		return compressionStrategy() == MAD_COMPRESSION ? MAD_CODE : MIXING_CODE;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketGet(int hash, K key) {
+		checkOpen();
+		int idx = findBucket(hash, key);
+		if (idx < moved) {
+			// The key is absent, or was moved to the new table by an incremental
+			// resize
+			return null;
+		}
+		return value(idx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketPut(int hash, K key, V value) {
+		if (value == null) {
+			throw new IllegalArgumentException("Mapped hash maps cannot store null values.");
+		}
+		checkOpen();
+		int idx = findBucket(hash, key);
+		if (idx >= 0) {
+			V answer = value(idx);
+			valueCodec.write(buffer, offset(idx) + 1 + keyCodec.width(), value);
+			return answer;
+		}
+		idx = -(idx + 1);
+		int offset = offset(idx);
+		boolean reused = buffer.get(offset) == DELETED;
+		keyCodec.write(buffer, offset + 1, key);
+		valueCodec.write(buffer, offset + 1 + keyCodec.width(), value);
+		// Mark the slot full only after the entry is written
+		buffer.put(offset, FULL);
+		setSize(size + 1);
+		if (reused) {
+			setDeleted(deleted - 1);
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketRemove(int hash, K key) {
+		checkOpen();
+		int idx = findBucket(hash, key);
+		if (idx < moved) {
+			// The key is absent, or was moved to the new table by an incremental
+			// resize
+			return null;
+		}
+		V answer = value(idx);
+		buffer.put(offset(idx), DELETED);
+		setSize(size - 1);
+		setDeleted(deleted + 1);
+		return answer;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isAvailable(int index) {
+		return state(index) != FULL;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isEmptySlot(int index) {
+		return state(index) == EMPTY;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected K keyAt(int index) {
+		return key(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int deletedSlots() {
+		return deleted;
+	}
+
+	/**
+	 * {@inheritDoc} The table is rebuilt in a separate file at the same capacity,
+	 * which then replaces the original file, as in a resize.
+	 *
+	 * @throws IllegalStateException if the map is closed
+	 */
+	@Override
+	public void compact() {
+		checkOpen();
+		finishResize();
+		if (deleted > 0) {
+			rehash();
+		}
+	}
+
+	/**
+	 * Returns the offset of the slot at the given index in the file
+	 *
+	 * @param index the index of the slot
+	 * @return the offset of the slot's state byte
+	 */
+	private int offset(int index) {
+		return HEADER_SIZE + index * slotWidth;
+	}
+
+	/**
+	 * Returns the state of the slot at the given index
+	 *
+	 * @param index the index of the slot
+	 * @return EMPTY, FULL, or DELETED
+	 */
+	private byte state(int index) {
+		return buffer.get(offset(index));
+	}
+
+	/**
+	 * Returns the key in the slot at the given index
+	 *
+	 * @param index the index of the slot
+	 * @return the key in the slot
+	 */
+	private K key(int index) {
+		return keyCodec.read(buffer, offset(index) + 1);
+	}
+
+	/**
+	 * Returns the value in the slot at the given index
+	 *
+	 * @param index the index of the slot
+	 * @return the value in the slot
+	 */
+	private V value(int index) {
+		return valueCodec.read(buffer, offset(index) + 1 + keyCodec.width());
+	}
+
+	/**
+	 * Sets the size of the table and records it in the header
+	 *
+	 * @param size the number of entries in the table
+	 */
+	private void setSize(int size) {
+		this.size = size;
+		buffer.putInt(SIZE_OFFSET, size);
+	}
+
+	/**
+	 * Sets the number of deleted slots and records it in the header
+	 *
+	 * @param deleted the number of slots that hold deleted entries
+	 */
+	private void setDeleted(int deleted) {
+		this.deleted = deleted;
+		buffer.putInt(DELETED_OFFSET, deleted);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size + migratingSize();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Writes the new table to the storage device and then replaces the original
+	 * file with the file that received it
+	 *
+	 * @throws IllegalStateException if the new file cannot replace the original
+	 */
+	@Override
+	protected void resizeFinished() {
+		// A new compression strategy is set after the new table is created
+		buffer.putInt(STRATEGY_OFFSET, strategyCode());
+		buffer.force();
+		try {
+			Files.move(Paths.get(resizePath), Paths.get(path), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new IllegalStateException("Could not replace file: " + e.getMessage());
+		}
+		resizePath = null;
+	}
+
+	/**
+	 * {@inheritDoc} The new table is created in a file beside the original file.
+	 */
+	@Override
+	protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+		MappedHashMap<K, V> old = new MappedHashMap<K, V>(this);
+		old.buffer = buffer;
+		old.capacity = capacity;
+		old.size = size;
+		old.deleted = deleted;
+		resizePath = path + ".resize";
+		createTable(newCapacity);
+		return old;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void transferBucket(int index, AbstractHashMap<K, V> target) {
+		if (state(index) == FULL) {
+			// The original file is replaced once every bucket is moved, so the
+			// slot is left as it is and only the moved slots are counted
+			target.putMigrated(key(index), value(index));
+			size--;
+		}
+		moved = index + 1;
+	}
+
+	/**
+	 * Defines the behaviors of a Codec, which converts keys or values of one type
+	 * to and from a fixed number of bytes
+	 *
+	 * @author Maggie Lin
+	 *
+	 * @param <T> the type of keys or values converted by the codec
+	 */
+	public interface Codec<T> {
+
+		/**
+		 * Returns the number of bytes written for each key or value
+		 *
+		 * @return the width of the key or value in bytes
+		 */
+		int width();
+
+		/**
+		 * Writes the given key or value to the buffer at the given offset
+		 *
+		 * @param buffer the buffer to write to
+		 * @param offset the offset of the first byte to write
+		 * @param item   the key or value to write
+		 */
+		void write(ByteBuffer buffer, int offset, T item);
+
+		/**
+		 * Returns the key or value written in the buffer at the given offset
+		 *
+		 * @param buffer the buffer to read from
+		 * @param offset the offset of the first byte to read
+		 * @return the key or value
+		 */
+		T read(ByteBuffer buffer, int offset);
+	}
+
+	/**
+	 * IntegerCodec writes Integers as 4 bytes
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private static class IntegerCodec implements Codec<Integer> {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int width() {
+			return Integer.BYTES;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(ByteBuffer buffer, int offset, Integer item) {
+			buffer.putInt(offset, item);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Integer read(ByteBuffer buffer, int offset) {
+			return buffer.getInt(offset);
+		}
+	}
+
+	/**
+	 * LongCodec writes Longs as 8 bytes
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private static class LongCodec implements Codec<Long> {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int width() {
+			return Long.BYTES;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void write(ByteBuffer buffer, int offset, Long item) {
+			buffer.putLong(offset, item);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Long read(ByteBuffer buffer, int offset) {
+			return buffer.getLong(offset);
+		}
+	}
+}
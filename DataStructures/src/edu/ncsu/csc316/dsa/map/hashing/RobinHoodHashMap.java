@@ -0,0 +1,339 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import java.util.function.BiConsumer;
+
+/**
+ * The RobinHoodHashMap is implemented as a hash table that uses linear probing
+ * with Robin Hood displacement for collision resolution.
+ *
+ * Every occupied slot records its probe distance: how far the entry sits from
+ * the bucket its hash function selected. When a new entry is inserted, it
+ * takes the slot of any resident entry that is closer to its own bucket, and
+ * the displaced entry continues probing. This keeps the probe distances of all
+ * entries nearly equal, so a search can stop as soon as it reaches a slot
+ * whose entry is closer to its bucket than the search is to its own.
+ *
+ * Removal uses backward-shift deletion instead of tombstones: the entries that
+ * follow the removed entry in its cluster are each moved back one slot. Probe
+ * sequences therefore do not grow under repeated puts and removes, and the
+ * table stays efficient with a load factor of up to 0.9.
+ *
+ * Keys, values, and probe distances are stored in parallel arrays, so the map
+ * does not allocate an entry object for every slot.
+ *
+ * The hash map uses a multiply-and-divide compression strategy for calculating
+ * hash functions. The hash map ensures expected O(1) performance of (@link
+ * Map#put), (@link Map#get), and (@link Map#remove).
+ *
+ * @author Maggie Lin
+ *
+ * @param <K> the type of keys stored in the hash map
+ * @param <V> the type of values associated with keys in the hash map
+ */
+public class RobinHoodHashMap<K, V> extends AbstractHashMap<K, V> {
+
+	/** The maximum load factor to allow before resizing the hash table */
+	private static final double MAX_LOAD_FACTOR = 0.9;
+
+	/** The probe distance recorded for an empty slot */
+	private static final int EMPTY = -1;
+
+	/** The key in each slot of the hash table */
+	private K[] keys;
+
+	/** The value in each slot of the hash table */
+	private V[] values;
+
+	/** The probe distance of the entry in each slot, or EMPTY */
+	private int[] distances;
+
+	/** Size of the Hash Table */
+	private int size;
+
+	/**
+	 * Constructs a new Robin Hood hash map. The created hash table uses the
+	 * {@link AbstractHashMap#DEFAULT_CAPACITY}
+	 */
+	public RobinHoodHashMap() {
+		this(AbstractHashMap.DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * FOR TESTING PURPOSES ONLY! Constructs a new Robin Hood hash map. The created
+	 * hash table uses the {@link AbstractHashMap#DEFAULT_CAPACITY}
+	 *
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	public RobinHoodHashMap(boolean isTesting) {
+		this(AbstractHashMap.DEFAULT_CAPACITY, isTesting);
+	}
+
+	/**
+	 * Constructs a new Robin Hood hash map. The created hash table is initialized
+	 * to have the provided capacity.
+	 *
+	 * @param capacity the initial capacity of the hash table
+	 */
+	public RobinHoodHashMap(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * FOR TESTING PURPOSES ONLY! Constructs a new Robin Hood hash map. The created
+	 * hash table is initialized to have the provided capacity.
+	 *
+	 * @param capacity  the initial capacity of the hash table
+	 * @param isTesting if true, the hash table uses a predictable series of random
+	 *                  values for deterministic and repeatable testing
+	 */
+	public RobinHoodHashMap(int capacity, boolean isTesting) {
+		super(capacity, isTesting);
+	}
+
+	/**
+	 * Constructs a Robin Hood hash map that shares the hash function of the given
+	 * map. The caller must assign the table.
+	 *
+	 * @param other the map whose hash function is shared
+	 */
+	private RobinHoodHashMap(RobinHoodHashMap<K, V> other) {
+		super(other);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterable<Entry<K, V>> entrySet() {
+		finishResize();
+		EntryCollection collection = new EntryCollection();
+		for (int i = 0; i < keys.length; i++) {
+			if (distances[i] != EMPTY) {
+				collection.add(new MapEntry<K, V>(keys[i], values[i]));
+			}
+		}
+		return collection;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		finishResize();
+		for (int i = 0; i < keys.length; i++) {
+			if (distances[i] != EMPTY) {
+				action.accept(keys[i], values[i]);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public void createTable(int capacity) {
+		keys = (K[]) new Object[capacity];
+		values = (V[]) new Object[capacity];
+		distances = new int[capacity];
+		for (int i = 0; i < capacity; i++) {
+			distances[i] = EMPTY;
+		}
+		size = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketGet(int hash, K key) {
+		int idx = findSlot(hash, key);
+		if (idx < 0) {
+			return null;
+		}
+		return values[idx];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketPut(int hash, K key, V value) {
+		int idx = hash;
+		int distance = 0;
+		while (distances[idx] != EMPTY && distances[idx] >= distance) {
+			if (distances[idx] == distance && keys[idx].equals(key)) {
+				V answer = values[idx];
+				values[idx] = value;
+				return answer;
+			}
+			idx = next(idx);
+			distance++;
+		}
+
+		// The key is not in the table; insert it here and push every entry that
+		// is closer to its own bucket one slot further along
+		K carryKey = key;
+		V carryValue = value;
+		int carryDistance = distance;
+		while (distances[idx] != EMPTY) {
+			if (distances[idx] < carryDistance) {
+				K tempKey = keys[idx];
+				V tempValue = values[idx];
+				int tempDistance = distances[idx];
+				keys[idx] = carryKey;
+				values[idx] = carryValue;
+				distances[idx] = carryDistance;
+				carryKey = tempKey;
+				carryValue = tempValue;
+				carryDistance = tempDistance;
+			}
+			idx = next(idx);
+			carryDistance++;
+		}
+		keys[idx] = carryKey;
+		values[idx] = carryValue;
+		distances[idx] = carryDistance;
+		size++;
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V bucketRemove(int hash, K key) {
+		int idx = findSlot(hash, key);
+		if (idx < 0) {
+			return null;
+		}
+		V answer = values[idx];
+		removeSlot(idx);
+		return answer;
+	}
+
+	/**
+	 * Returns the index of the slot that holds the given key
+	 *
+	 * @param hash the index of the bucket selected by the key's hash function
+	 * @param key  the key of the entry to locate
+	 * @return the index of the slot that contains the key, or -1 if the key is
+	 *         not in the table
+	 */
+	private int findSlot(int hash, K key) {
+		int idx = hash;
+		int distance = 0;
+		// Every entry further along is either closer to its own bucket or
+		// belongs to a different cluster, so the search can stop early
+		while (distances[idx] != EMPTY && distances[idx] >= distance) {
+			if (distances[idx] == distance && keys[idx].equals(key)) {
+				return idx;
+			}
+			idx = next(idx);
+			distance++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Empties the slot at the given index and moves each following entry of the
+	 * cluster back one slot, closer to its bucket
+	 *
+	 * @param index the index of the slot to empty
+	 */
+	private void removeSlot(int index) {
+		int idx = index;
+		int following = next(idx);
+		while (distances[following] > 0) {
+			keys[idx] = keys[following];
+			values[idx] = values[following];
+			distances[idx] = distances[following] - 1;
+			idx = following;
+			following = next(following);
+		}
+		keys[idx] = null;
+		values[idx] = null;
+		distances[idx] = EMPTY;
+		size--;
+	}
+
+	/**
+	 * Returns the index of the slot after the given slot, wrapping around to the
+	 * start of the table
+	 *
+	 * @param index the index of a slot
+	 * @return the index of the following slot
+	 */
+	private int next(int index) {
+		return index + 1 == keys.length ? 0 : index + 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size + migratingSize();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int capacity() {
+		return keys.length;
+	}
+
+	/**
+	 * Returns the maximum load factor of a Robin Hood hash table, 0.9
+	 *
+	 * @return the maximum load factor
+	 */
+	@Override
+	protected double maxLoadFactor() {
+		return MAX_LOAD_FACTOR;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+		RobinHoodHashMap<K, V> old = new RobinHoodHashMap<K, V>(this);
+		old.keys = keys;
+		old.values = values;
+		old.distances = distances;
+		old.size = size;
+		createTable(newCapacity);
+		return old;
+	}
+
+	/**
+	 * {@inheritDoc} Removing an entry shifts the following entries of its cluster
+	 * back into the slot, so the slot is emptied repeatedly until no entry that
+	 * belongs to an earlier bucket is left behind it.
+	 */
+	@Override
+	protected void transferBucket(int index, AbstractHashMap<K, V> target) {
+		while (distances[index] != EMPTY) {
+			target.putMigrated(keys[index], values[index]);
+			removeSlot(index);
+		}
+	}
+
+	/**
+	 * {@inheritDoc} The probe length of an entry is its distance from its home
+	 * slot plus one. Removals shift entries back, so no deleted slots remain.
+	 */
+	@Override
+	protected void collectStats(HashMapStats stats) {
+		for (int i = 0; i < keys.length; i++) {
+			stats.recordSlot(distances[i] != EMPTY);
+			if (distances[i] != EMPTY) {
+				stats.recordProbeLength(distances[i] + 1);
+			}
+		}
+	}
+}
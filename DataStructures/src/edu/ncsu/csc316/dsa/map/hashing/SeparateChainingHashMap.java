@@ -1,7 +1,13 @@
 package edu.ncsu.csc316.dsa.map.hashing;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
 import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.Position;
 import edu.ncsu.csc316.dsa.map.search_tree.AVLTreeMap;
+import edu.ncsu.csc316.dsa.map.search_tree.BinarySearchTreeMap;
 
 /**
  * The SeparateChainingHashMap is implemented as a hash table that uses separate
@@ -15,6 +21,13 @@ import edu.ncsu.csc316.dsa.map.search_tree.AVLTreeMap;
  * supports worst-case O(logn) runtime for (@see Map#put), (@see Map#get), and
  * (@link Map#remove) within each bucket.
  * 
+ * Buckets adapt to the number of entries they hold. A bucket with at most
+ * {@link #TREEIFY_THRESHOLD} entries is a compact array of alternating keys and
+ * values, sorted by key, so a bucket with one entry costs a single small array
+ * instead of a whole tree. A bucket that grows past the threshold becomes an
+ * {@link AVLTreeMap}, and it becomes an array again once removals shrink it to
+ * {@link #UNTREEIFY_THRESHOLD} entries.
+ * 
  * The SeparateChainingHashMap class is based on the implementation developed
  * for use with the textbook:
  *
@@ -33,8 +46,17 @@ import edu.ncsu.csc316.dsa.map.search_tree.AVLTreeMap;
  */
 public class SeparateChainingHashMap<K extends Comparable<K>, V> extends AbstractHashMap<K, V> {
 
-	/** Hash Table represented by an array of separate AVL maps */
-	private Map<K, V>[] table;
+	/** Buckets with more entries than this are stored as AVL maps */
+	static final int TREEIFY_THRESHOLD = 8;
+
+	/** AVL map buckets with this many entries or fewer are stored as arrays */
+	static final int UNTREEIFY_THRESHOLD = 6;
+
+	/**
+	 * Hash Table represented by an array of buckets. Each bucket is null, an
+	 * Object[] of sorted alternating keys and values, or an AVL map.
+	 */
+	private Object[] table;
 
 	/** Size of the Hash Table */
 	private int size;
@@ -86,38 +108,59 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Constructs a separate chaining hash map that shares the hash function of
+	 * the given map. The caller must assign the table.
+	 * 
+	 * @param other the map whose hash function is shared
+	 */
+	private SeparateChainingHashMap(SeparateChainingHashMap<K, V> other) {
+		super(other);
+		size = 0;
+	}
+
+	/**
+	 * {@inheritDoc} The entries are not copied: the returned collection iterates
+	 * over the buckets of the hash table itself, so the map must not be changed
+	 * while it is being iterated.
 	 */
 	@Override
 	public Iterable<Entry<K, V>> entrySet() {
-		EntryCollection collection = new EntryCollection();
+		finishResize();
+		return new TableIterable();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		finishResize();
 		for (int i = 0; i < table.length; i++) {
-			if (table[i] != null) {
-				// Each bucket contains a map, so include
-				// all entries in the entrySet for the map
-				// at the current bucket
-				for (Entry<K, V> entry : table[i].entrySet()) {
-					collection.add(entry);
+			if (table[i] instanceof Object[]) {
+				Object[] bucket = (Object[]) table[i];
+				for (int j = 0; j < bucket.length; j += 2) {
+					action.accept(key(bucket, j), value(bucket, j));
 				}
+			} else if (table[i] != null) {
+				tree(table[i]).forEach(action);
 			}
 		}
-		return collection;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public void createTable(int capacity) {
-		// You can choose to use any EFFICIENT secondary map.
+		// Large buckets use an EFFICIENT secondary map.
 		// UnorderedLinkedMap, SearchTableMap, and BinarySearchTreeMap are NOT the most
 		// efficient maps we have discussed this semester since UnorderedLinkedMap has
 		// O(n) put, get, and remove; SearchTableMap has O(n) put and remove; and
 		// BinarySearchTreeMap has O(n) put, get, and remove. Therefore, use a
 		// SkipListMap with expected O(logn) runtime, or a balanced binary search tree
-		// for guaranteed O(logn) worst-case runtime.
-		table = new AVLTreeMap[capacity];
+		// for guaranteed O(logn) worst-case runtime. Small buckets are arrays,
+		// which are bounded in length and so also take O(1) time.
+		table = new Object[capacity];
 		size = 0;
 	}
 
@@ -127,13 +170,18 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
 	@Override
 	public V bucketGet(int hash, K key) {
 		// Get the bucket at the specified index in the hash table
-		Map<K, V> bucket = table[hash];
-		// If there is no map in the bucket, then the entry does not exist
+		Object bucket = table[hash];
+		// If there is nothing in the bucket, then the entry does not exist
 		if (bucket == null) {
 			return null;
 		}
+		if (bucket instanceof Object[]) {
+			Object[] entries = (Object[]) bucket;
+			int idx = find(entries, key);
+			return idx < 0 ? null : value(entries, idx);
+		}
 		// Otherwise, delegate to the existing map's get method to return the value
-		return bucket.get(key);
+		return tree(bucket).get(key);
 	}
 
 	/**
@@ -141,14 +189,34 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
 	 */
 	@Override
 	public V bucketPut(int hash, K key, V value) {
-		Map<K, V> bucket = table[hash];
+		Object bucket = table[hash];
 		if (bucket == null) {
-			table[hash] = new AVLTreeMap<K, V>();
-			bucket = table[hash];
+			table[hash] = new Object[] { key, value };
+			size++;
+			return null;
+		}
+		if (bucket instanceof Object[]) {
+			Object[] entries = (Object[]) bucket;
+			int idx = find(entries, key);
+			if (idx >= 0) {
+				V answer = value(entries, idx);
+				entries[idx + 1] = value;
+				return answer;
+			}
+			idx = -(idx + 1);
+			Object[] grown = new Object[entries.length + 2];
+			System.arraycopy(entries, 0, grown, 0, idx);
+			grown[idx] = key;
+			grown[idx + 1] = value;
+			System.arraycopy(entries, idx, grown, idx + 2, entries.length - idx);
+			table[hash] = grown.length / 2 > TREEIFY_THRESHOLD ? treeify(grown) : grown;
+			size++;
+			return null;
 		}
-		int oldSize = bucket.size();
-		V answer = bucket.put(key, value);
-		size += bucket.size() - oldSize;
+		Map<K, V> tree = tree(bucket);
+		int oldSize = tree.size();
+		V answer = tree.put(key, value);
+		size += tree.size() - oldSize;
 		return answer;
 	}
 
@@ -157,22 +225,138 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
 	 */
 	@Override
 	public V bucketRemove(int hash, K key) {
-		Map<K, V> bucket = table[hash];
+		Object bucket = table[hash];
 		if (bucket == null) {
 			return null;
 		}
-		int oldSize = bucket.size();
-		V answer = bucket.remove(key);
-		size -= oldSize - bucket.size();
+		if (bucket instanceof Object[]) {
+			Object[] entries = (Object[]) bucket;
+			int idx = find(entries, key);
+			if (idx < 0) {
+				return null;
+			}
+			V answer = value(entries, idx);
+			if (entries.length == 2) {
+				table[hash] = null;
+			} else {
+				Object[] shrunk = new Object[entries.length - 2];
+				System.arraycopy(entries, 0, shrunk, 0, idx);
+				System.arraycopy(entries, idx + 2, shrunk, idx, entries.length - idx - 2);
+				table[hash] = shrunk;
+			}
+			size--;
+			return answer;
+		}
+		Map<K, V> tree = tree(bucket);
+		int oldSize = tree.size();
+		V answer = tree.remove(key);
+		size -= oldSize - tree.size();
+		if (tree.size() <= UNTREEIFY_THRESHOLD) {
+			table[hash] = untreeify(tree);
+		}
 		return answer;
 	}
 
+	/**
+	 * Returns the index of the given key in an array bucket, or, if the key is
+	 * not in the bucket, -(i + 1) where i is the index at which the key belongs
+	 * 
+	 * @param entries the array bucket of sorted alternating keys and values
+	 * @param key     the key to locate
+	 * @return the index of the key, or -(i + 1) for the index i where it belongs
+	 */
+	private int find(Object[] entries, K key) {
+		int idx = 0;
+		while (idx < entries.length) {
+			int comparison = key.compareTo(key(entries, idx));
+			if (comparison == 0) {
+				return idx;
+			}
+			if (comparison < 0) {
+				break;
+			}
+			idx += 2;
+		}
+		return -(idx + 1);
+	}
+
+	/**
+	 * Returns an AVL map that holds the entries of the given array bucket
+	 * 
+	 * @param entries the array bucket of sorted alternating keys and values
+	 * @return the AVL map bucket
+	 */
+	private Map<K, V> treeify(Object[] entries) {
+		Map<K, V> tree = new AVLTreeMap<K, V>();
+		for (int i = 0; i < entries.length; i += 2) {
+			tree.put(key(entries, i), value(entries, i));
+		}
+		return tree;
+	}
+
+	/**
+	 * Returns an array bucket that holds the entries of the given AVL map
+	 * 
+	 * @param tree the AVL map bucket
+	 * @return the array bucket of sorted alternating keys and values, or null if
+	 *         the map is empty
+	 */
+	private Object[] untreeify(Map<K, V> tree) {
+		if (tree.isEmpty()) {
+			return null;
+		}
+		Object[] entries = new Object[tree.size() * 2];
+		int idx = 0;
+		// The AVL map returns its entries in sorted order
+		for (Entry<K, V> entry : tree.entrySet()) {
+			entries[idx++] = entry.getKey();
+			entries[idx++] = entry.getValue();
+		}
+		return entries;
+	}
+
+	/**
+	 * Returns the key at the given index of an array bucket
+	 * 
+	 * @param entries the array bucket
+	 * @param idx     the index of the key
+	 * @return the key
+	 */
+	@SuppressWarnings("unchecked")
+	private K key(Object[] entries, int idx) {
+		return (K) entries[idx];
+	}
+
+	/**
+	 * Returns the value that follows the key at the given index of an array
+	 * bucket
+	 * 
+	 * @param entries the array bucket
+	 * @param idx     the index of the key
+	 * @return the value associated with the key
+	 */
+	@SuppressWarnings("unchecked")
+	private V value(Object[] entries, int idx) {
+		return (V) entries[idx + 1];
+	}
+
+	/**
+	 * Returns the given bucket as an AVL map
+	 * 
+	 * @param bucket a bucket that holds an AVL map
+	 * @return the AVL map
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<K, V> tree(Object bucket) {
+		return (Map<K, V>) bucket;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public int size() {
-		return size;
+		return size + migratingSize();
 	}
 
 	/**
@@ -182,4 +366,177 @@ public class SeparateChainingHashMap<K extends Comparable<K>, V> extends Abstrac
 	protected int capacity() {
 		return table.length;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected AbstractHashMap<K, V> detachTable(int newCapacity) {
+		SeparateChainingHashMap<K, V> old = new SeparateChainingHashMap<K, V>(this);
+		old.table = table;
+		old.size = size;
+		createTable(newCapacity);
+		return old;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void transferBucket(int index, AbstractHashMap<K, V> target) {
+		Object bucket = table[index];
+		if (bucket instanceof Object[]) {
+			Object[] entries = (Object[]) bucket;
+			for (int i = 0; i < entries.length; i += 2) {
+				target.putMigrated(key(entries, i), value(entries, i));
+			}
+			size -= entries.length / 2;
+			table[index] = null;
+		} else if (bucket != null) {
+			Map<K, V> tree = tree(bucket);
+			for (Entry<K, V> entry : tree.entrySet()) {
+				target.putMigrated(entry.getKey(), entry.getValue());
+			}
+			size -= tree.size();
+			table[index] = null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc} The probe length of an entry is its position in an array
+	 * bucket plus one, or its depth in a tree bucket.
+	 */
+	@Override
+	protected void collectStats(HashMapStats stats) {
+		for (int i = 0; i < table.length; i++) {
+			if (table[i] instanceof Object[]) {
+				Object[] entries = (Object[]) table[i];
+				stats.recordChainLength(entries.length / 2);
+				for (int j = 0; j < entries.length; j += 2) {
+					stats.recordProbeLength(j / 2 + 1);
+				}
+			} else if (table[i] != null) {
+				BinarySearchTreeMap<K, V> tree = (BinarySearchTreeMap<K, V>) tree(table[i]);
+				stats.recordChainLength(tree.size());
+				stats.recordTreeHeight(collectDepths(tree, tree.root(), 1, stats));
+			}
+		}
+	}
+
+	/**
+	 * Records the depth of every entry in the subtree rooted at the given
+	 * position as its probe length
+	 * 
+	 * @param tree  the tree bucket
+	 * @param p     the root of the subtree
+	 * @param depth the depth of the given position, where the root has depth 1
+	 * @param stats the statistics in which to record the depths
+	 * @return the height of the subtree, counted in entries
+	 */
+	private int collectDepths(BinarySearchTreeMap<K, V> tree, Position<Entry<K, V>> p, int depth,
+			HashMapStats stats) {
+		if (!tree.isInternal(p)) {
+			return 0;
+		}
+		stats.recordProbeLength(depth);
+		int left = collectDepths(tree, tree.left(p), depth + 1, stats);
+		int right = collectDepths(tree, tree.right(p), depth + 1, stats);
+		return 1 + Math.max(left, right);
+	}
+
+	/**
+	 * TableIterable allows iterating over the entries in the buckets of the hash
+	 * table without copying them
+	 * 
+	 * @author Maggie Lin
+	 *
+	 */
+	private class TableIterable implements Iterable<Entry<K, V>> {
+
+		/**
+		 * Return an iterator over the entries in the hash table
+		 * 
+		 * @return an iterator over the entries in the hash table
+		 */
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new TableIterator();
+		}
+	}
+
+	/**
+	 * TableIterator visits the buckets of the hash table in order, and the
+	 * entries of each bucket in sorted order
+	 * 
+	 * @author Maggie Lin
+	 *
+	 */
+	private class TableIterator implements Iterator<Entry<K, V>> {
+
+		/** The index of the next bucket to visit */
+		private int index;
+
+		/** The array bucket being visited, or null */
+		private Object[] entries;
+
+		/** The index of the next key in the array bucket */
+		private int entryIndex;
+
+		/** The iterator of the tree bucket being visited, or null */
+		private Iterator<Entry<K, V>> treeIterator;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			while (true) {
+				if (entries != null && entryIndex < entries.length) {
+					return true;
+				}
+				if (treeIterator != null && treeIterator.hasNext()) {
+					return true;
+				}
+				entries = null;
+				treeIterator = null;
+				if (index == table.length) {
+					return false;
+				}
+				Object bucket = table[index++];
+				if (bucket instanceof Object[]) {
+					entries = (Object[]) bucket;
+					entryIndex = 0;
+				} else if (bucket != null) {
+					treeIterator = tree(bucket).entrySet().iterator();
+				}
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (treeIterator != null) {
+				return treeIterator.next();
+			}
+			// Array buckets do not store entry objects, so one is created
+			Entry<K, V> entry = new MapEntry<K, V>(key(entries, entryIndex), value(entries, entryIndex));
+			entryIndex += 2;
+			return entry;
+		}
+
+		/**
+		 * Do not allow for remove operation
+		 * 
+		 * @throws UnsupportedOperationException when remove operation is called
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("The remove operation is not supported yet.");
+		}
+	}
+}
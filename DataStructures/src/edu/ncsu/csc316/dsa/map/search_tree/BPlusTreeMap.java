@@ -0,0 +1,805 @@
+package edu.ncsu.csc316.dsa.map.search_tree;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+import edu.ncsu.csc316.dsa.map.AbstractOrderedMap;
+
+/**
+ * A BPlusTreeMap is an ordered map stored in a B+ tree. Every node holds up to
+ * {@code order} keys in arrays, so a lookup visits O(log n / log order) nodes
+ * and compares keys that sit next to each other in memory, instead of following
+ * one pointer per comparison as the binary search tree maps do. Entries are
+ * stored only in the leaves, as parallel arrays of keys and values, and the
+ * leaves are linked from smallest to largest key so that iterating over the
+ * entries in order is a scan of consecutive arrays.
+ *
+ * Internal nodes hold separator keys: keys[i] is no larger than any key in
+ * children[i + 1] and larger than every key in children[i]. Every node except
+ * the root holds at least order / 2 keys. A node that overflows splits in two,
+ * and a node that underflows borrows a key from a sibling or merges with it, so
+ * every leaf stays at the same depth and put, get, and remove take O(log n)
+ * worst-case time.
+ *
+ * @author Maggie Lin
+ *
+ * @param <K> the type of keys stored in the map
+ * @param <V> the type of values that are associated with keys in the map
+ */
+public class BPlusTreeMap<K extends Comparable<K>, V> extends AbstractOrderedMap<K, V> {
+
+	/** The default maximum number of keys in a node */
+	public static final int DEFAULT_ORDER = 64;
+
+	/** The maximum number of keys in a node */
+	private int order;
+
+	/** The minimum number of keys in every node except the root */
+	private int minKeys;
+
+	/** The root of the tree, which is a leaf while the tree has one level */
+	private BPlusNode root;
+
+	/** The leaf that holds the smallest keys */
+	private LeafNode head;
+
+	/** The number of entries stored in the map */
+	private int size;
+
+	/** The number of internal node levels above the leaves */
+	private int height;
+
+	/** The internal nodes visited by the most recent put or remove, by level */
+	private InternalNode[] path;
+
+	/** The index of the child followed from each node in {@link #path} */
+	private int[] pathIndex;
+
+	/**
+	 * Constructs a new BPlusTreeMap with the {@link #DEFAULT_ORDER} where keys of
+	 * entries are compared based on their natural ordering based on
+	 * {@link Comparable#compareTo}
+	 */
+	public BPlusTreeMap() {
+		this(DEFAULT_ORDER, null);
+	}
+
+	/**
+	 * Constructs a new BPlusTreeMap with the {@link #DEFAULT_ORDER} where keys of
+	 * entries are compared based on a provided {@link Comparator}
+	 *
+	 * @param compare a Comparator that defines comparisons rules for keys in the
+	 *                map
+	 */
+	public BPlusTreeMap(Comparator<K> compare) {
+		this(DEFAULT_ORDER, compare);
+	}
+
+	/**
+	 * Constructs a new BPlusTreeMap with the given order where keys of entries
+	 * are compared based on a provided {@link Comparator}
+	 *
+	 * @param order   the maximum number of keys in a node, at least 3
+	 * @param compare a Comparator that defines comparisons rules for keys in the
+	 *                map, or null to use the natural ordering
+	 * @throws IllegalArgumentException if the order is less than 3
+	 */
+	public BPlusTreeMap(int order, Comparator<K> compare) {
+		super(compare);
+		if (order < 3) {
+			throw new IllegalArgumentException("The order of a B+ tree must be at least 3.");
+		}
+		this.order = order;
+		minKeys = order / 2;
+		head = new LeafNode(order);
+		root = head;
+		size = 0;
+		height = 0;
+		path = new InternalNode[4];
+		pathIndex = new int[4];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V get(K key) {
+		LeafNode leaf = leafFor(key);
+		int idx = search(leaf, key);
+		return idx < 0 ? null : value(leaf, idx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V put(K key, V value) {
+		LeafNode leaf = descend(key);
+		int idx = search(leaf, key);
+		if (idx >= 0) {
+			V original = value(leaf, idx);
+			leaf.values[idx] = value;
+			return original;
+		}
+		idx = -(idx + 1);
+		System.arraycopy(leaf.keys, idx, leaf.keys, idx + 1, leaf.count - idx);
+		System.arraycopy(leaf.values, idx, leaf.values, idx + 1, leaf.count - idx);
+		leaf.keys[idx] = key;
+		leaf.values[idx] = value;
+		leaf.count++;
+		size++;
+		if (leaf.count > order) {
+			splitLeaf(leaf);
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V remove(K key) {
+		LeafNode leaf = descend(key);
+		int idx = search(leaf, key);
+		if (idx < 0) {
+			return null;
+		}
+		V original = value(leaf, idx);
+		System.arraycopy(leaf.keys, idx + 1, leaf.keys, idx, leaf.count - idx - 1);
+		System.arraycopy(leaf.values, idx + 1, leaf.values, idx, leaf.count - idx - 1);
+		leaf.count--;
+		leaf.keys[leaf.count] = null;
+		leaf.values[leaf.count] = null;
+		size--;
+		rebalance(leaf, height - 1);
+		return original;
+	}
+
+	/**
+	 * {@inheritDoc} The entries are not copied: the returned collection walks
+	 * the linked leaves, so the map must not be changed while it is being
+	 * iterated.
+	 */
+	@Override
+	public Iterable<Entry<K, V>> entrySet() {
+		return new LeafIterable();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for (LeafNode leaf = head; leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				action.accept(key(leaf, i), value(leaf, i));
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> firstEntry() {
+		return entryAfter(head, 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> lastEntry() {
+		BPlusNode node = root;
+		for (int level = 0; level < height; level++) {
+			InternalNode internal = (InternalNode) node;
+			node = internal.children[internal.count];
+		}
+		return entryBefore((LeafNode) node, node.count - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> floorEntry(K key) {
+		LeafNode leaf = leafFor(key);
+		int idx = search(leaf, key);
+		return entryBefore(leaf, idx >= 0 ? idx : -(idx + 1) - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> lowerEntry(K key) {
+		LeafNode leaf = leafFor(key);
+		int idx = search(leaf, key);
+		return entryBefore(leaf, idx >= 0 ? idx - 1 : -(idx + 1) - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> ceilingEntry(K key) {
+		LeafNode leaf = leafFor(key);
+		int idx = search(leaf, key);
+		return entryAfter(leaf, idx >= 0 ? idx : -(idx + 1));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> higherEntry(K key) {
+		LeafNode leaf = leafFor(key);
+		int idx = search(leaf, key);
+		return entryAfter(leaf, idx >= 0 ? idx + 1 : -(idx + 1));
+	}
+
+	/**
+	 * {@inheritDoc} The first entry is found by a single descent to its leaf, and
+	 * the iterator then scans the linked leaves.
+	 */
+	@Override
+	protected Iterator<Entry<K, V>> entriesFrom(K key) {
+		if (key == null) {
+			return new LeafIterator(head, 0);
+		}
+		LeafNode leaf = leafFor(key);
+		int idx = search(leaf, key);
+		return new LeafIterator(leaf, idx >= 0 ? idx : -(idx + 1));
+	}
+
+	/**
+	 * Returns the entry at the given index of a leaf, or the last entry of the
+	 * previous leaf if the index is before the start of the leaf. Only the root
+	 * leaf can be empty, so the previous leaf always holds an entry.
+	 *
+	 * @param leaf the leaf
+	 * @param idx  the index of the entry, which may be -1
+	 * @return the entry, or null if there is no entry before the leaf
+	 */
+	private Entry<K, V> entryBefore(LeafNode leaf, int idx) {
+		if (idx < 0) {
+			leaf = leaf.prev;
+			if (leaf == null) {
+				return null;
+			}
+			idx = leaf.count - 1;
+		}
+		return new MapEntry<K, V>(key(leaf, idx), value(leaf, idx));
+	}
+
+	/**
+	 * Returns the entry at the given index of a leaf, or the first entry of the
+	 * next leaf if the index is past the end of the leaf
+	 *
+	 * @param leaf the leaf
+	 * @param idx  the index of the entry, which may be the number of keys in the
+	 *             leaf
+	 * @return the entry, or null if there is no entry after the leaf
+	 */
+	private Entry<K, V> entryAfter(LeafNode leaf, int idx) {
+		if (idx >= leaf.count) {
+			leaf = leaf.next;
+			if (leaf == null) {
+				return null;
+			}
+			idx = 0;
+		}
+		return new MapEntry<K, V>(key(leaf, idx), value(leaf, idx));
+	}
+
+	/**
+	 * Returns the leaf that holds or would hold the given key, without recording
+	 * the path
+	 *
+	 * @param key the key to locate
+	 * @return the leaf whose range of keys contains the key
+	 */
+	private LeafNode leafFor(K key) {
+		BPlusNode node = root;
+		for (int level = 0; level < height; level++) {
+			InternalNode internal = (InternalNode) node;
+			node = internal.children[childIndex(internal, key)];
+		}
+		return (LeafNode) node;
+	}
+
+	/**
+	 * Returns the leaf that holds or would hold the given key, recording the
+	 * internal nodes on the way in {@link #path} and {@link #pathIndex}
+	 *
+	 * @param key the key to locate
+	 * @return the leaf for the key
+	 */
+	private LeafNode descend(K key) {
+		if (path.length < height) {
+			path = Arrays.copyOf(path, 2 * height);
+			pathIndex = Arrays.copyOf(pathIndex, 2 * height);
+		}
+		BPlusNode node = root;
+		for (int level = 0; level < height; level++) {
+			InternalNode internal = (InternalNode) node;
+			int idx = childIndex(internal, key);
+			path[level] = internal;
+			pathIndex[level] = idx;
+			node = internal.children[idx];
+		}
+		return (LeafNode) node;
+	}
+
+	/**
+	 * Returns the index of the child of an internal node whose subtree holds or
+	 * would hold the given key, which is the number of separator keys that are
+	 * no larger than the key
+	 *
+	 * @param node the internal node
+	 * @param key  the key to locate
+	 * @return the index of the child to follow
+	 */
+	private int childIndex(InternalNode node, K key) {
+		int low = 0;
+		int high = node.count;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compare(key(node, mid), key) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the given key in a leaf, or, if the key is not in the
+	 * leaf, -(i + 1) where i is the index at which the key belongs
+	 *
+	 * @param leaf the leaf to search
+	 * @param key  the key to locate
+	 * @return the index of the key, or -(i + 1) for the index i where it belongs
+	 */
+	private int search(LeafNode leaf, K key) {
+		int low = 0;
+		int high = leaf.count - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int comparison = compare(key(leaf, mid), key);
+			if (comparison < 0) {
+				low = mid + 1;
+			} else if (comparison > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Splits a leaf that holds one key too many, moving its larger half into a
+	 * new leaf that follows it, and adds the new leaf to the parent
+	 *
+	 * @param leaf the leaf to split
+	 */
+	private void splitLeaf(LeafNode leaf) {
+		LeafNode right = new LeafNode(order);
+		int mid = (leaf.count + 1) / 2;
+		right.count = leaf.count - mid;
+		System.arraycopy(leaf.keys, mid, right.keys, 0, right.count);
+		System.arraycopy(leaf.values, mid, right.values, 0, right.count);
+		Arrays.fill(leaf.keys, mid, leaf.count, null);
+		Arrays.fill(leaf.values, mid, leaf.count, null);
+		leaf.count = mid;
+		right.next = leaf.next;
+		right.prev = leaf;
+		if (right.next != null) {
+			right.next.prev = right;
+		}
+		leaf.next = right;
+		insertInParent(height - 1, right.keys[0], right);
+	}
+
+	/**
+	 * Adds a new node and the separator key before it to the internal node at
+	 * the given level of {@link #path}, splitting internal nodes up the path as
+	 * long as they overflow, and adding a new root if the old root splits
+	 *
+	 * @param level the level of the parent in {@link #path}, or -1 if the node
+	 *              that split is the root
+	 * @param key   the smallest key in the subtree of the new node
+	 * @param right the new node, which follows the child at the recorded index
+	 */
+	private void insertInParent(int level, Object key, BPlusNode right) {
+		while (level >= 0) {
+			InternalNode parent = path[level];
+			int idx = pathIndex[level];
+			System.arraycopy(parent.keys, idx, parent.keys, idx + 1, parent.count - idx);
+			System.arraycopy(parent.children, idx + 1, parent.children, idx + 2, parent.count - idx);
+			parent.keys[idx] = key;
+			parent.children[idx + 1] = right;
+			parent.count++;
+			if (parent.count <= order) {
+				return;
+			}
+			// The middle key moves up to the grandparent instead of staying in
+			// either half
+			int mid = parent.count / 2;
+			InternalNode sibling = new InternalNode(order);
+			sibling.count = parent.count - mid - 1;
+			System.arraycopy(parent.keys, mid + 1, sibling.keys, 0, sibling.count);
+			System.arraycopy(parent.children, mid + 1, sibling.children, 0, sibling.count + 1);
+			key = parent.keys[mid];
+			Arrays.fill(parent.keys, mid, parent.count, null);
+			Arrays.fill(parent.children, mid + 1, parent.count + 1, null);
+			parent.count = mid;
+			right = sibling;
+			level--;
+		}
+		InternalNode newRoot = new InternalNode(order);
+		newRoot.keys[0] = key;
+		newRoot.children[0] = root;
+		newRoot.children[1] = right;
+		newRoot.count = 1;
+		root = newRoot;
+		height++;
+	}
+
+	/**
+	 * Restores the minimum number of keys in a node after a removal by borrowing
+	 * a key from a sibling or merging with it, continuing up the path while
+	 * merges leave the parent underfull, and removes the root if it is left with
+	 * a single child
+	 *
+	 * @param node  the node that lost a key
+	 * @param level the level of the node's parent in {@link #path}, or -1 if the
+	 *              node is the root
+	 */
+	private void rebalance(BPlusNode node, int level) {
+		while (level >= 0 && node.count < minKeys) {
+			InternalNode parent = path[level];
+			int idx = pathIndex[level];
+			BPlusNode left = idx > 0 ? parent.children[idx - 1] : null;
+			BPlusNode right = idx < parent.count ? parent.children[idx + 1] : null;
+			if (left != null && left.count > minKeys) {
+				borrowFromLeft(parent, idx, left, node);
+				return;
+			}
+			if (right != null && right.count > minKeys) {
+				borrowFromRight(parent, idx, node, right);
+				return;
+			}
+			if (left != null) {
+				merge(parent, idx - 1, left, node);
+			} else {
+				merge(parent, idx, node, right);
+			}
+			node = parent;
+			level--;
+		}
+		if (root.count == 0 && height > 0) {
+			root = ((InternalNode) root).children[0];
+			height--;
+		}
+	}
+
+	/**
+	 * Moves the largest key of a node's left sibling into the node
+	 *
+	 * @param parent the parent of both nodes
+	 * @param idx    the index of the node in the parent
+	 * @param left   the left sibling, which has more than the minimum keys
+	 * @param node   the node that is missing a key
+	 */
+	private void borrowFromLeft(InternalNode parent, int idx, BPlusNode left, BPlusNode node) {
+		System.arraycopy(node.keys, 0, node.keys, 1, node.count);
+		if (node instanceof LeafNode) {
+			LeafNode leaf = (LeafNode) node;
+			LeafNode sibling = (LeafNode) left;
+			System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.count);
+			leaf.keys[0] = sibling.keys[sibling.count - 1];
+			leaf.values[0] = sibling.values[sibling.count - 1];
+			sibling.values[sibling.count - 1] = null;
+			parent.keys[idx - 1] = leaf.keys[0];
+		} else {
+			InternalNode internal = (InternalNode) node;
+			InternalNode sibling = (InternalNode) left;
+			System.arraycopy(internal.children, 0, internal.children, 1, internal.count + 1);
+			internal.keys[0] = parent.keys[idx - 1];
+			internal.children[0] = sibling.children[sibling.count];
+			sibling.children[sibling.count] = null;
+			parent.keys[idx - 1] = sibling.keys[sibling.count - 1];
+		}
+		left.keys[left.count - 1] = null;
+		left.count--;
+		node.count++;
+	}
+
+	/**
+	 * Moves the smallest key of a node's right sibling into the node
+	 *
+	 * @param parent the parent of both nodes
+	 * @param idx    the index of the node in the parent
+	 * @param node   the node that is missing a key
+	 * @param right  the right sibling, which has more than the minimum keys
+	 */
+	private void borrowFromRight(InternalNode parent, int idx, BPlusNode node, BPlusNode right) {
+		if (node instanceof LeafNode) {
+			LeafNode leaf = (LeafNode) node;
+			LeafNode sibling = (LeafNode) right;
+			leaf.keys[leaf.count] = sibling.keys[0];
+			leaf.values[leaf.count] = sibling.values[0];
+			System.arraycopy(sibling.values, 1, sibling.values, 0, sibling.count - 1);
+			sibling.values[sibling.count - 1] = null;
+			System.arraycopy(sibling.keys, 1, sibling.keys, 0, sibling.count - 1);
+			parent.keys[idx] = sibling.keys[0];
+		} else {
+			InternalNode internal = (InternalNode) node;
+			InternalNode sibling = (InternalNode) right;
+			internal.keys[internal.count] = parent.keys[idx];
+			internal.children[internal.count + 1] = sibling.children[0];
+			parent.keys[idx] = sibling.keys[0];
+			System.arraycopy(sibling.children, 1, sibling.children, 0, sibling.count);
+			sibling.children[sibling.count] = null;
+			System.arraycopy(sibling.keys, 1, sibling.keys, 0, sibling.count - 1);
+		}
+		right.keys[right.count - 1] = null;
+		right.count--;
+		node.count++;
+	}
+
+	/**
+	 * Moves every key of a node into its left sibling and removes the node and
+	 * the separator key between them from their parent
+	 *
+	 * @param parent the parent of both nodes
+	 * @param sep    the index of the separator key between the nodes
+	 * @param left   the node that receives the keys
+	 * @param right  the node that is removed
+	 */
+	private void merge(InternalNode parent, int sep, BPlusNode left, BPlusNode right) {
+		if (left instanceof LeafNode) {
+			LeafNode leaf = (LeafNode) left;
+			LeafNode sibling = (LeafNode) right;
+			System.arraycopy(sibling.keys, 0, leaf.keys, leaf.count, sibling.count);
+			System.arraycopy(sibling.values, 0, leaf.values, leaf.count, sibling.count);
+			leaf.count += sibling.count;
+			leaf.next = sibling.next;
+			if (leaf.next != null) {
+				leaf.next.prev = leaf;
+			}
+		} else {
+			InternalNode internal = (InternalNode) left;
+			InternalNode sibling = (InternalNode) right;
+			// The separator comes back down between the two halves
+			internal.keys[internal.count] = parent.keys[sep];
+			System.arraycopy(sibling.keys, 0, internal.keys, internal.count + 1, sibling.count);
+			System.arraycopy(sibling.children, 0, internal.children, internal.count + 1, sibling.count + 1);
+			internal.count += sibling.count + 1;
+		}
+		System.arraycopy(parent.keys, sep + 1, parent.keys, sep, parent.count - sep - 1);
+		System.arraycopy(parent.children, sep + 2, parent.children, sep + 1, parent.count - sep - 1);
+		parent.count--;
+		parent.keys[parent.count] = null;
+		parent.children[parent.count + 1] = null;
+	}
+
+	/**
+	 * Returns the key at the given index of a node
+	 *
+	 * @param node the node
+	 * @param idx  the index of the key
+	 * @return the key
+	 */
+	@SuppressWarnings("unchecked")
+	private K key(BPlusNode node, int idx) {
+		return (K) node.keys[idx];
+	}
+
+	/**
+	 * Returns the value at the given index of a leaf
+	 *
+	 * @param leaf the leaf
+	 * @param idx  the index of the value
+	 * @return the value
+	 */
+	@SuppressWarnings("unchecked")
+	private V value(LeafNode leaf, int idx) {
+		return (V) leaf.values[idx];
+	}
+
+	/**
+	 * Returns a string representation of the keys in the map, in order
+	 *
+	 * @return a string representation of the keys in the map
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("BPlusTreeMap[");
+		String separator = "";
+		for (LeafNode leaf = head; leaf != null; leaf = leaf.next) {
+			for (int i = 0; i < leaf.count; i++) {
+				sb.append(separator).append(leaf.keys[i]);
+				separator = ", ";
+			}
+		}
+		sb.append("]");
+		return sb.toString();
+	}
+
+	/**
+	 * BPlusNode holds the sorted keys that every node of the tree has
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private abstract static class BPlusNode {
+
+		/**
+		 * The keys of the node, with room for one key too many before a split. The
+		 * fields are not private so that they can be reached through the leaf and
+		 * internal node types.
+		 */
+		Object[] keys;
+
+		/** The number of keys in the node */
+		int count;
+
+		/**
+		 * Constructs an empty node for a tree of the given order
+		 *
+		 * @param order the maximum number of keys in a node
+		 */
+		BPlusNode(int order) {
+			keys = new Object[order + 1];
+		}
+	}
+
+	/**
+	 * LeafNode holds entries as parallel arrays of keys and values, and links to
+	 * the leaves with the next smaller and next larger keys
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private static class LeafNode extends BPlusNode {
+
+		/** The values of the entries, in the same order as the keys */
+		private Object[] values;
+
+		/** The leaf with the next larger keys, or null for the last leaf */
+		private LeafNode next;
+
+		/** The leaf with the next smaller keys, or null for the first leaf */
+		private LeafNode prev;
+
+		/**
+		 * Constructs an empty leaf for a tree of the given order
+		 *
+		 * @param order the maximum number of keys in a node
+		 */
+		LeafNode(int order) {
+			super(order);
+			values = new Object[order + 1];
+		}
+	}
+
+	/**
+	 * InternalNode holds separator keys and one more child than keys
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private static class InternalNode extends BPlusNode {
+
+		/** The children of the node */
+		private BPlusNode[] children;
+
+		/**
+		 * Constructs an empty internal node for a tree of the given order
+		 *
+		 * @param order the maximum number of keys in a node
+		 */
+		InternalNode(int order) {
+			super(order);
+			children = new BPlusNode[order + 2];
+		}
+	}
+
+	/**
+	 * LeafIterable allows iterating over the entries in the leaves without
+	 * copying them
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private class LeafIterable implements Iterable<Entry<K, V>> {
+
+		/**
+		 * Return an iterator over the entries in key order
+		 *
+		 * @return an iterator over the entries in key order
+		 */
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new LeafIterator(head, 0);
+		}
+	}
+
+	/**
+	 * LeafIterator visits the entries of each leaf in turn, following the links
+	 * between leaves
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private class LeafIterator implements Iterator<Entry<K, V>> {
+
+		/** The leaf that holds the next entry */
+		private LeafNode leaf;
+
+		/** The index of the next entry in the leaf */
+		private int index;
+
+		/**
+		 * Constructs an iterator that starts at the given index of a leaf
+		 *
+		 * @param leaf  the leaf that holds the first entry to visit
+		 * @param index the index of the first entry in the leaf, which may be the
+		 *              number of keys in the leaf to start at the next leaf
+		 */
+		LeafIterator(LeafNode leaf, int index) {
+			this.leaf = leaf;
+			this.index = index;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			while (leaf != null && index == leaf.count) {
+				leaf = leaf.next;
+				index = 0;
+			}
+			return leaf != null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Entry<K, V> entry = new MapEntry<K, V>(key(leaf, index), value(leaf, index));
+			index++;
+			return entry;
+		}
+
+		/**
+		 * Do not allow for remove operation
+		 *
+		 * @throws UnsupportedOperationException when remove operation is called
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("The remove operation is not supported yet.");
+		}
+	}
+}
@@ -2,6 +2,8 @@ package edu.ncsu.csc316.dsa.map.search_tree;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
 
 import edu.ncsu.csc316.dsa.Position;
 import edu.ncsu.csc316.dsa.map.AbstractOrderedMap;
@@ -20,6 +22,11 @@ import edu.ncsu.csc316.dsa.tree.LinkedBinaryTree;
  * BinarySearchTreeMap uses sentinel leaves. Every leaf node should have 2
  * sentinel children.
  * 
+ * Every node also records the number of entries in its subtree, which is kept
+ * up to date by puts, removes, and rotations. This supports order statistics:
+ * {@link #rank}, {@link #select}, and {@link #countRange} trace a single path
+ * down the tree, so they take O(logn) time in the AVL and red-black trees.
+ * 
  * The BinarySearchTreeMap class is based on the implementation developed for
  * use with the textbook:
  *
@@ -82,6 +89,9 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
 		// Then add new dummy/sentinel children
 		tree.addLeft(p, null);
 		tree.addRight(p, null);
+
+		// The new entry is counted in its own subtree and in every subtree above it
+		tree.adjustSize(p, 1);
 	}
 
 	/**
@@ -182,6 +192,10 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
 			// Remove the NODE (this is your LinkedBinaryTree remove method)
 			// which will "promote" the sib node to replace p
 			remove(p);
+			// Every subtree that contained p now has one entry fewer
+			if (!isRoot(sib)) {
+				tree.adjustSize(parent(sib), -1);
+			}
 			// actionOnDelete is a "hook" for our AVL, Splay, and Red-Black Trees to use
 			actionOnDelete(sib);
 			return original;
@@ -205,13 +219,255 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
 		return parent(current);
 	}
 
+	/**
+	 * {@inheritDoc} The entries are not copied: the returned collection walks the
+	 * tree in order from each position to its successor, so the map must not be
+	 * changed while it is being iterated.
+	 */
 	@Override
 	public Iterable<Entry<K, V>> entrySet() {
-		EntryCollection collection = new EntryCollection();
-		for (Position<Entry<K, V>> n : tree.inOrder()) {
-			collection.add(n.getElement());
+		return new InOrderIterable();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		Position<Entry<K, V>> p = first();
+		while (p != null) {
+			action.accept(p.getElement().getKey(), p.getElement().getValue());
+			p = successor(p);
+		}
+	}
+
+	/**
+	 * Returns the position with the smallest key in the tree
+	 * 
+	 * @return the position with the smallest key, or null if the tree is empty
+	 */
+	private Position<Entry<K, V>> first() {
+		if (isEmpty()) {
+			return null;
+		}
+		return treeMin(root());
+	}
+
+	/**
+	 * Returns the position with the next larger key after the key of the given
+	 * position
+	 * 
+	 * @param p a position that stores an entry
+	 * @return the position of the inorder successor, or null if p has the largest
+	 *         key
+	 */
+	private Position<Entry<K, V>> successor(Position<Entry<K, V>> p) {
+		if (isInternal(right(p))) {
+			return treeMin(right(p));
+		}
+		// Climb until p is in the left subtree of its parent
+		Position<Entry<K, V>> current = p;
+		while (!isRoot(current) && current == right(parent(current))) {
+			current = parent(current);
+		}
+		return isRoot(current) ? null : parent(current);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> firstEntry() {
+		return elementOf(first());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> lastEntry() {
+		if (isEmpty()) {
+			return null;
+		}
+		Position<Entry<K, V>> current = root();
+		while (isInternal(right(current))) {
+			current = right(current);
 		}
-		return collection;
+		return current.getElement();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> floorEntry(K key) {
+		return elementOf(floor(key, true));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> lowerEntry(K key) {
+		return elementOf(floor(key, false));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> ceilingEntry(K key) {
+		return elementOf(ceiling(key, true));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Entry<K, V> higherEntry(K key) {
+		return elementOf(ceiling(key, false));
+	}
+
+	/**
+	 * {@inheritDoc} The first position is found by a single downward search, and
+	 * the iterator then moves from each position to its inorder successor.
+	 */
+	@Override
+	protected Iterator<Entry<K, V>> entriesFrom(K key) {
+		return new InOrderIterator(key == null ? first() : ceiling(key, true));
+	}
+
+	/**
+	 * Returns the position with the largest key that is less than the given key,
+	 * or equal to it if equal keys are allowed, by tracing one path down the tree
+	 * and remembering the last position at which the path turned right
+	 * 
+	 * @param key       the key to search for
+	 * @param inclusive true if a position with the key itself may be returned
+	 * @return the position with the largest such key, or null if there is none
+	 */
+	private Position<Entry<K, V>> floor(K key, boolean inclusive) {
+		Position<Entry<K, V>> candidate = null;
+		Position<Entry<K, V>> current = root();
+		while (isInternal(current)) {
+			int comp = compare(key, current.getElement().getKey());
+			if (comp == 0 && inclusive) {
+				return current;
+			}
+			if (comp > 0) {
+				candidate = current;
+				current = right(current);
+			} else {
+				current = left(current);
+			}
+		}
+		return candidate;
+	}
+
+	/**
+	 * Returns the position with the smallest key that is greater than the given
+	 * key, or equal to it if equal keys are allowed, by tracing one path down the
+	 * tree and remembering the last position at which the path turned left
+	 * 
+	 * @param key       the key to search for
+	 * @param inclusive true if a position with the key itself may be returned
+	 * @return the position with the smallest such key, or null if there is none
+	 */
+	private Position<Entry<K, V>> ceiling(K key, boolean inclusive) {
+		Position<Entry<K, V>> candidate = null;
+		Position<Entry<K, V>> current = root();
+		while (isInternal(current)) {
+			int comp = compare(key, current.getElement().getKey());
+			if (comp == 0 && inclusive) {
+				return current;
+			}
+			if (comp < 0) {
+				candidate = current;
+				current = left(current);
+			} else {
+				current = right(current);
+			}
+		}
+		return candidate;
+	}
+
+	/**
+	 * Returns the rank of the given key, which is the number of keys in the map
+	 * that are less than it. The key does not need to be in the map.
+	 * 
+	 * @param key the key to rank
+	 * @return the number of keys less than the given key
+	 */
+	public int rank(K key) {
+		int rank = 0;
+		Position<Entry<K, V>> current = root();
+		while (isInternal(current)) {
+			int comp = compare(key, current.getElement().getKey());
+			if (comp <= 0) {
+				if (comp == 0) {
+					return rank + tree.getSize(left(current));
+				}
+				current = left(current);
+			} else {
+				// Every key in the left subtree and the key at current are smaller
+				rank += tree.getSize(left(current)) + 1;
+				current = right(current);
+			}
+		}
+		return rank;
+	}
+
+	/**
+	 * Returns the entry with the given rank, so that select(0) is the entry with
+	 * the smallest key and select(size() - 1) is the entry with the largest key
+	 * 
+	 * @param index the rank of the entry
+	 * @return the entry whose key has the given rank
+	 * @throws IndexOutOfBoundsException if the index is negative or not less than
+	 *                                   the size of the map
+	 */
+	public Entry<K, V> select(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException("Index is invalid: " + index + " (size=" + size() + ")");
+		}
+		Position<Entry<K, V>> current = root();
+		while (true) {
+			int leftSize = tree.getSize(left(current));
+			if (index < leftSize) {
+				current = left(current);
+			} else if (index == leftSize) {
+				return current.getElement();
+			} else {
+				index -= leftSize + 1;
+				current = right(current);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of keys that are at least lo and less than hi, the same
+	 * range as {@link #subMap}, without visiting the entries in the range
+	 * 
+	 * @param lo the smallest key to count
+	 * @param hi the key above every key to count
+	 * @return the number of keys in the range
+	 * @throws IllegalArgumentException if lo is greater than hi
+	 */
+	public int countRange(K lo, K hi) {
+		if (compare(lo, hi) > 0) {
+			throw new IllegalArgumentException("The first key of the range must not be greater than the last.");
+		}
+		return rank(hi) - rank(lo);
+	}
+
+	/**
+	 * Returns the entry stored at the given position
+	 * 
+	 * @param p a position that stores an entry, or null
+	 * @return the entry at the position, or null if the position is null
+	 */
+	private Entry<K, V> elementOf(Position<Entry<K, V>> p) {
+		return p == null ? null : p.getElement();
 	}
 
 	@Override
@@ -357,6 +613,21 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
 				relink(parent, current.getLeft(), false);
 				relink(current, parent, true);
 			}
+			// Only the two rotated nodes have different subtrees, and the parent is
+			// now the child
+			recomputeSize(parent);
+			recomputeSize(current);
+		}
+
+		/**
+		 * Sets the size of a node that stores an entry from the sizes of its
+		 * children
+		 * 
+		 * @param node the node whose size to recompute
+		 */
+		private void recomputeSize(BinaryTreeNode<Entry<K, V>> node) {
+			BSTNode<Entry<K, V>> bstNode = (BSTNode<Entry<K, V>>) node;
+			bstNode.setSize(1 + getSize(node.getLeft()) + getSize(node.getRight()));
 		}
 
 		/**
@@ -411,6 +682,12 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
 			/** The additional information contained in a node */
 			private int property;
 
+			/**
+			 * The number of entries in the subtree rooted at the node, which is 0 for a
+			 * sentinel leaf
+			 */
+			private int size;
+
 			/**
 			 * Constructs a binary search tree node with the provided element
 			 * 
@@ -440,6 +717,24 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
 			public int getProperty() {
 				return property;
 			}
+
+			/**
+			 * Sets the number of entries in the subtree rooted at the node
+			 * 
+			 * @param size the number of entries in the subtree
+			 */
+			public void setSize(int size) {
+				this.size = size;
+			}
+
+			/**
+			 * Returns the number of entries in the subtree rooted at the node
+			 * 
+			 * @return the number of entries in the subtree
+			 */
+			public int getSize() {
+				return size;
+			}
 		}
 
 		/**
@@ -469,6 +764,37 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
 			BSTNode<Entry<K, V>> node = (BSTNode<Entry<K, V>>) (p);
 			node.setProperty(value);
 		}
+
+		/**
+		 * Returns the number of entries in the subtree rooted at a given position
+		 * 
+		 * @param p the position at the root of the subtree
+		 * @return the number of entries in the subtree, or 0 if the position is null
+		 */
+		public int getSize(Position<Entry<K, V>> p) {
+			if (p == null) {
+				return 0;
+			}
+			BSTNode<Entry<K, V>> node = (BSTNode<Entry<K, V>>) p;
+			return node.getSize();
+		}
+
+		/**
+		 * Adds a change in the number of entries to the subtree sizes of a given
+		 * position and each of its ancestors
+		 * 
+		 * @param p     the lowest position whose subtree changed
+		 * @param delta the number of entries added, or negative if entries were
+		 *              removed
+		 */
+		public void adjustSize(Position<Entry<K, V>> p, int delta) {
+			BinaryTreeNode<Entry<K, V>> node = validate(p);
+			while (node != null) {
+				BSTNode<Entry<K, V>> bstNode = (BSTNode<Entry<K, V>>) node;
+				bstNode.setSize(bstNode.getSize() + delta);
+				node = node.getParent();
+			}
+		}
 	}
 
 	/////////////////////////////////////////////////////////////////////////////
@@ -612,4 +938,77 @@ public class BinarySearchTreeMap<K extends Comparable<K>, V> extends AbstractOrd
 	protected Entry<K, V> remove(Position<Entry<K, V>> p) {
 		return tree.remove(p);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * InOrderIterable allows iterating over the entries of the tree in order
+	 * without copying them
+	 * 
+	 * @author Maggie Lin
+	 *
+	 */
+	private class InOrderIterable implements Iterable<Entry<K, V>> {
+
+		/**
+		 * Return an iterator over the entries of the tree in order
+		 * 
+		 * @return an iterator over the entries of the tree in order
+		 */
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new InOrderIterator(first());
+		}
+	}
+
+	/**
+	 * InOrderIterator visits the positions of the tree in order by moving from
+	 * each position to its inorder successor
+	 * 
+	 * @author Maggie Lin
+	 *
+	 */
+	private class InOrderIterator implements Iterator<Entry<K, V>> {
+
+		/** The position of the next entry, or null */
+		private Position<Entry<K, V>> next;
+
+		/**
+		 * Constructs an iterator that starts at the given position
+		 * 
+		 * @param start the position of the first entry to visit, or null
+		 */
+		InOrderIterator(Position<Entry<K, V>> start) {
+			next = start;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Entry<K, V> next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			Position<Entry<K, V>> current = next;
+			next = successor(current);
+			return current.getElement();
+		}
+
+		/**
+		 * Do not allow for remove operation
+		 * 
+		 * @throws UnsupportedOperationException when remove operation is called
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("The remove operation is not supported yet.");
+		}
+	}
+}
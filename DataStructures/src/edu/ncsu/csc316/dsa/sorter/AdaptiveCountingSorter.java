@@ -0,0 +1,186 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+
+/**
+ * AdaptiveCountingSorter uses a counting sort that adapts to how densely the
+ * IDs fill their range to sort data.
+ *
+ * {@link CountingSorter} allocates one counter for every value between the
+ * smallest and largest ID, so a few IDs near 0 and a few near 2^31 need
+ * gigabytes of memory. This implementation first measures the range of the IDs
+ * and then chooses one of three strategies:
+ *
+ * (a) if the range is at most a small multiple of n, it counts IDs in a dense
+ * array exactly like {@link CountingSorter}; (b) otherwise, it counts IDs in a
+ * hashed table of distinct IDs, which works as long as the roster has many
+ * duplicate IDs; and (c) if there turn out to be too many distinct IDs for the
+ * table, it falls back to {@link LSDRadixSorter}.
+ *
+ * Every strategy is stable, handles negative IDs, and uses memory proportional
+ * to n rather than to the range of the IDs.
+ *
+ * @author Maggie Lin
+ *
+ * @param <E> the generic type of data to sort
+ */
+public class AdaptiveCountingSorter<E extends Identifiable> implements Sorter<E> {
+
+	/**
+	 * The dense count array is used when the range of IDs is at most this many
+	 * times the number of elements
+	 */
+	private static final int DENSE_FACTOR = 4;
+
+	/**
+	 * The hashed count table is used when there are at most n divided by this
+	 * many distinct IDs
+	 */
+	private static final int DISTINCT_FACTOR = 8;
+
+	/** The multiplier used to spread IDs across the hashed count table */
+	private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+	/** AdaptiveCountingSorter constructor */
+	public AdaptiveCountingSorter() {
+		// Empty Constructor
+	}
+
+	/**
+	 * Sort data with the adaptive counting sort algorithm.
+	 *
+	 * @param data Data to be sorted.
+	 */
+	public void sort(E[] data) {
+		if (data.length < 2) {
+			return;
+		}
+		int[] keys = new int[data.length];
+		int min = data[0].getId();
+		int max = data[0].getId();
+		for (int i = 0; i < data.length; i++) {
+			keys[i] = data[i].getId();
+			min = Math.min(keys[i], min);
+			max = Math.max(keys[i], max);
+		}
+		long range = (long) max - min + 1;
+
+		if (range <= (long) DENSE_FACTOR * data.length) {
+			denseSort(keys, data, min, (int) range);
+		} else if (!hashedSort(keys, data)) {
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = LSDRadixSorter.toUnsignedKey(keys[i]);
+			}
+			LSDRadixSorter.sort(keys, data);
+		}
+	}
+
+	/**
+	 * Sorts the data by counting IDs in an array with one counter per value in
+	 * the range of IDs
+	 *
+	 * @param keys  the IDs of the elements
+	 * @param data  the elements to sort
+	 * @param min   the smallest ID
+	 * @param range the number of values between the smallest and largest ID
+	 */
+	private void denseSort(int[] keys, E[] data, int min, int range) {
+		int[] frequencyArr = new int[range];
+		for (int i = 0; i < keys.length; i++) {
+			frequencyArr[keys[i] - min]++;
+		}
+		for (int i = 1; i < range; i++) {
+			frequencyArr[i] = frequencyArr[i - 1] + frequencyArr[i];
+		}
+
+		@SuppressWarnings("unchecked")
+		E[] finalArr = (E[]) (new Identifiable[data.length]);
+		for (int i = data.length - 1; i >= 0; i--) {
+			frequencyArr[keys[i] - min]--;
+			finalArr[frequencyArr[keys[i] - min]] = data[i];
+		}
+		System.arraycopy(finalArr, 0, data, 0, data.length);
+	}
+
+	/**
+	 * Sorts the data by counting IDs in an open-addressing table of distinct IDs.
+	 * The table is sized for n / {@link #DISTINCT_FACTOR} distinct IDs; if the
+	 * data holds more distinct IDs than that, the data is left untouched.
+	 *
+	 * @param keys the IDs of the elements
+	 * @param data the elements to sort
+	 * @return true if the data was sorted; false if there were too many distinct
+	 *         IDs
+	 */
+	private boolean hashedSort(int[] keys, E[] data) {
+		int limit = data.length / DISTINCT_FACTOR + 1;
+		int capacity = Integer.highestOneBit(limit * 2 - 1) << 1;
+		int shift = Integer.numberOfLeadingZeros(capacity - 1);
+		int[] tableKeys = new int[capacity];
+		// A count of 0 marks an empty slot while the table is being filled
+		int[] tableCounts = new int[capacity];
+
+		int distinct = 0;
+		for (int i = 0; i < keys.length; i++) {
+			int slot = (keys[i] * HASH_MULTIPLIER) >>> shift;
+			while (tableCounts[slot] != 0 && tableKeys[slot] != keys[i]) {
+				slot = (slot + 1) & (capacity - 1);
+			}
+			if (tableCounts[slot] == 0) {
+				distinct++;
+				if (distinct > limit) {
+					return false;
+				}
+				tableKeys[slot] = keys[i];
+			}
+			tableCounts[slot]++;
+		}
+
+		// Sort the distinct IDs, then turn each count into the index at which the
+		// first element with that ID belongs
+		int[] distinctKeys = new int[distinct];
+		int index = 0;
+		for (int slot = 0; slot < capacity; slot++) {
+			if (tableCounts[slot] != 0) {
+				distinctKeys[index] = tableKeys[slot];
+				index++;
+			}
+		}
+		Arrays.sort(distinctKeys);
+		int total = 0;
+		for (int i = 0; i < distinct; i++) {
+			int slot = findSlot(tableKeys, distinctKeys[i], shift);
+			int count = tableCounts[slot];
+			tableCounts[slot] = total;
+			total += count;
+		}
+
+		@SuppressWarnings("unchecked")
+		E[] finalArr = (E[]) (new Identifiable[data.length]);
+		for (int i = 0; i < data.length; i++) {
+			int slot = findSlot(tableKeys, keys[i], shift);
+			finalArr[tableCounts[slot]] = data[i];
+			tableCounts[slot]++;
+		}
+		System.arraycopy(finalArr, 0, data, 0, data.length);
+		return true;
+	}
+
+	/**
+	 * Returns the slot of an ID that is known to be in the hashed count table
+	 *
+	 * @param tableKeys the IDs stored in the table
+	 * @param key       the ID to locate
+	 * @param shift     the shift that maps a hash to a slot
+	 * @return the slot that holds the ID
+	 */
+	private int findSlot(int[] tableKeys, int key, int shift) {
+		int slot = (key * HASH_MULTIPLIER) >>> shift;
+		while (tableKeys[slot] != key) {
+			slot = (slot + 1) & (tableKeys.length - 1);
+		}
+		return slot;
+	}
+}
@@ -32,10 +32,22 @@ public class InsertionSorter<E extends Comparable<E>> extends AbstractComparison
 	 * @param data data to be sorted.
 	 */
 	public void sort(E[] data) {
-		for (int i = 1; i <= data.length - 1; i++) {
+		sort(data, 0, data.length - 1);
+	}
+
+	/**
+	 * Sort the elements between the low and high index (inclusive) with Insertion
+	 * sort algorithm. Elements outside of the range are left untouched.
+	 * 
+	 * @param data data to be sorted.
+	 * @param low  the lowest index to sort
+	 * @param high the highest index to sort
+	 */
+	void sort(E[] data, int low, int high) {
+		for (int i = low + 1; i <= high; i++) {
 			E item = data[i];
 			int j = i - 1;
-			while (j >= 0 && super.compare(item, data[j]) < 0) {
+			while (j >= low && super.compare(item, data[j]) < 0) {
 				data[j + 1] = data[j];
 				j = j - 1;
 			}
@@ -0,0 +1,320 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+/**
+ * IntroSorter sorts arrays of comparable elements using an introspective
+ * version of the quicksort algorithm. Like {@link QuickSorter}, it partitions
+ * the array around pivots, but it differs in four ways:
+ *
+ * (a) each range is split around two pivots into three parts, (b) pivots are
+ * chosen with median-of-three (or, for large ranges, ninther) sampling around
+ * the first and second tertiles of the range, (c) ranges whose two pivots are
+ * equal are partitioned three ways so that runs of equal keys are not sorted
+ * again, and (d) the recursion depth is limited to 2log(n), after which the
+ * range is finished with heap sort. Small ranges are finished with insertion
+ * sort.
+ *
+ * The depth limit ensures O(nlogn) worst-case runtime and O(logn) stack depth
+ * to sort an array of n elements that are comparable, even on already-sorted
+ * input.
+ *
+ * @author Maggie Lin
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class IntroSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/**
+	 * Ranges with fewer elements than the cutoff are sorted with insertion sort
+	 */
+	private static final int INSERTION_CUTOFF = 24;
+
+	/**
+	 * Ranges with more elements than the cutoff use ninther pivot sampling instead
+	 * of median-of-three
+	 */
+	private static final int NINTHER_CUTOFF = 256;
+
+	/** The insertion sorter used to finish small ranges */
+	private InsertionSorter<E> insertionSorter;
+
+	/**
+	 * Constructs a new IntroSorter with a provided custom Comparator
+	 *
+	 * @param comparator a custom comparator to use when sorting
+	 */
+	public IntroSorter(Comparator<E> comparator) {
+		super(comparator);
+		insertionSorter = new InsertionSorter<E>(this::compare);
+	}
+
+	/**
+	 * Constructs a new IntroSorter that uses an element's natural ordering
+	 */
+	public IntroSorter() {
+		this(null);
+	}
+
+	/**
+	 * {@inheritDoc} Sort the array of data using the introspective dual-pivot
+	 * quick sort method
+	 */
+	@Override
+	public void sort(E[] data) {
+		sort(data, 0, data.length - 1);
+	}
+
+	/**
+	 * Sort the given range of elements using the introspective dual-pivot quick
+	 * sort method
+	 *
+	 * @param data the given array of elements
+	 * @param low  the lowest index to sort
+	 * @param high the highest index to sort
+	 */
+	void sort(E[] data, int low, int high) {
+		if (high - low < 1) {
+			return;
+		}
+		int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(high - low + 1));
+		introSort(data, low, high, depthLimit);
+	}
+
+	/**
+	 * Sort the given range of elements, switching to heap sort once the depth
+	 * limit has been used up
+	 *
+	 * @param data       the given array of elements
+	 * @param low        the lowest index to sort
+	 * @param high       the highest index to sort
+	 * @param depthLimit the number of partitioning levels left before switching to
+	 *                   heap sort
+	 */
+	private void introSort(E[] data, int low, int high, int depthLimit) {
+		if (high - low < INSERTION_CUTOFF) {
+			insertionSorter.sort(data, low, high);
+			return;
+		}
+		if (depthLimit == 0) {
+			heapSort(data, low, high);
+			return;
+		}
+		int length = high - low + 1;
+		int step = length / 8;
+		int firstPivot = selectPivot(data, low + length / 3, step, length);
+		int secondPivot = selectPivot(data, high - length / 3, step, length);
+		if (firstPivot == secondPivot || super.compare(data[firstPivot], data[secondPivot]) == 0) {
+			threeWayPartition(data, low, high, firstPivot, depthLimit - 1);
+		} else {
+			if (super.compare(data[firstPivot], data[secondPivot]) > 0) {
+				int temp = firstPivot;
+				firstPivot = secondPivot;
+				secondPivot = temp;
+			}
+			dualPivotPartition(data, low, high, firstPivot, secondPivot, depthLimit - 1);
+		}
+	}
+
+	/**
+	 * Partitions the range around two distinct pivots into elements less than the
+	 * first pivot, elements between the pivots, and elements greater than the
+	 * second pivot, then sorts each part
+	 *
+	 * @param data        the given array of elements
+	 * @param low         the lowest index to sort
+	 * @param high        the highest index to sort
+	 * @param firstPivot  the index of the smaller pivot
+	 * @param secondPivot the index of the larger pivot
+	 * @param depthLimit  the number of partitioning levels left for the parts
+	 */
+	private void dualPivotPartition(E[] data, int low, int high, int firstPivot, int secondPivot,
+			int depthLimit) {
+		// Move the pivots to the ends of the range
+		swap(data, low, firstPivot);
+		swap(data, high, secondPivot == low ? firstPivot : secondPivot);
+		E pivot1 = data[low];
+		E pivot2 = data[high];
+
+		int less = low + 1;
+		int great = high - 1;
+		int k = less;
+		while (k <= great) {
+			if (super.compare(data[k], pivot1) < 0) {
+				swap(data, k, less);
+				less++;
+			} else if (super.compare(data[k], pivot2) > 0) {
+				while (k < great && super.compare(data[great], pivot2) > 0) {
+					great--;
+				}
+				swap(data, k, great);
+				great--;
+				if (super.compare(data[k], pivot1) < 0) {
+					swap(data, k, less);
+					less++;
+				}
+			}
+			k++;
+		}
+		less--;
+		great++;
+		swap(data, low, less);
+		swap(data, high, great);
+
+		introSort(data, low, less - 1, depthLimit);
+		introSort(data, great + 1, high, depthLimit);
+
+		// When most of the range landed between the pivots, move the keys equal
+		// to either pivot out of the middle part so they are not sorted again
+		int middleLow = less + 1;
+		int middleHigh = great - 1;
+		if (middleHigh - middleLow > (high - low) / 2) {
+			int i = middleLow;
+			while (i <= middleHigh) {
+				if (super.compare(data[i], pivot1) == 0) {
+					swap(data, i, middleLow);
+					middleLow++;
+					i++;
+				} else if (super.compare(data[i], pivot2) == 0) {
+					swap(data, i, middleHigh);
+					middleHigh--;
+				} else {
+					i++;
+				}
+			}
+		}
+		introSort(data, middleLow, middleHigh, depthLimit);
+	}
+
+	/**
+	 * Partitions the range around a single pivot into elements less than, equal
+	 * to, and greater than the pivot, then sorts the lesser and greater parts
+	 *
+	 * @param data       the given array of elements
+	 * @param low        the lowest index to sort
+	 * @param high       the highest index to sort
+	 * @param pivotIndex the index of the pivot
+	 * @param depthLimit the number of partitioning levels left for the parts
+	 */
+	private void threeWayPartition(E[] data, int low, int high, int pivotIndex, int depthLimit) {
+		E pivot = data[pivotIndex];
+		int less = low;
+		int great = high;
+		int i = low;
+		while (i <= great) {
+			int result = super.compare(data[i], pivot);
+			if (result < 0) {
+				swap(data, i, less);
+				less++;
+				i++;
+			} else if (result > 0) {
+				swap(data, i, great);
+				great--;
+			} else {
+				i++;
+			}
+		}
+		introSort(data, low, less - 1, depthLimit);
+		introSort(data, great + 1, high, depthLimit);
+	}
+
+	/**
+	 * Returns the index of a pivot near the given center of the range. Small
+	 * ranges use the median of three samples; large ranges use the median of three
+	 * medians-of-three (the ninther).
+	 *
+	 * @param data   the given array of elements
+	 * @param center the index around which to sample
+	 * @param step   the distance between samples
+	 * @param length the number of elements in the range
+	 * @return the index of the selected pivot
+	 */
+	private int selectPivot(E[] data, int center, int step, int length) {
+		if (length <= NINTHER_CUTOFF) {
+			return medianOfThree(data, center - step, center, center + step);
+		}
+		int spread = length / 32;
+		int left = medianOfThree(data, center - step - spread, center - step, center - step + spread);
+		int middle = medianOfThree(data, center - spread, center, center + spread);
+		int right = medianOfThree(data, center + step - spread, center + step, center + step + spread);
+		return medianOfThree(data, left, middle, right);
+	}
+
+	/**
+	 * Returns the index of the median of the three elements at the given indexes
+	 *
+	 * @param data the given array of elements
+	 * @param i    the index of the first sample
+	 * @param j    the index of the second sample
+	 * @param k    the index of the third sample
+	 * @return the index of the median sample
+	 */
+	private int medianOfThree(E[] data, int i, int j, int k) {
+		if (super.compare(data[i], data[j]) < 0) {
+			if (super.compare(data[j], data[k]) < 0) {
+				return j;
+			}
+			return super.compare(data[i], data[k]) < 0 ? k : i;
+		}
+		if (super.compare(data[i], data[k]) < 0) {
+			return i;
+		}
+		return super.compare(data[j], data[k]) < 0 ? k : j;
+	}
+
+	/**
+	 * Sort the given range of elements using heap sort
+	 *
+	 * @param data the given array of elements
+	 * @param low  the lowest index to sort
+	 * @param high the highest index to sort
+	 */
+	private void heapSort(E[] data, int low, int high) {
+		int length = high - low + 1;
+		for (int i = length / 2 - 1; i >= 0; i--) {
+			downHeap(data, low, i, length);
+		}
+		for (int end = length - 1; end > 0; end--) {
+			swap(data, low, low + end);
+			downHeap(data, low, 0, end);
+		}
+	}
+
+	/**
+	 * Restores the max-heap ordering property for the heap stored in the range
+	 * starting at the given offset
+	 *
+	 * @param data   the given array of elements
+	 * @param offset the index of the root of the heap
+	 * @param index  the heap position of the element to move down
+	 * @param length the number of elements in the heap
+	 */
+	private void downHeap(E[] data, int offset, int index, int length) {
+		int current = index;
+		while (2 * current + 1 < length) {
+			int child = 2 * current + 1;
+			if (child + 1 < length && super.compare(data[offset + child], data[offset + child + 1]) < 0) {
+				child++;
+			}
+			if (super.compare(data[offset + current], data[offset + child]) >= 0) {
+				break;
+			}
+			swap(data, offset + current, offset + child);
+			current = child;
+		}
+	}
+
+	/**
+	 * Swap the first index with the second index
+	 *
+	 * @param data        the given array of elements
+	 * @param firstIndex  the element in the index to be swapped with the other
+	 *                    index
+	 * @param secondIndex the index to be swapped with
+	 */
+	private void swap(E[] data, int firstIndex, int secondIndex) {
+		E temp = data[firstIndex];
+		data[firstIndex] = data[secondIndex];
+		data[secondIndex] = temp;
+	}
+}
@@ -0,0 +1,221 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * KeySorter sorts data by a primitive key that is extracted from every element
+ * exactly once ("decorate-sort-undecorate"). Comparison sorters such as
+ * {@link MergeSorter} call a Comparator O(nlogn) times, and every call reads the
+ * key of both elements again. KeySorter instead reads each key once into a
+ * long array, sorts the primitives, and then moves every element to its final
+ * position in a single pass.
+ *
+ * When the range of keys is small enough, each key is packed together with the
+ * original index of its element into a single long and the packed values are
+ * sorted with {@link Arrays#sort(long[])}. Otherwise the keys are sorted
+ * together with the indexes using a 16-bit LSD radix sort. In both cases equal
+ * keys keep their original relative order, so the sort is stable.
+ *
+ * Double keys are converted to longs whose order matches the order of the
+ * doubles, so negative keys, -0.0, and infinities are ordered as expected.
+ *
+ * @author Maggie Lin
+ *
+ * @param <E> the generic type of data to sort
+ */
+public class KeySorter<E> implements Sorter<E> {
+
+	/** The number of bits in each radix sort digit */
+	private static final int DIGIT_BITS = 16;
+
+	/** The number of distinct values of a radix sort digit */
+	private static final int RADIX = 1 << DIGIT_BITS;
+
+	/** The function that extracts a long key; null if keys are doubles */
+	private ToLongFunction<E> longKey;
+
+	/** The function that extracts a double key; null if keys are longs */
+	private ToDoubleFunction<E> doubleKey;
+
+	/** Whether elements are sorted from the largest key to the smallest */
+	private boolean descending;
+
+	/**
+	 * Constructs a new KeySorter from the given key extractors. Exactly one of
+	 * the extractors is non-null.
+	 *
+	 * @param longKey    the function that extracts a long key
+	 * @param doubleKey  the function that extracts a double key
+	 * @param descending whether to sort from the largest key to the smallest
+	 */
+	private KeySorter(ToLongFunction<E> longKey, ToDoubleFunction<E> doubleKey, boolean descending) {
+		if (longKey == null && doubleKey == null) {
+			throw new IllegalArgumentException("A key extractor is required.");
+		}
+		this.longKey = longKey;
+		this.doubleKey = doubleKey;
+		this.descending = descending;
+	}
+
+	/**
+	 * Returns a KeySorter that sorts elements by the given integer key, such as
+	 * a Student's id or credit hours, from the smallest key to the largest
+	 *
+	 * @param <E> the generic type of data to sort
+	 * @param key the function that extracts the key of an element
+	 * @return a KeySorter for the given key
+	 */
+	public static <E> KeySorter<E> byLongKey(ToLongFunction<E> key) {
+		return new KeySorter<E>(key, null, false);
+	}
+
+	/**
+	 * Returns a KeySorter that sorts elements by the given floating-point key,
+	 * such as a Student's GPA, from the smallest key to the largest
+	 *
+	 * @param <E> the generic type of data to sort
+	 * @param key the function that extracts the key of an element
+	 * @return a KeySorter for the given key
+	 */
+	public static <E> KeySorter<E> byDoubleKey(ToDoubleFunction<E> key) {
+		return new KeySorter<E>(null, key, false);
+	}
+
+	/**
+	 * Returns a KeySorter with the same key that sorts elements from the largest
+	 * key to the smallest. Elements with equal keys still keep their original
+	 * relative order.
+	 *
+	 * @return a KeySorter that sorts in the opposite direction
+	 */
+	public KeySorter<E> reversed() {
+		return new KeySorter<E>(longKey, doubleKey, !descending);
+	}
+
+	/**
+	 * Sort data by the extracted keys.
+	 *
+	 * @param data Data to be sorted.
+	 */
+	@Override
+	public void sort(E[] data) {
+		int n = data.length;
+		if (n < 2) {
+			return;
+		}
+		long[] keys = new long[n];
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < n; i++) {
+			long key = longKey != null ? longKey.applyAsLong(data[i])
+					: toSortableBits(doubleKey.applyAsDouble(data[i]));
+			// Complementing a key reverses its order without overflowing
+			keys[i] = descending ? ~key : key;
+			min = Math.min(min, keys[i]);
+			max = Math.max(max, keys[i]);
+		}
+
+		int indexBits = Integer.SIZE - Integer.numberOfLeadingZeros(n - 1);
+		int[] order;
+		if ((max - min) >>> (Long.SIZE - indexBits) == 0) {
+			order = sortPacked(keys, min, indexBits);
+		} else {
+			order = sortRadix(keys);
+		}
+
+		E[] original = Arrays.copyOf(data, n);
+		for (int i = 0; i < n; i++) {
+			data[i] = original[order[i]];
+		}
+	}
+
+	/**
+	 * Returns a long whose signed order matches the order of the given double
+	 *
+	 * @param value the double to convert
+	 * @return the sortable bits of the double
+	 */
+	private static long toSortableBits(double value) {
+		long bits = Double.doubleToLongBits(value);
+		// Negative doubles sort in the reverse order of their magnitude bits
+		return bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+	}
+
+	/**
+	 * Sorts the indexes of the keys by packing every key, offset from the
+	 * smallest key, above its index in a single long
+	 *
+	 * @param keys      the keys of the elements
+	 * @param min       the smallest key
+	 * @param indexBits the number of low bits used to hold an index
+	 * @return the original index of the element that belongs at each position
+	 */
+	private int[] sortPacked(long[] keys, long min, int indexBits) {
+		int n = keys.length;
+		long[] packed = new long[n];
+		for (int i = 0; i < n; i++) {
+			// Flip the sign bit so that the signed sort orders the packed values
+			// as unsigned numbers
+			packed[i] = ((keys[i] - min) << indexBits | i) ^ Long.MIN_VALUE;
+		}
+		Arrays.sort(packed);
+
+		long indexMask = (1L << indexBits) - 1;
+		int[] order = new int[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = (int) (packed[i] & indexMask);
+		}
+		return order;
+	}
+
+	/**
+	 * Sorts the indexes of the keys with an LSD radix sort over 16-bit digits of
+	 * the keys. Passes in which every key has the same digit are skipped.
+	 *
+	 * @param keys the keys of the elements
+	 * @return the original index of the element that belongs at each position
+	 */
+	private int[] sortRadix(long[] keys) {
+		int n = keys.length;
+		long[] keySource = keys;
+		int[] orderSource = new int[n];
+		for (int i = 0; i < n; i++) {
+			keySource[i] ^= Long.MIN_VALUE;
+			orderSource[i] = i;
+		}
+		long[] keyTarget = new long[n];
+		int[] orderTarget = new int[n];
+
+		int[] offsets = new int[RADIX];
+		for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+			Arrays.fill(offsets, 0);
+			for (int i = 0; i < n; i++) {
+				offsets[(int) (keySource[i] >>> shift) & (RADIX - 1)]++;
+			}
+			if (offsets[(int) (keySource[0] >>> shift) & (RADIX - 1)] == n) {
+				continue;
+			}
+			int total = 0;
+			for (int digit = 0; digit < RADIX; digit++) {
+				int count = offsets[digit];
+				offsets[digit] = total;
+				total += count;
+			}
+			for (int i = 0; i < n; i++) {
+				int index = offsets[(int) (keySource[i] >>> shift) & (RADIX - 1)]++;
+				keyTarget[index] = keySource[i];
+				orderTarget[index] = orderSource[i];
+			}
+
+			long[] keySwap = keySource;
+			keySource = keyTarget;
+			keyTarget = keySwap;
+			int[] orderSwap = orderSource;
+			orderSource = orderTarget;
+			orderTarget = orderSwap;
+		}
+		return orderSource;
+	}
+}
@@ -0,0 +1,135 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+
+/**
+ * LSDRadixSorter uses a least-significant-digit radix sort on the binary
+ * representation of the IDs to sort data.
+ *
+ * Unlike {@link RadixSorter}, which works in base 10 and calls getId() several
+ * times per element per pass, this implementation reads every ID once into an
+ * int array and sorts the keys together with the elements. Each pass handles an
+ * 11-bit digit, so a 32-bit ID needs at most three passes. Passes in which
+ * every key has the same digit are skipped. The keys and elements move back and
+ * forth between the original arrays and a single pair of scratch buffers
+ * instead of allocating a new array on every pass.
+ *
+ * The sign bit of every ID is flipped before sorting so that negative IDs are
+ * ordered before positive IDs. The sort is stable and runs in O(n) time.
+ *
+ * @author Maggie Lin
+ *
+ * @param <E> the generic type of data to sort
+ */
+public class LSDRadixSorter<E extends Identifiable> implements Sorter<E> {
+
+	/** The number of bits in each digit */
+	static final int DIGIT_BITS = 11;
+
+	/** The number of distinct values of a digit */
+	static final int RADIX = 1 << DIGIT_BITS;
+
+	/** The mask used to extract a digit once it has been shifted down */
+	static final int DIGIT_MASK = RADIX - 1;
+
+	/** The number of passes needed to cover every bit of an int key */
+	static final int PASSES = (Integer.SIZE + DIGIT_BITS - 1) / DIGIT_BITS;
+
+	/** LSDRadixSorter constructor */
+	public LSDRadixSorter() {
+		// Empty Constructor
+	}
+
+	/**
+	 * Sort data with the binary LSD radix sort algorithm.
+	 *
+	 * @param data Data to be sorted.
+	 */
+	public void sort(E[] data) {
+		int[] keys = new int[data.length];
+		for (int i = 0; i < data.length; i++) {
+			keys[i] = toUnsignedKey(data[i].getId());
+		}
+		sort(keys, data);
+	}
+
+	/**
+	 * Returns the key for the given ID whose unsigned order matches the signed
+	 * order of the IDs
+	 *
+	 * @param id the ID to convert
+	 * @return the ID with its sign bit flipped
+	 */
+	static int toUnsignedKey(int id) {
+		return id ^ Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Sorts the data so that the keys are in unsigned ascending order. The key at
+	 * each index belongs to the element at the same index. Both arrays are
+	 * rearranged together.
+	 *
+	 * @param <T>  the type of data to sort
+	 * @param keys the unsigned keys of the elements
+	 * @param data the elements to sort
+	 */
+	static <T> void sort(int[] keys, T[] data) {
+		int n = data.length;
+		if (n < 2) {
+			return;
+		}
+
+		// Count the digits for every pass with a single scan of the keys
+		int[][] frequencyArr = new int[PASSES][RADIX];
+		for (int i = 0; i < n; i++) {
+			int key = keys[i];
+			for (int pass = 0; pass < PASSES; pass++) {
+				frequencyArr[pass][(key >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+			}
+		}
+
+		int[] keySource = keys;
+		T[] dataSource = data;
+		int[] keyTarget = null;
+		T[] dataTarget = null;
+		for (int pass = 0; pass < PASSES; pass++) {
+			int shift = pass * DIGIT_BITS;
+			int[] offsets = frequencyArr[pass];
+			// Every key has the same digit, so this pass would not move anything
+			if (offsets[(keySource[0] >>> shift) & DIGIT_MASK] == n) {
+				continue;
+			}
+			if (keyTarget == null) {
+				keyTarget = new int[n];
+				@SuppressWarnings("unchecked")
+				T[] buffer = (T[]) new Object[n];
+				dataTarget = buffer;
+			}
+
+			int total = 0;
+			for (int digit = 0; digit < RADIX; digit++) {
+				int count = offsets[digit];
+				offsets[digit] = total;
+				total += count;
+			}
+			for (int i = 0; i < n; i++) {
+				int key = keySource[i];
+				int index = offsets[(key >>> shift) & DIGIT_MASK]++;
+				keyTarget[index] = key;
+				dataTarget[index] = dataSource[i];
+			}
+
+			int[] keySwap = keySource;
+			keySource = keyTarget;
+			keyTarget = keySwap;
+			T[] dataSwap = dataSource;
+			dataSource = dataTarget;
+			dataTarget = dataSwap;
+		}
+
+		if (dataSource != data) {
+			System.arraycopy(keySource, 0, keys, 0, n);
+			System.arraycopy(dataSource, 0, data, 0, n);
+		}
+	}
+}
@@ -52,7 +52,8 @@ public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSort
 	}
 
 	/**
-	 * Merge two arrays together to make one sorted array
+	 * Merge two arrays together to make one sorted array. Ties are taken from the
+	 * left half first so that equal elements keep their original relative order.
 	 * 
 	 * @param left  the array containing the sorted left half
 	 * @param right the array containing the sorted right half
@@ -64,7 +65,7 @@ public class MergeSorter<E extends Comparable<E>> extends AbstractComparisonSort
 		int rightIndex = 0;
 		while (leftIndex + rightIndex < data.length) {
 			if (rightIndex == right.length
-					|| leftIndex < left.length && super.compare(left[leftIndex], right[rightIndex]) < 0) {
+					|| leftIndex < left.length && super.compare(left[leftIndex], right[rightIndex]) <= 0) {
 				data[leftIndex + rightIndex] = left[leftIndex];
 				leftIndex = leftIndex + 1;
 			} else {
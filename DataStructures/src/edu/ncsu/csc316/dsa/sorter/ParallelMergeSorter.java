@@ -0,0 +1,195 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelMergeSorter sorts arrays of comparable elements using a fork-join
+ * version of the merge sort algorithm. The two halves of every large range are
+ * sorted in parallel on a {@link ForkJoinPool}, and small ranges are finished
+ * with insertion sort.
+ *
+ * Unlike {@link MergeSorter}, which creates new left and right arrays at every
+ * level of recursion, this implementation allocates a single scratch buffer per
+ * call to {@link #sort} and alternates the roles of the buffer and the original
+ * array between levels. The sort is stable and produces the same order as
+ * {@link MergeSorter}.
+ *
+ * @author Maggie Lin
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class ParallelMergeSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/**
+	 * Ranges with fewer elements than the cutoff are sorted with insertion sort
+	 */
+	private static final int INSERTION_CUTOFF = 32;
+
+	/**
+	 * Ranges with fewer elements than the cutoff are sorted without forking new
+	 * tasks
+	 */
+	private static final int PARALLEL_CUTOFF = 8192;
+
+	/** The pool that runs the merge tasks */
+	private ForkJoinPool pool;
+
+	/** The insertion sorter used to finish small ranges */
+	private InsertionSorter<E> insertionSorter;
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a specified custom Comparator that
+	 * runs on the provided pool
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 * @param pool       the pool to run the merge tasks on
+	 */
+	public ParallelMergeSorter(Comparator<E> comparator, ForkJoinPool pool) {
+		super(comparator);
+		this.pool = pool == null ? ForkJoinPool.commonPool() : pool;
+		insertionSorter = new InsertionSorter<E>(this::compare);
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with a specified custom Comparator that
+	 * runs on the common pool
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public ParallelMergeSorter(Comparator<E> comparator) {
+		this(comparator, null);
+	}
+
+	/**
+	 * Constructs a new ParallelMergeSorter with comparisons based on the element's
+	 * natural ordering
+	 */
+	public ParallelMergeSorter() {
+		this(null, null);
+	}
+
+	/**
+	 * {@inheritDoc} Sort the array of data using the parallel merge sort method.
+	 */
+	@Override
+	public void sort(E[] data) {
+		if (data.length < 2) {
+			return;
+		}
+		E[] buffer = Arrays.copyOf(data, data.length);
+		if (data.length < PARALLEL_CUTOFF) {
+			mergeSort(buffer, data, 0, data.length - 1);
+		} else {
+			pool.invoke(new MergeTask(buffer, data, 0, data.length - 1));
+		}
+	}
+
+	/**
+	 * Sorts the range of the destination array on the current thread. The source
+	 * and destination must hold the same elements in the range when the method is
+	 * called; the source is used as scratch space.
+	 *
+	 * @param source      the array used as scratch space
+	 * @param destination the array that holds the sorted range afterwards
+	 * @param low         the lowest index to sort
+	 * @param high        the highest index to sort
+	 */
+	private void mergeSort(E[] source, E[] destination, int low, int high) {
+		if (high - low < INSERTION_CUTOFF) {
+			insertionSorter.sort(destination, low, high);
+			return;
+		}
+		int mid = (low + high) >>> 1;
+		mergeSort(destination, source, low, mid);
+		mergeSort(destination, source, mid + 1, high);
+		merge(source, destination, low, mid, high);
+	}
+
+	/**
+	 * Merges the sorted ranges [low, mid] and [mid + 1, high] of the source array
+	 * into the same range of the destination array. Ties are taken from the left
+	 * range first to keep the sort stable.
+	 *
+	 * @param source      the array that holds the two sorted ranges
+	 * @param destination the array that receives the merged range
+	 * @param low         the first index of the left range
+	 * @param mid         the last index of the left range
+	 * @param high        the last index of the right range
+	 */
+	private void merge(E[] source, E[] destination, int low, int mid, int high) {
+		// The halves are already in order, so there is nothing to merge
+		if (super.compare(source[mid], source[mid + 1]) <= 0) {
+			System.arraycopy(source, low, destination, low, high - low + 1);
+			return;
+		}
+		int leftIndex = low;
+		int rightIndex = mid + 1;
+		for (int i = low; i <= high; i++) {
+			if (rightIndex > high
+					|| leftIndex <= mid && super.compare(source[leftIndex], source[rightIndex]) <= 0) {
+				destination[i] = source[leftIndex];
+				leftIndex++;
+			} else {
+				destination[i] = source[rightIndex];
+				rightIndex++;
+			}
+		}
+	}
+
+	/**
+	 * MergeTask sorts one range of the array, forking a task for each half when
+	 * the range is large enough to be worth splitting
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private class MergeTask extends RecursiveAction {
+
+		/** Serial version for the task */
+		private static final long serialVersionUID = 1L;
+
+		/** The array used as scratch space */
+		private E[] source;
+
+		/** The array that holds the sorted range afterwards */
+		private E[] destination;
+
+		/** The lowest index to sort */
+		private int low;
+
+		/** The highest index to sort */
+		private int high;
+
+		/**
+		 * Constructs a task that sorts the given range
+		 *
+		 * @param source      the array used as scratch space
+		 * @param destination the array that holds the sorted range afterwards
+		 * @param low         the lowest index to sort
+		 * @param high        the highest index to sort
+		 */
+		MergeTask(E[] source, E[] destination, int low, int high) {
+			this.source = source;
+			this.destination = destination;
+			this.low = low;
+			this.high = high;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+			if (high - low < PARALLEL_CUTOFF) {
+				mergeSort(source, destination, low, high);
+				return;
+			}
+			int mid = (low + high) >>> 1;
+			invokeAll(new MergeTask(destination, source, low, mid), new MergeTask(destination, source, mid + 1, high));
+			merge(source, destination, low, mid, high);
+		}
+	}
+}
@@ -0,0 +1,260 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import edu.ncsu.csc316.dsa.data.Identifiable;
+
+/**
+ * ParallelRadixSorter uses a parallel radix sort on the binary representation
+ * of the IDs to sort data. The array is split into one chunk per worker thread
+ * of a {@link ForkJoinPool}. For every digit, each chunk counts its own digits
+ * in parallel, the per-chunk counts are combined into a global offset for every
+ * (digit, chunk) pair, and each chunk then scatters its elements to their
+ * final positions in parallel.
+ *
+ * The digits, key layout, and skipping of passes in which every key has the
+ * same digit are shared with {@link LSDRadixSorter}, which is also used for
+ * arrays too small to be worth splitting. Like {@link LSDRadixSorter}, the sort
+ * is stable and orders negative IDs before positive IDs.
+ *
+ * @author Maggie Lin
+ *
+ * @param <E> the generic type of data to sort
+ */
+public class ParallelRadixSorter<E extends Identifiable> implements Sorter<E> {
+
+	/**
+	 * Arrays with fewer elements than the cutoff are sorted on the calling thread
+	 */
+	private static final int PARALLEL_CUTOFF = 1 << 16;
+
+	/** Phase in which each chunk reads the IDs of its elements */
+	private static final int EXTRACT = 0;
+
+	/** Phase in which each chunk counts the digits of its keys */
+	private static final int COUNT = 1;
+
+	/** Phase in which each chunk moves its elements to their new positions */
+	private static final int SCATTER = 2;
+
+	/** The pool that runs the chunk tasks */
+	private ForkJoinPool pool;
+
+	/**
+	 * Constructs a new ParallelRadixSorter that runs on the provided pool
+	 *
+	 * @param pool the pool to run the chunk tasks on
+	 */
+	public ParallelRadixSorter(ForkJoinPool pool) {
+		this.pool = pool == null ? ForkJoinPool.commonPool() : pool;
+	}
+
+	/** Constructs a new ParallelRadixSorter that runs on the common pool */
+	public ParallelRadixSorter() {
+		this(null);
+	}
+
+	/**
+	 * Sort data with the parallel radix sort algorithm.
+	 *
+	 * @param data Data to be sorted.
+	 */
+	public void sort(E[] data) {
+		if (data.length < PARALLEL_CUTOFF) {
+			new LSDRadixSorter<E>().sort(data);
+			return;
+		}
+		RadixState state = new RadixState(data, Math.max(1, pool.getParallelism()));
+		pool.invoke(new ChunkTask(state, EXTRACT, 0, state.chunks));
+
+		for (int pass = 0; pass < LSDRadixSorter.PASSES; pass++) {
+			state.shift = pass * LSDRadixSorter.DIGIT_BITS;
+			pool.invoke(new ChunkTask(state, COUNT, 0, state.chunks));
+			if (!state.computeOffsets()) {
+				continue;
+			}
+			if (state.keyTarget == null) {
+				state.keyTarget = new int[data.length];
+				state.dataTarget = new Object[data.length];
+			}
+			pool.invoke(new ChunkTask(state, SCATTER, 0, state.chunks));
+			state.swapBuffers();
+		}
+
+		if (state.dataSource != data) {
+			System.arraycopy(state.dataSource, 0, data, 0, data.length);
+		}
+	}
+
+	/**
+	 * RadixState holds the arrays and per-chunk digit counts shared by the chunk
+	 * tasks of a single sort
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private static class RadixState {
+
+		/** The number of elements to sort */
+		private int n;
+
+		/** The number of chunks the elements are split into */
+		private int chunks;
+
+		/** The shift of the digit sorted in the current pass */
+		private int shift;
+
+		/** The keys in their current order */
+		private int[] keySource;
+
+		/** The elements in their current order */
+		private Object[] dataSource;
+
+		/** The keys in their order after the current pass */
+		private int[] keyTarget;
+
+		/** The elements in their order after the current pass */
+		private Object[] dataTarget;
+
+		/**
+		 * The digit counts of each chunk, which become the offsets at which each
+		 * chunk writes each digit
+		 */
+		private int[][] offsets;
+
+		/**
+		 * Constructs the state for sorting the given data in the given number of
+		 * chunks
+		 *
+		 * @param data   the elements to sort
+		 * @param chunks the number of chunks to split the elements into
+		 */
+		RadixState(Object[] data, int chunks) {
+			n = data.length;
+			this.chunks = chunks;
+			keySource = new int[n];
+			dataSource = data;
+			offsets = new int[chunks][LSDRadixSorter.RADIX];
+		}
+
+		/**
+		 * Returns the index of the first element of the given chunk
+		 *
+		 * @param chunk the chunk to locate
+		 * @return the index of the first element of the chunk
+		 */
+		int start(int chunk) {
+			return (int) ((long) n * chunk / chunks);
+		}
+
+		/**
+		 * Turns the per-chunk digit counts into the offsets at which each chunk
+		 * writes each digit. Chunks write their elements of a digit one after
+		 * another, in chunk order, which keeps the sort stable.
+		 *
+		 * @return false if every key has the same digit and the pass can be skipped
+		 */
+		boolean computeOffsets() {
+			int total = 0;
+			for (int digit = 0; digit < LSDRadixSorter.RADIX; digit++) {
+				int digitStart = total;
+				for (int chunk = 0; chunk < chunks; chunk++) {
+					int count = offsets[chunk][digit];
+					offsets[chunk][digit] = total;
+					total += count;
+				}
+				if (total - digitStart == n) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/** Swaps the source and target arrays after a pass */
+		void swapBuffers() {
+			int[] keySwap = keySource;
+			keySource = keyTarget;
+			keyTarget = keySwap;
+			Object[] dataSwap = dataSource;
+			dataSource = dataTarget;
+			dataTarget = dataSwap;
+		}
+	}
+
+	/**
+	 * ChunkTask runs one phase of a pass over a range of chunks, forking a task
+	 * for each half of the range until a single chunk is left
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private static class ChunkTask extends RecursiveAction {
+
+		/** Serial version for the task */
+		private static final long serialVersionUID = 1L;
+
+		/** The state shared by all tasks of the sort */
+		private RadixState state;
+
+		/** The phase to run */
+		private int phase;
+
+		/** The first chunk of the range */
+		private int firstChunk;
+
+		/** One past the last chunk of the range */
+		private int lastChunk;
+
+		/**
+		 * Constructs a task that runs the given phase over a range of chunks
+		 *
+		 * @param state      the state shared by all tasks of the sort
+		 * @param phase      the phase to run
+		 * @param firstChunk the first chunk of the range
+		 * @param lastChunk  one past the last chunk of the range
+		 */
+		ChunkTask(RadixState state, int phase, int firstChunk, int lastChunk) {
+			this.state = state;
+			this.phase = phase;
+			this.firstChunk = firstChunk;
+			this.lastChunk = lastChunk;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		protected void compute() {
+			if (lastChunk - firstChunk > 1) {
+				int mid = (firstChunk + lastChunk) >>> 1;
+				invokeAll(new ChunkTask(state, phase, firstChunk, mid), new ChunkTask(state, phase, mid, lastChunk));
+				return;
+			}
+			int start = state.start(firstChunk);
+			int end = state.start(firstChunk + 1);
+			if (phase == EXTRACT) {
+				for (int i = start; i < end; i++) {
+					state.keySource[i] = LSDRadixSorter.toUnsignedKey(((Identifiable) state.dataSource[i]).getId());
+				}
+			} else if (phase == COUNT) {
+				int[] counts = state.offsets[firstChunk];
+				Arrays.fill(counts, 0);
+				int shift = state.shift;
+				for (int i = start; i < end; i++) {
+					counts[(state.keySource[i] >>> shift) & LSDRadixSorter.DIGIT_MASK]++;
+				}
+			} else {
+				int[] offsets = state.offsets[firstChunk];
+				int shift = state.shift;
+				for (int i = start; i < end; i++) {
+					int key = state.keySource[i];
+					int index = offsets[(key >>> shift) & LSDRadixSorter.DIGIT_MASK]++;
+					state.keyTarget[index] = key;
+					state.dataTarget[index] = state.dataSource[i];
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,304 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import edu.ncsu.csc316.dsa.list.ArrayBasedList;
+import edu.ncsu.csc316.dsa.list.List;
+import edu.ncsu.csc316.dsa.priority_queue.HeapPriorityQueue;
+
+/**
+ * PartialSorter finds the first k elements of an array in sorted order without
+ * sorting the whole array, such as the 100 students with the highest GPA.
+ *
+ * PartialSorter offers three operations:
+ *
+ * (a) {@link #select} rearranges an array so that the element of a given rank
+ * is at that index, with smaller elements before it and larger elements after
+ * it, using introselect: quickselect with median-of-three pivots that switches
+ * to median-of-medians pivots once the partitioning depth exceeds 2log(n). This
+ * takes O(n) expected and worst-case time.
+ *
+ * (b) {@link #sort} selects the k-th element and then sorts only the first k
+ * elements, in O(n + klogk) time. The remaining elements are left in an
+ * unspecified order.
+ *
+ * (c) {@link #topK} keeps the k smallest elements seen so far in a bounded
+ * {@link HeapPriorityQueue} whose root is the largest of them. This takes
+ * O(nlogk) time and O(k) extra space, does not modify the input, and works on
+ * iterators whose elements do not all fit in memory.
+ *
+ * "Smallest" is defined by the comparator, so with a comparator such as
+ * StudentGPAComparator that orders students from the highest GPA to the
+ * lowest, the first k elements are the k students with the highest GPA.
+ *
+ * @author Maggie Lin
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class PartialSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/**
+	 * Ranges with fewer elements than the cutoff are finished with insertion sort
+	 */
+	private static final int INSERTION_CUTOFF = 16;
+
+	/** The number of elements in each median-of-medians group */
+	private static final int GROUP_SIZE = 5;
+
+	/** The number of leading elements to sort */
+	private int k;
+
+	/** The insertion sorter used to finish small ranges */
+	private InsertionSorter<E> insertionSorter;
+
+	/** The sorter used to sort the first k elements once they are selected */
+	private IntroSorter<E> introSorter;
+
+	/**
+	 * Constructs a new PartialSorter with a provided custom Comparator that sorts
+	 * the first k elements
+	 *
+	 * @param comparator a custom comparator to use when sorting
+	 * @param k          the number of leading elements to sort
+	 */
+	public PartialSorter(Comparator<E> comparator, int k) {
+		super(comparator);
+		if (k < 0) {
+			throw new IllegalArgumentException("The number of elements to sort cannot be negative.");
+		}
+		this.k = k;
+		insertionSorter = new InsertionSorter<E>(this::compare);
+		introSorter = new IntroSorter<E>(this::compare);
+	}
+
+	/**
+	 * Constructs a new PartialSorter that uses an element's natural ordering and
+	 * sorts the first k elements
+	 *
+	 * @param k the number of leading elements to sort
+	 */
+	public PartialSorter(int k) {
+		this(null, k);
+	}
+
+	/**
+	 * {@inheritDoc} Moves the k smallest elements to the front of the array in
+	 * sorted order. If the array has fewer than k elements, the whole array is
+	 * sorted.
+	 */
+	@Override
+	public void sort(E[] data) {
+		int count = Math.min(k, data.length);
+		if (count == 0) {
+			return;
+		}
+		if (count < data.length) {
+			select(data, 0, data.length - 1, count - 1, depthLimit(data.length));
+		}
+		introSorter.sort(data, 0, count - 1);
+	}
+
+	/**
+	 * Rearranges the array so that the element of the given rank is at that
+	 * index, every element before it is less than or equal to it, and every
+	 * element after it is greater than or equal to it
+	 *
+	 * @param data the given array of elements
+	 * @param rank the index the selected element would have if the array were
+	 *             sorted
+	 * @return the element of the given rank
+	 */
+	public E select(E[] data, int rank) {
+		if (rank < 0 || rank >= data.length) {
+			throw new IllegalArgumentException("Rank " + rank + " is out of bounds for " + data.length + " elements.");
+		}
+		select(data, 0, data.length - 1, rank, depthLimit(data.length));
+		return data[rank];
+	}
+
+	/**
+	 * Returns the k smallest elements of the array in sorted order without
+	 * modifying the array. If the array has fewer than k elements, all of them
+	 * are returned.
+	 *
+	 * @param data the given array of elements
+	 * @return a new array of the k smallest elements in sorted order
+	 */
+	public E[] topK(E[] data) {
+		HeapPriorityQueue<E, E> heap = boundedHeap(Arrays.asList(data).iterator());
+		E[] top = Arrays.copyOf(data, heap.size());
+		for (int i = top.length - 1; i >= 0; i--) {
+			top[i] = heap.deleteMin().getKey();
+		}
+		return top;
+	}
+
+	/**
+	 * Returns the k smallest elements returned by the iterator in sorted order.
+	 * Only k elements are held in memory at once, so the iterator may stream its
+	 * elements from a file.
+	 *
+	 * @param it the iterator over the elements
+	 * @return a list of the k smallest elements in sorted order
+	 */
+	public List<E> topK(Iterator<? extends E> it) {
+		HeapPriorityQueue<E, E> heap = boundedHeap(it);
+		List<E> descending = new ArrayBasedList<E>();
+		while (!heap.isEmpty()) {
+			descending.addLast(heap.deleteMin().getKey());
+		}
+		List<E> top = new ArrayBasedList<E>();
+		for (int i = descending.size() - 1; i >= 0; i--) {
+			top.addLast(descending.get(i));
+		}
+		return top;
+	}
+
+	/**
+	 * Returns a heap of the k smallest elements returned by the iterator whose
+	 * root is the largest of them
+	 *
+	 * @param it the iterator over the elements
+	 * @return the heap of the k smallest elements
+	 */
+	private HeapPriorityQueue<E, E> boundedHeap(Iterator<? extends E> it) {
+		HeapPriorityQueue<E, E> heap = new HeapPriorityQueue<E, E>((first, second) -> compare(second, first));
+		if (k == 0) {
+			return heap;
+		}
+		while (it.hasNext()) {
+			E element = it.next();
+			if (heap.size() < k) {
+				heap.insert(element, null);
+			} else if (compare(element, heap.min().getKey()) < 0) {
+				heap.deleteMin();
+				heap.insert(element, null);
+			}
+		}
+		return heap;
+	}
+
+	/**
+	 * Returns the number of median-of-three partitioning levels allowed before
+	 * switching to median-of-medians pivots
+	 *
+	 * @param length the number of elements
+	 * @return the depth limit
+	 */
+	private static int depthLimit(int length) {
+		return 2 * (31 - Integer.numberOfLeadingZeros(length));
+	}
+
+	/**
+	 * Rearranges the given range so that the element of the given rank is at that
+	 * index, with smaller elements before it and larger elements after it
+	 *
+	 * @param data       the given array of elements
+	 * @param low        the lowest index of the range
+	 * @param high       the highest index of the range
+	 * @param rank       the index of the element to select
+	 * @param depthLimit the number of median-of-three partitioning levels left
+	 */
+	private void select(E[] data, int low, int high, int rank, int depthLimit) {
+		int depth = depthLimit;
+		while (high - low >= INSERTION_CUTOFF) {
+			int pivotIndex;
+			if (depth > 0) {
+				depth--;
+				pivotIndex = medianOfThree(data, low, low + (high - low) / 2, high);
+			} else {
+				pivotIndex = medianOfMedians(data, low, high);
+			}
+
+			// Partition into elements less than, equal to, and greater than the
+			// pivot
+			E pivot = data[pivotIndex];
+			int less = low;
+			int great = high;
+			int i = low;
+			while (i <= great) {
+				int result = compare(data[i], pivot);
+				if (result < 0) {
+					swap(data, i, less);
+					less++;
+					i++;
+				} else if (result > 0) {
+					swap(data, i, great);
+					great--;
+				} else {
+					i++;
+				}
+			}
+
+			if (rank < less) {
+				high = less - 1;
+			} else if (rank > great) {
+				low = great + 1;
+			} else {
+				return;
+			}
+		}
+		insertionSorter.sort(data, low, high);
+	}
+
+	/**
+	 * Returns the index of a pivot that is guaranteed to have at least 30% of the
+	 * range on each side. The median of every group of five elements is moved to
+	 * the front of the range, and the median of those medians is then selected.
+	 *
+	 * @param data the given array of elements
+	 * @param low  the lowest index of the range
+	 * @param high the highest index of the range
+	 * @return the index of the median of medians
+	 */
+	private int medianOfMedians(E[] data, int low, int high) {
+		int groups = 0;
+		for (int start = low; start <= high; start += GROUP_SIZE) {
+			int end = Math.min(start + GROUP_SIZE - 1, high);
+			insertionSorter.sort(data, start, end);
+			swap(data, low + groups, start + (end - start) / 2);
+			groups++;
+		}
+		int middle = low + (groups - 1) / 2;
+		select(data, low, low + groups - 1, middle, 0);
+		return middle;
+	}
+
+	/**
+	 * Returns the index of the median of the three elements at the given indexes
+	 *
+	 * @param data the given array of elements
+	 * @param i    the index of the first sample
+	 * @param j    the index of the second sample
+	 * @param m    the index of the third sample
+	 * @return the index of the median sample
+	 */
+	private int medianOfThree(E[] data, int i, int j, int m) {
+		if (compare(data[i], data[j]) < 0) {
+			if (compare(data[j], data[m]) < 0) {
+				return j;
+			}
+			return compare(data[i], data[m]) < 0 ? m : i;
+		}
+		if (compare(data[i], data[m]) < 0) {
+			return i;
+		}
+		return compare(data[j], data[m]) < 0 ? m : j;
+	}
+
+	/**
+	 * Swap the first index with the second index
+	 *
+	 * @param data        the given array of elements
+	 * @param firstIndex  the element in the index to be swapped with the other
+	 *                    index
+	 * @param secondIndex the index to be swapped with
+	 */
+	private void swap(E[] data, int firstIndex, int secondIndex) {
+		E temp = data[firstIndex];
+		data[firstIndex] = data[secondIndex];
+		data[secondIndex] = temp;
+	}
+}
@@ -0,0 +1,677 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import java.util.Comparator;
+
+/**
+ * TimSorter sorts arrays of comparable elements using a natural-run merge sort
+ * in the style of TimSort. Instead of splitting the array in half like
+ * {@link MergeSorter}, it takes advantage of order that already exists in the
+ * input:
+ *
+ * (a) the array is scanned for ascending runs and strictly descending runs,
+ * which are reversed in place; (b) runs shorter than a minimum length are
+ * extended with binary insertion sort; (c) runs are pushed on a stack and
+ * merged whenever the stack lengths would stop growing like the Fibonacci
+ * numbers, which keeps merges balanced; and (d) merges switch to galloping mode
+ * (exponential search) when one run keeps winning, so long stretches are copied
+ * in bulk.
+ *
+ * An array that is already sorted (or sorted in reverse) is handled in O(n)
+ * time. In general the sort is stable and runs in O(nlogn) worst-case time.
+ *
+ * The TimSorter class is based on the algorithm described by Tim Peters for
+ * the Python list sort and the merge and gallop steps of java.util.TimSort.
+ *
+ * @author Maggie Lin
+ *
+ * @param <E> the type of elements to sort; elements must be {@link Comparable}
+ */
+public class TimSorter<E extends Comparable<E>> extends AbstractComparisonSorter<E> {
+
+	/**
+	 * Arrays with fewer elements than this are sorted with binary insertion sort,
+	 * and runs are extended toward a length between half of this and this
+	 */
+	private static final int MIN_MERGE = 32;
+
+	/**
+	 * The number of consecutive wins by one run after which a merge enters
+	 * galloping mode
+	 */
+	private static final int MIN_GALLOP = 7;
+
+	/**
+	 * The largest number of pending runs; the stack invariants keep run lengths
+	 * growing at least as fast as the Fibonacci numbers, so an int-sized array
+	 * never needs more
+	 */
+	private static final int MAX_PENDING_RUNS = 49;
+
+	/**
+	 * Constructs a new TimSorter with a specified custom Comparator
+	 *
+	 * @param comparator a custom Comparator to use when sorting
+	 */
+	public TimSorter(Comparator<E> comparator) {
+		super(comparator);
+	}
+
+	/**
+	 * Constructs a new TimSorter with comparisons based on the element's natural
+	 * ordering
+	 */
+	public TimSorter() {
+		this(null);
+	}
+
+	/**
+	 * {@inheritDoc} Sort the array of data by finding and merging natural runs.
+	 */
+	@Override
+	public void sort(E[] data) {
+		int n = data.length;
+		if (n < 2) {
+			return;
+		}
+		if (n < MIN_MERGE) {
+			int runLength = countRunAndMakeAscending(data, 0, n);
+			binaryInsertionSort(data, 0, n, runLength);
+			return;
+		}
+
+		MergeState state = new MergeState(data);
+		int minRun = minRunLength(n);
+		int low = 0;
+		int remaining = n;
+		while (remaining != 0) {
+			int runLength = countRunAndMakeAscending(data, low, low + remaining);
+			if (runLength < minRun) {
+				int forced = Math.min(remaining, minRun);
+				binaryInsertionSort(data, low, low + forced, low + runLength);
+				runLength = forced;
+			}
+			state.pushRun(low, runLength);
+			state.mergeCollapse();
+			low += runLength;
+			remaining -= runLength;
+		}
+		state.mergeForceCollapse();
+	}
+
+	/**
+	 * Returns the minimum run length for an array of the given length. The result
+	 * is chosen so that n divided by it is a power of two, or slightly less,
+	 * which keeps the final merges balanced.
+	 *
+	 * @param n the number of elements to sort
+	 * @return the minimum run length
+	 */
+	private int minRunLength(int n) {
+		int length = n;
+		int remainder = 0;
+		while (length >= MIN_MERGE) {
+			remainder |= length & 1;
+			length >>= 1;
+		}
+		return length + remainder;
+	}
+
+	/**
+	 * Returns the length of the run that starts at the low index. A descending
+	 * run is reversed so that every returned run is ascending. Only strictly
+	 * descending runs are reversed, which keeps the sort stable.
+	 *
+	 * @param data the given array of elements
+	 * @param low  the index of the first element of the run
+	 * @param high one past the last index that may belong to the run
+	 * @return the length of the run
+	 */
+	private int countRunAndMakeAscending(E[] data, int low, int high) {
+		int runHigh = low + 1;
+		if (runHigh == high) {
+			return 1;
+		}
+		if (super.compare(data[runHigh], data[low]) < 0) {
+			runHigh++;
+			while (runHigh < high && super.compare(data[runHigh], data[runHigh - 1]) < 0) {
+				runHigh++;
+			}
+			reverseRange(data, low, runHigh);
+		} else {
+			runHigh++;
+			while (runHigh < high && super.compare(data[runHigh], data[runHigh - 1]) >= 0) {
+				runHigh++;
+			}
+		}
+		return runHigh - low;
+	}
+
+	/**
+	 * Reverses the elements between the low index and the high index
+	 *
+	 * @param data the given array of elements
+	 * @param low  the first index to reverse
+	 * @param high one past the last index to reverse
+	 */
+	private void reverseRange(E[] data, int low, int high) {
+		int left = low;
+		int right = high - 1;
+		while (left < right) {
+			E temp = data[left];
+			data[left] = data[right];
+			data[right] = temp;
+			left++;
+			right--;
+		}
+	}
+
+	/**
+	 * Sorts the range between the low index and the high index with insertion
+	 * sort, using binary search to find where each element belongs. The elements
+	 * before the start index must already be sorted.
+	 *
+	 * @param data  the given array of elements
+	 * @param low   the first index to sort
+	 * @param high  one past the last index to sort
+	 * @param start the index of the first element not already sorted
+	 */
+	private void binaryInsertionSort(E[] data, int low, int high, int start) {
+		for (int i = start == low ? low + 1 : start; i < high; i++) {
+			E item = data[i];
+			int left = low;
+			int right = i;
+			while (left < right) {
+				int mid = (left + right) >>> 1;
+				if (super.compare(item, data[mid]) < 0) {
+					right = mid;
+				} else {
+					left = mid + 1;
+				}
+			}
+			System.arraycopy(data, left, data, left + 1, i - left);
+			data[left] = item;
+		}
+	}
+
+	/**
+	 * Returns the position at which the key belongs in the sorted range of the
+	 * given array, before any elements equal to the key. The search starts at the
+	 * hint and gallops outward before finishing with a binary search.
+	 *
+	 * @param key    the key to locate
+	 * @param array  the array to search
+	 * @param base   the index of the first element of the range
+	 * @param length the number of elements in the range
+	 * @param hint   the offset within the range at which to start the search
+	 * @return the offset k such that every element before k is less than the key
+	 *         and every element from k on is at least the key
+	 */
+	private int gallopLeft(E key, E[] array, int base, int length, int hint) {
+		int lastOffset = 0;
+		int offset = 1;
+		if (super.compare(key, array[base + hint]) > 0) {
+			int maxOffset = length - hint;
+			while (offset < maxOffset && super.compare(key, array[base + hint + offset]) > 0) {
+				lastOffset = offset;
+				offset = nextOffset(offset, maxOffset);
+			}
+			offset = Math.min(offset, maxOffset);
+			lastOffset += hint;
+			offset += hint;
+		} else {
+			int maxOffset = hint + 1;
+			while (offset < maxOffset && super.compare(key, array[base + hint - offset]) <= 0) {
+				lastOffset = offset;
+				offset = nextOffset(offset, maxOffset);
+			}
+			offset = Math.min(offset, maxOffset);
+			int temp = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - temp;
+		}
+
+		lastOffset++;
+		while (lastOffset < offset) {
+			int mid = lastOffset + ((offset - lastOffset) >>> 1);
+			if (super.compare(key, array[base + mid]) > 0) {
+				lastOffset = mid + 1;
+			} else {
+				offset = mid;
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the position at which the key belongs in the sorted range of the
+	 * given array, after any elements equal to the key. The search starts at the
+	 * hint and gallops outward before finishing with a binary search.
+	 *
+	 * @param key    the key to locate
+	 * @param array  the array to search
+	 * @param base   the index of the first element of the range
+	 * @param length the number of elements in the range
+	 * @param hint   the offset within the range at which to start the search
+	 * @return the offset k such that every element before k is at most the key
+	 *         and every element from k on is greater than the key
+	 */
+	private int gallopRight(E key, E[] array, int base, int length, int hint) {
+		int lastOffset = 0;
+		int offset = 1;
+		if (super.compare(key, array[base + hint]) < 0) {
+			int maxOffset = hint + 1;
+			while (offset < maxOffset && super.compare(key, array[base + hint - offset]) < 0) {
+				lastOffset = offset;
+				offset = nextOffset(offset, maxOffset);
+			}
+			offset = Math.min(offset, maxOffset);
+			int temp = lastOffset;
+			lastOffset = hint - offset;
+			offset = hint - temp;
+		} else {
+			int maxOffset = length - hint;
+			while (offset < maxOffset && super.compare(key, array[base + hint + offset]) >= 0) {
+				lastOffset = offset;
+				offset = nextOffset(offset, maxOffset);
+			}
+			offset = Math.min(offset, maxOffset);
+			lastOffset += hint;
+			offset += hint;
+		}
+
+		lastOffset++;
+		while (lastOffset < offset) {
+			int mid = lastOffset + ((offset - lastOffset) >>> 1);
+			if (super.compare(key, array[base + mid]) < 0) {
+				offset = mid;
+			} else {
+				lastOffset = mid + 1;
+			}
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the next offset to probe while galloping, guarding against int
+	 * overflow
+	 *
+	 * @param offset    the current offset
+	 * @param maxOffset the largest offset that may be probed
+	 * @return the next offset to probe
+	 */
+	private int nextOffset(int offset, int maxOffset) {
+		int next = (offset << 1) + 1;
+		return next <= 0 ? maxOffset : next;
+	}
+
+	/**
+	 * MergeState holds the stack of pending runs, the merge buffer, and the
+	 * galloping threshold for a single call to {@link TimSorter#sort}
+	 *
+	 * @author Maggie Lin
+	 *
+	 */
+	private class MergeState {
+
+		/** The array being sorted */
+		private E[] data;
+
+		/** The scratch buffer used to hold the smaller run of a merge */
+		private E[] buffer;
+
+		/** The index of the first element of each pending run */
+		private int[] runBase;
+
+		/** The length of each pending run */
+		private int[] runLength;
+
+		/** The number of pending runs */
+		private int stackSize;
+
+		/**
+		 * The number of consecutive wins needed to enter galloping mode; it is
+		 * lowered when galloping pays off and raised when it does not
+		 */
+		private int minGallop;
+
+		/**
+		 * Constructs the merge state for sorting the given array
+		 *
+		 * @param data the array being sorted
+		 */
+		MergeState(E[] data) {
+			this.data = data;
+			buffer = newBuffer(Math.min(data.length / 2, 256));
+			runBase = new int[MAX_PENDING_RUNS];
+			runLength = new int[MAX_PENDING_RUNS];
+			stackSize = 0;
+			minGallop = MIN_GALLOP;
+		}
+
+		/**
+		 * Pushes a run onto the stack of pending runs
+		 *
+		 * @param base   the index of the first element of the run
+		 * @param length the length of the run
+		 */
+		void pushRun(int base, int length) {
+			runBase[stackSize] = base;
+			runLength[stackSize] = length;
+			stackSize++;
+		}
+
+		/**
+		 * Merges pending runs until the run lengths on the stack satisfy the
+		 * invariants runLength[i - 2] &gt; runLength[i - 1] + runLength[i] and
+		 * runLength[i - 1] &gt; runLength[i]
+		 */
+		void mergeCollapse() {
+			while (stackSize > 1) {
+				int n = stackSize - 2;
+				if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+						|| n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+					if (runLength[n - 1] < runLength[n + 1]) {
+						n--;
+					}
+				} else if (runLength[n] > runLength[n + 1]) {
+					break;
+				}
+				mergeAt(n);
+			}
+		}
+
+		/** Merges all pending runs until a single run is left */
+		void mergeForceCollapse() {
+			while (stackSize > 1) {
+				int n = stackSize - 2;
+				if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+					n--;
+				}
+				mergeAt(n);
+			}
+		}
+
+		/**
+		 * Merges the runs at positions i and i + 1 of the stack. Elements of the
+		 * first run that are already in place, and elements of the second run that
+		 * are already in place, are skipped before merging.
+		 *
+		 * @param i the stack position of the first run
+		 */
+		private void mergeAt(int i) {
+			int base1 = runBase[i];
+			int length1 = runLength[i];
+			int base2 = runBase[i + 1];
+			int length2 = runLength[i + 1];
+
+			runLength[i] = length1 + length2;
+			if (i == stackSize - 3) {
+				runBase[i + 1] = runBase[i + 2];
+				runLength[i + 1] = runLength[i + 2];
+			}
+			stackSize--;
+
+			int skipped = gallopRight(data[base2], data, base1, length1, 0);
+			base1 += skipped;
+			length1 -= skipped;
+			if (length1 == 0) {
+				return;
+			}
+			length2 = gallopLeft(data[base1 + length1 - 1], data, base2, length2, length2 - 1);
+			if (length2 == 0) {
+				return;
+			}
+			if (length1 <= length2) {
+				mergeLow(base1, length1, base2, length2);
+			} else {
+				mergeHigh(base1, length1, base2, length2);
+			}
+		}
+
+		/**
+		 * Merges two adjacent runs from left to right, copying the first (shorter)
+		 * run into the buffer. The first element of the second run must be less
+		 * than the first element of the first run, and the last element of the
+		 * first run must be greater than every element of the second run.
+		 *
+		 * @param base1   the index of the first element of the first run
+		 * @param length1 the length of the first run
+		 * @param base2   the index of the first element of the second run
+		 * @param length2 the length of the second run
+		 */
+		private void mergeLow(int base1, int length1, int base2, int length2) {
+			E[] tmp = ensureCapacity(length1);
+			System.arraycopy(data, base1, tmp, 0, length1);
+			int cursor1 = 0;
+			int cursor2 = base2;
+			int dest = base1;
+			int len1 = length1;
+			int len2 = length2;
+
+			data[dest++] = data[cursor2++];
+			len2--;
+			if (len2 == 0) {
+				System.arraycopy(tmp, cursor1, data, dest, len1);
+				return;
+			}
+			if (len1 == 1) {
+				System.arraycopy(data, cursor2, data, dest, len2);
+				data[dest + len2] = tmp[cursor1];
+				return;
+			}
+
+			int gallop = minGallop;
+			outer:
+			while (true) {
+				int count1 = 0;
+				int count2 = 0;
+				// Merge one element at a time until one run starts winning
+				// consistently
+				do {
+					if (compare(data[cursor2], tmp[cursor1]) < 0) {
+						data[dest++] = data[cursor2++];
+						count2++;
+						count1 = 0;
+						len2--;
+						if (len2 == 0) {
+							break outer;
+						}
+					} else {
+						data[dest++] = tmp[cursor1++];
+						count1++;
+						count2 = 0;
+						len1--;
+						if (len1 == 1) {
+							break outer;
+						}
+					}
+				} while ((count1 | count2) < gallop);
+
+				// Gallop through the runs until neither run wins by a wide margin
+				do {
+					count1 = gallopRight(data[cursor2], tmp, cursor1, len1, 0);
+					if (count1 != 0) {
+						System.arraycopy(tmp, cursor1, data, dest, count1);
+						dest += count1;
+						cursor1 += count1;
+						len1 -= count1;
+						if (len1 <= 1) {
+							break outer;
+						}
+					}
+					data[dest++] = data[cursor2++];
+					len2--;
+					if (len2 == 0) {
+						break outer;
+					}
+
+					count2 = gallopLeft(tmp[cursor1], data, cursor2, len2, 0);
+					if (count2 != 0) {
+						System.arraycopy(data, cursor2, data, dest, count2);
+						dest += count2;
+						cursor2 += count2;
+						len2 -= count2;
+						if (len2 == 0) {
+							break outer;
+						}
+					}
+					data[dest++] = tmp[cursor1++];
+					len1--;
+					if (len1 == 1) {
+						break outer;
+					}
+					gallop--;
+				} while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+				gallop = Math.max(gallop, 0) + 2;
+			}
+			minGallop = Math.max(gallop, 1);
+
+			if (len1 == 1) {
+				System.arraycopy(data, cursor2, data, dest, len2);
+				data[dest + len2] = tmp[cursor1];
+			} else if (len1 == 0) {
+				throw new IllegalArgumentException("Comparator is not consistent with a total order.");
+			} else {
+				System.arraycopy(tmp, cursor1, data, dest, len1);
+			}
+		}
+
+		/**
+		 * Merges two adjacent runs from right to left, copying the second (shorter)
+		 * run into the buffer. The first element of the second run must be less
+		 * than the first element of the first run, and the last element of the
+		 * first run must be greater than every element of the second run.
+		 *
+		 * @param base1   the index of the first element of the first run
+		 * @param length1 the length of the first run
+		 * @param base2   the index of the first element of the second run
+		 * @param length2 the length of the second run
+		 */
+		private void mergeHigh(int base1, int length1, int base2, int length2) {
+			E[] tmp = ensureCapacity(length2);
+			System.arraycopy(data, base2, tmp, 0, length2);
+			int cursor1 = base1 + length1 - 1;
+			int cursor2 = length2 - 1;
+			int dest = base2 + length2 - 1;
+			int len1 = length1;
+			int len2 = length2;
+
+			data[dest--] = data[cursor1--];
+			len1--;
+			if (len1 == 0) {
+				System.arraycopy(tmp, 0, data, dest - (len2 - 1), len2);
+				return;
+			}
+			if (len2 == 1) {
+				dest -= len1;
+				cursor1 -= len1;
+				System.arraycopy(data, cursor1 + 1, data, dest + 1, len1);
+				data[dest] = tmp[cursor2];
+				return;
+			}
+
+			int gallop = minGallop;
+			outer:
+			while (true) {
+				int count1 = 0;
+				int count2 = 0;
+				// Merge one element at a time until one run starts winning
+				// consistently
+				do {
+					if (compare(tmp[cursor2], data[cursor1]) < 0) {
+						data[dest--] = data[cursor1--];
+						count1++;
+						count2 = 0;
+						len1--;
+						if (len1 == 0) {
+							break outer;
+						}
+					} else {
+						data[dest--] = tmp[cursor2--];
+						count2++;
+						count1 = 0;
+						len2--;
+						if (len2 == 1) {
+							break outer;
+						}
+					}
+				} while ((count1 | count2) < gallop);
+
+				// Gallop through the runs until neither run wins by a wide margin
+				do {
+					count1 = len1 - gallopRight(tmp[cursor2], data, base1, len1, len1 - 1);
+					if (count1 != 0) {
+						dest -= count1;
+						cursor1 -= count1;
+						len1 -= count1;
+						System.arraycopy(data, cursor1 + 1, data, dest + 1, count1);
+						if (len1 == 0) {
+							break outer;
+						}
+					}
+					data[dest--] = tmp[cursor2--];
+					len2--;
+					if (len2 == 1) {
+						break outer;
+					}
+
+					count2 = len2 - gallopLeft(data[cursor1], tmp, 0, len2, len2 - 1);
+					if (count2 != 0) {
+						dest -= count2;
+						cursor2 -= count2;
+						len2 -= count2;
+						System.arraycopy(tmp, cursor2 + 1, data, dest + 1, count2);
+						if (len2 <= 1) {
+							break outer;
+						}
+					}
+					data[dest--] = data[cursor1--];
+					len1--;
+					if (len1 == 0) {
+						break outer;
+					}
+					gallop--;
+				} while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+				gallop = Math.max(gallop, 0) + 2;
+			}
+			minGallop = Math.max(gallop, 1);
+
+			if (len2 == 1) {
+				dest -= len1;
+				cursor1 -= len1;
+				System.arraycopy(data, cursor1 + 1, data, dest + 1, len1);
+				data[dest] = tmp[cursor2];
+			} else if (len2 == 0) {
+				throw new IllegalArgumentException("Comparator is not consistent with a total order.");
+			} else {
+				System.arraycopy(tmp, 0, data, dest - (len2 - 1), len2);
+			}
+		}
+
+		/**
+		 * Returns a buffer that can hold at least the given number of elements,
+		 * growing the existing buffer if needed
+		 *
+		 * @param minCapacity the number of elements the buffer must hold
+		 * @return the buffer
+		 */
+		private E[] ensureCapacity(int minCapacity) {
+			if (buffer.length < minCapacity) {
+				int newCapacity = Math.max(minCapacity, Math.min(2 * buffer.length, data.length / 2));
+				buffer = newBuffer(newCapacity);
+			}
+			return buffer;
+		}
+
+		/**
+		 * Returns a new buffer of the given length
+		 *
+		 * @param length the number of elements the buffer can hold
+		 * @return the new buffer
+		 */
+		@SuppressWarnings("unchecked")
+		private E[] newBuffer(int length) {
+			return (E[]) new Comparable<?>[length];
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package edu.ncsu.csc316.dsa.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.sorter.MergeSorter;
+import edu.ncsu.csc316.dsa.sorter.QuickSorter;
+
+/**
+ * Test the ExternalStudentSorter class.
+ *
+ * @author Maggie Lin
+ */
+public class ExternalStudentSorterTest {
+
+	/** The directory that holds the run files and output of each test */
+	private File tempDirectory;
+
+	/**
+	 * Creates an empty temporary directory.
+	 *
+	 * @throws IOException if the directory cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		tempDirectory = Files.createTempDirectory("external").toFile();
+	}
+
+	/**
+	 * Deletes the temporary directory and everything in it.
+	 */
+	@After
+	public void tearDown() {
+		for (File file : tempDirectory.listFiles()) {
+			file.delete();
+		}
+		tempDirectory.delete();
+	}
+
+	/**
+	 * Test whether the streaming iterator returns the roster in ID order when the
+	 * roster is split across several runs, and deletes the runs once finished.
+	 */
+	@Test
+	public void testSortIterator() {
+		ExternalStudentSorter sorter = new ExternalStudentSorter(new QuickSorter<Student>(new StudentIDComparator()),
+				new StudentIDComparator(), 4, tempDirectory);
+		Student[] expected = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		new MergeSorter<Student>(new StudentIDComparator()).sort(expected);
+
+		ExternalStudentSorter.MergeIterator it = sorter.sort("input/student_randomOrder.csv");
+		assertEquals(4, tempDirectory.listFiles().length);
+		for (Student s : expected) {
+			assertEquals(s, it.next());
+		}
+		assertFalse(it.hasNext());
+		assertEquals(0, tempDirectory.listFiles().length);
+	}
+
+	/**
+	 * Test whether sorting to an output file writes a CSV that StudentReader can
+	 * read back, keeping equal GPAs from different runs in input order.
+	 */
+	@Test
+	public void testSortToFile() {
+		ExternalStudentSorter sorter = new ExternalStudentSorter(new MergeSorter<Student>(new StudentGPAComparator()),
+				new StudentGPAComparator(), 3, tempDirectory);
+		Student[] expected = StudentReader.readInputAsArray("input/student_descendingID.csv");
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+
+		String output = new File(tempDirectory, "sorted.csv").getPath();
+		sorter.sort("input/student_descendingID.csv", output);
+		Student[] actual = StudentReader.readInputAsArray(output);
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i].getId(), actual[i].getId());
+			assertEquals(expected[i].getUnityID(), actual[i].getUnityID());
+			assertEquals(expected[i].getGpa(), actual[i].getGpa(), 0);
+		}
+		assertEquals(1, tempDirectory.listFiles().length);
+	}
+
+	/**
+	 * Test whether closing the iterator early deletes the run files, and whether
+	 * invalid arguments are rejected.
+	 */
+	@Test
+	public void testCloseAndInvalid() {
+		ExternalStudentSorter sorter = new ExternalStudentSorter(new MergeSorter<Student>(), null, 5, tempDirectory);
+		try (ExternalStudentSorter.MergeIterator it = sorter.sort("input/student_ascendingID.csv")) {
+			assertEquals(4, tempDirectory.listFiles().length);
+			it.next();
+		}
+		assertEquals(0, tempDirectory.listFiles().length);
+
+		try {
+			sorter.sort("input/missing.csv");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(0, tempDirectory.listFiles().length);
+		}
+		try {
+			new ExternalStudentSorter(new MergeSorter<Student>(), null, 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Test whether more runs than the fan-in are merged in stable passes, so that
+	 * no more than fan-in runs remain for the final merge, and whether a fan-in
+	 * less than 2 is rejected.
+	 */
+	@Test
+	public void testFanIn() {
+		ExternalStudentSorter sorter = new ExternalStudentSorter(new MergeSorter<Student>(new StudentGPAComparator()),
+				new StudentGPAComparator(), 1, tempDirectory);
+		sorter.setFanIn(3);
+		Student[] expected = StudentReader.readInputAsArray("input/student_randomOrder.csv");
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+
+		// 16 runs of one Student are merged into 6, then 2
+		try (ExternalStudentSorter.MergeIterator it = sorter.sort("input/student_randomOrder.csv")) {
+			assertEquals(2, tempDirectory.listFiles().length);
+			for (Student s : expected) {
+				Student actual = it.next();
+				assertEquals(s.getId(), actual.getId());
+				assertEquals(s.getGpa(), actual.getGpa(), 0);
+			}
+			assertFalse(it.hasNext());
+		}
+		assertEquals(0, tempDirectory.listFiles().length);
+
+		try {
+			sorter.setFanIn(1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(0, tempDirectory.listFiles().length);
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package edu.ncsu.csc316.dsa.map;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeMap;
+
+import edu.ncsu.csc316.dsa.map.Map.Entry;
+
+/**
+ * OrderedMapChecks holds the checks of ordered navigation that every
+ * {@link AbstractOrderedMap} must pass, so that the test class of each ordered
+ * map can run them and keep its own tests for the edge cases of its structure
+ *
+ * @author Maggie Lin
+ *
+ */
+public class OrderedMapChecks {
+
+	/**
+	 * Checks the output of the firstEntry(), lastEntry(), floorEntry(k),
+	 * lowerEntry(k), ceilingEntry(k), higherEntry(k), subMap(k1,k2), headMap(k),
+	 * and tailMap(k) behaviors, including puts and removes through a view
+	 *
+	 * @param ordered an empty ordered map
+	 */
+	public static void checkNavigation(AbstractOrderedMap<Integer, String> ordered) {
+		assertNull(ordered.firstEntry());
+		assertNull(ordered.lastEntry());
+		assertNull(ordered.floorEntry(5));
+		assertNull(ordered.ceilingEntry(5));
+		assertFalse(ordered.subMap(0, 10).entrySet().iterator().hasNext());
+		int[] keys = { 50, 20, 80, 10, 30, 70, 90, 40, 60, 100 };
+		for (int key : keys) {
+			ordered.put(key, "string" + key);
+		}
+		assertEquals(10, (int) ordered.firstEntry().getKey());
+		assertEquals(100, (int) ordered.lastEntry().getKey());
+		assertEquals(30, (int) ordered.floorEntry(35).getKey());
+		assertEquals("string30", ordered.floorEntry(30).getValue());
+		assertNull(ordered.floorEntry(5));
+		assertEquals(20, (int) ordered.lowerEntry(30).getKey());
+		assertNull(ordered.lowerEntry(10));
+		assertEquals(40, (int) ordered.ceilingEntry(35).getKey());
+		assertEquals(40, (int) ordered.ceilingEntry(40).getKey());
+		assertNull(ordered.ceilingEntry(105));
+		assertEquals(50, (int) ordered.higherEntry(40).getKey());
+		assertNull(ordered.higherEntry(100));
+
+		AbstractOrderedMap<Integer, String> sub = ordered.subMap(25, 60);
+		assertEquals(3, sub.size());
+		Iterator<Entry<Integer, String>> it = sub.entrySet().iterator();
+		assertEquals(30, (int) it.next().getKey());
+		assertEquals(40, (int) it.next().getKey());
+		assertEquals(50, (int) it.next().getKey());
+		assertFalse(it.hasNext());
+		assertEquals("string30", sub.get(30));
+		assertNull(sub.get(20));
+		assertNull(sub.get(60));
+		assertEquals(30, (int) sub.firstEntry().getKey());
+		assertEquals(50, (int) sub.lastEntry().getKey());
+		assertEquals(50, (int) sub.floorEntry(100).getKey());
+		assertEquals(30, (int) sub.ceilingEntry(0).getKey());
+		assertNull(sub.lowerEntry(30));
+		assertNull(sub.higherEntry(50));
+
+		assertNull(sub.put(55, "string55"));
+		assertEquals("string55", ordered.get(55));
+		try {
+			sub.put(65, "string65");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertNull(ordered.get(65));
+		}
+		assertEquals("string40", sub.remove(40));
+		assertNull(ordered.get(40));
+		assertNull(sub.remove(80));
+		assertEquals("string80", ordered.get(80));
+		ordered.put(45, "string45");
+		assertEquals(4, sub.size());
+
+		AbstractOrderedMap<Integer, String> nested = sub.subMap(0, 50);
+		assertEquals(2, nested.size());
+		assertEquals(45, (int) nested.lastEntry().getKey());
+		assertEquals(1, nested.headMap(40).size());
+		assertEquals(2, ordered.headMap(30).size());
+		assertEquals(20, (int) ordered.headMap(30).lastEntry().getKey());
+		assertEquals(2, ordered.tailMap(90).size());
+		assertEquals(90, (int) ordered.tailMap(90).firstEntry().getKey());
+		try {
+			ordered.subMap(50, 40);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(11, ordered.size());
+		}
+	}
+
+	/**
+	 * Checks that navigation agrees with {@link TreeMap} after random put and
+	 * remove churn. Only even keys are stored, so every odd key falls between two
+	 * entries.
+	 *
+	 * @param ordered an empty ordered map
+	 * @param seed    the seed of the random churn
+	 */
+	public static void checkAgainstTreeMap(AbstractOrderedMap<Integer, String> ordered, long seed) {
+		TreeMap<Integer, String> expected = new TreeMap<Integer, String>();
+		Random rand = new Random(seed);
+		for (int i = 0; i < 5000; i++) {
+			int key = 2 * rand.nextInt(500);
+			if (rand.nextInt(5) < 3) {
+				expected.put(key, "string" + key);
+				ordered.put(key, "string" + key);
+			} else {
+				expected.remove(key);
+				ordered.remove(key);
+			}
+		}
+		for (int key = -1; key <= 1000; key++) {
+			assertEquals(expected.floorKey(key), keyOf(ordered.floorEntry(key)));
+			assertEquals(expected.lowerKey(key), keyOf(ordered.lowerEntry(key)));
+			assertEquals(expected.ceilingKey(key), keyOf(ordered.ceilingEntry(key)));
+			assertEquals(expected.higherKey(key), keyOf(ordered.higherEntry(key)));
+		}
+		assertEquals(expected.firstKey(), ordered.firstEntry().getKey());
+		assertEquals(expected.lastKey(), ordered.lastEntry().getKey());
+		assertEquals(expected.subMap(101, 801).size(), ordered.subMap(101, 801).size());
+		Iterator<Integer> expectedIt = expected.subMap(101, 801).keySet().iterator();
+		for (Entry<Integer, String> entry : ordered.subMap(101, 801).entrySet()) {
+			assertEquals(expectedIt.next(), entry.getKey());
+		}
+		assertFalse(expectedIt.hasNext());
+	}
+
+	/**
+	 * Returns the key of an entry
+	 *
+	 * @param entry the entry, or null
+	 * @return the key of the entry, or null if the entry is null
+	 */
+	private static Integer keyOf(Entry<Integer, String> entry) {
+		return entry == null ? null : entry.getKey();
+	}
+}
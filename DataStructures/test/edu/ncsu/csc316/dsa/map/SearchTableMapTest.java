@@ -205,4 +205,43 @@ public class SearchTableMapTest {
 			assertTrue(e instanceof UnsupportedOperationException);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test the output of the putAll(k[],v[]) and getAll(k[],v[]) behaviors,
+	 * including merging with existing entries and repeated keys
+	 */
+	@Test
+	public void testPutAll() {
+		map.put(2, "string2");
+		map.put(6, "string6");
+		map.putAll(new Integer[] { 5, 1, 6, 9, 1 }, new String[] { "string5", "one", "new6", "string9", "string1" });
+		assertEquals(5, map.size());
+		assertEquals("SearchTableMap[1, 2, 5, 6, 9]", map.toString());
+		assertEquals("string1", map.get(1));
+		assertEquals("new6", map.get(6));
+
+		String[] values = new String[3];
+		map.getAll(new Integer[] { 9, 3, 2 }, values);
+		assertEquals("string9", values[0]);
+		assertNull(values[1]);
+		assertEquals("string2", values[2]);
+
+		map.putAll(new Integer[0], new String[0]);
+		assertEquals(5, map.size());
+		try {
+			map.putAll(new Integer[] { 1 }, new String[0]);
+			fail("An IllegalArgumentException should have been thrown");
+		} catch (IllegalArgumentException e) {
+			assertEquals(5, map.size());
+		}
+	}
+
+	/**
+	 * Test the ordered navigation behaviors and range views shared by every
+	 * ordered map
+	 */
+	@Test
+	public void testNavigation() {
+		OrderedMapChecks.checkNavigation(new SearchTableMap<Integer, String>());
+	}
+}
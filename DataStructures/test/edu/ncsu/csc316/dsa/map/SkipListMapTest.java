@@ -209,4 +209,15 @@ public class SkipListMapTest {
 			assertTrue(e instanceof UnsupportedOperationException);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test the ordered navigation behaviors and range views shared by every
+	 * ordered map, and check them against a reference map after churn, since the
+	 * random tower heights give every run a different shape
+	 */
+	@Test
+	public void testNavigation() {
+		OrderedMapChecks.checkNavigation(new SkipListMap<Integer, String>());
+		OrderedMapChecks.checkAgainstTreeMap(new SkipListMap<Integer, String>(), 316);
+	}
+}
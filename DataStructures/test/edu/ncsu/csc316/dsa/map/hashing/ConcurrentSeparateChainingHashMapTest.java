@@ -0,0 +1,223 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for ConcurrentSeparateChainingHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors when using
+ * a concurrent separate chaining hash map, from one thread and from many threads
+ *
+ * @author Maggie Lin
+ *
+ */
+public class ConcurrentSeparateChainingHashMapTest {
+
+    /** Concurrent hash map with a small capacity and few segments */
+    private Map<Integer, String> map;
+
+    /**
+     * Create a new instance of a concurrent hash map before each test case
+     * executes
+     */
+    @Before
+    public void setUp() {
+        map = new ConcurrentSeparateChainingHashMap<Integer, String>(4, 2);
+    }
+
+    /**
+     * Test the output of the put(k,v), get(k), and remove(k) behaviors
+     */
+    @Test
+    public void testPutGetRemove() {
+        assertTrue(map.isEmpty());
+        assertNull(map.get(3));
+        assertNull(map.put(3, "string3"));
+        assertNull(map.put(5, "string5"));
+        assertEquals(2, map.size());
+        assertEquals("string3", map.put(3, "new3"));
+        assertEquals(2, map.size());
+        assertEquals("new3", map.get(3));
+        assertEquals("string5", map.get(5));
+
+        assertNull(map.remove(4));
+        assertEquals("new3", map.remove(3));
+        assertNull(map.get(3));
+        assertEquals(1, map.size());
+        assertEquals("string5", map.remove(5));
+        assertTrue(map.isEmpty());
+
+        try {
+            map.put(null, "string");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(map.isEmpty());
+        }
+        try {
+            map.put(1, null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(map.isEmpty());
+        }
+    }
+
+    /**
+     * Test that the map stays consistent with a reference map under put and
+     * remove churn that resizes every segment several times
+     */
+    @Test
+    public void testChurn() {
+        HashMapChecks.checkChurn(map, i -> i, 5000, i -> "string" + i);
+    }
+
+    /**
+     * Test that keys with the same hash code are kept in a tree bucket once the
+     * chain is too long, and return to a chain as they are removed
+     */
+    @Test
+    public void testTreeBuckets() {
+        Map<CollidingKey, Integer> colliding = new ConcurrentSeparateChainingHashMap<CollidingKey, Integer>();
+        for (int i = 0; i < 100; i++) {
+            assertNull(colliding.put(new CollidingKey(i), i));
+        }
+        assertEquals(100, colliding.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (int) colliding.get(new CollidingKey(i)));
+        }
+        assertNull(colliding.get(new CollidingKey(100)));
+        assertEquals(5, (int) colliding.put(new CollidingKey(5), 500));
+        assertEquals(100, colliding.size());
+
+        for (int i = 0; i < 98; i++) {
+            assertEquals(i == 5 ? 500 : i, (int) colliding.remove(new CollidingKey(i)));
+        }
+        assertEquals(2, colliding.size());
+        assertNull(colliding.remove(new CollidingKey(0)));
+        assertEquals(98, (int) colliding.get(new CollidingKey(98)));
+        assertEquals(99, (int) colliding.remove(new CollidingKey(99)));
+        assertEquals(98, (int) colliding.remove(new CollidingKey(98)));
+        assertTrue(colliding.isEmpty());
+    }
+
+    /**
+     * Test that threads putting disjoint keys, while other threads read, leave
+     * every key in the map
+     *
+     * @throws InterruptedException if the test is interrupted
+     */
+    @Test
+    public void testConcurrentPuts() throws InterruptedException {
+        Map<Integer, String> concurrent = new ConcurrentSeparateChainingHashMap<Integer, String>();
+        int writers = 4;
+        int perWriter = 20000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int w = 0; w < writers; w++) {
+            int first = w * perWriter;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int key = first; key < first + perWriter; key++) {
+                        assertNull(concurrent.put(key, "string" + key));
+                        assertEquals("string" + key, concurrent.get(key));
+                    }
+                    for (int key = first; key < first + perWriter; key += 2) {
+                        assertEquals("string" + key, concurrent.remove(key));
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }));
+        }
+        for (int r = 0; r < 2; r++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    Random rand = new Random();
+                    for (int i = 0; i < 100000; i++) {
+                        int key = rand.nextInt(writers * perWriter);
+                        String value = concurrent.get(key);
+                        assertTrue(value == null || value.equals("string" + key));
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get());
+
+        assertEquals(writers * perWriter / 2, concurrent.size());
+        for (int key = 0; key < writers * perWriter; key++) {
+            assertEquals(key % 2 == 0 ? null : "string" + key, concurrent.get(key));
+        }
+    }
+
+    /**
+     * CollidingKey is a key whose hash code is always the same, so that every
+     * key is placed in the same bucket
+     *
+     * @author Maggie Lin
+     *
+     */
+    private static class CollidingKey implements Comparable<CollidingKey> {
+
+        /** The identifier of the key */
+        private int id;
+
+        /**
+         * Constructs a key with the given identifier
+         *
+         * @param id the identifier of the key
+         */
+        CollidingKey(int id) {
+            this.id = id;
+        }
+
+        /**
+         * Returns the same hash code for every key
+         *
+         * @return the hash code of the key
+         */
+        @Override
+        public int hashCode() {
+            return 316;
+        }
+
+        /**
+         * Returns true if the given object is a key with the same identifier
+         *
+         * @param o the object to compare with
+         * @return true if the object is an equal key
+         */
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+}
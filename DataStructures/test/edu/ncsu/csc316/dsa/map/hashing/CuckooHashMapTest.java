@@ -0,0 +1,173 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for CuckooHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors when using
+ * a bucketized cuckoo hash map data structure
+ *
+ * @author Maggie Lin
+ *
+ */
+public class CuckooHashMapTest {
+
+    /** Testing Hash Map with given capacity */
+    private Map<Integer, String> map;
+
+    /** Normal Hash Map */
+    private Map<Integer, String> map2;
+
+    /**
+     * Create a new instance of a cuckoo hash map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        map = new CuckooHashMap<Integer, String>(7, true);
+        map2 = new CuckooHashMap<Integer, String>();
+    }
+
+    /**
+     * Test the output of the put(k,v), get(k), and remove(k) behaviors
+     */
+    @Test
+    public void testPutGetRemove() {
+        assertTrue(map.isEmpty());
+        assertNull(map.get(6));
+        for (int i = 0; i < 20; i++) {
+            assertNull(map.put(i, "string" + i));
+        }
+        assertEquals(20, map.size());
+        assertEquals("string13", map.put(13, "new13"));
+        assertEquals(20, map.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i == 13 ? "new13" : "string" + i, map.get(i));
+        }
+        assertNull(map.get(20));
+
+        assertNull(map.remove(20));
+        assertEquals("new13", map.remove(13));
+        assertNull(map.remove(13));
+        assertNull(map.get(13));
+        assertEquals(19, map.size());
+        int count = 0;
+        for (Map.Entry<Integer, String> entry : map.entrySet()) {
+            assertEquals("string" + entry.getKey(), entry.getValue());
+            count++;
+        }
+        assertEquals(19, count);
+    }
+
+    /**
+     * Test that the map stays consistent with a reference map under heavy put
+     * and remove churn, with and without incremental resizing
+     */
+    @Test
+    public void testChurn() {
+        HashMapChecks.checkChurn(map2, i -> i, 4000, i -> "string" + i);
+        CuckooHashMap<Integer, String> incremental = new CuckooHashMap<Integer, String>();
+        incremental.setIncrementalResize(true);
+        assertTrue(HashMapChecks.checkChurn(incremental, i -> i, 4000, i -> "string" + i));
+    }
+
+    /**
+     * Test that keys with equal hash codes, which share both buckets, are kept
+     * in the stash without growing the table without bound
+     */
+    @Test
+    public void testStash() {
+        CuckooHashMap<CollidingKey, Integer> colliding = new CuckooHashMap<CollidingKey, Integer>();
+        for (int i = 0; i < 50; i++) {
+            assertNull(colliding.put(new CollidingKey(i), i));
+        }
+        assertEquals(50, colliding.size());
+        // The table stops growing once it has more buckets than entries: 17, 35, 71
+        assertEquals(71, colliding.capacity());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, (int) colliding.get(new CollidingKey(i)));
+        }
+        assertEquals(7, (int) colliding.put(new CollidingKey(7), 70));
+        assertEquals(50, colliding.size());
+        for (int i = 0; i < 50; i += 2) {
+            assertEquals(i, (int) colliding.remove(new CollidingKey(i)));
+        }
+        assertEquals(25, colliding.size());
+        for (int i = 0; i < 50; i++) {
+            Integer expected = i % 2 == 0 ? null : (i == 7 ? 70 : i);
+            assertEquals(expected, colliding.get(new CollidingKey(i)));
+        }
+    }
+
+    /**
+     * Test that switching to mixing compression rehashes the existing entries
+     * into a power-of-two table
+     */
+    @Test
+    public void testMixingCompression() {
+        CuckooHashMap<Integer, String> mixing = new CuckooHashMap<Integer, String>(7, true);
+        for (int i = 0; i < 100; i++) {
+            mixing.put(i, "string" + i);
+        }
+        mixing.setCompressionStrategy(AbstractHashMap.MIXING_COMPRESSION);
+        assertEquals(0, mixing.capacity() & (mixing.capacity() - 1));
+        for (int i = 100; i < 5000; i++) {
+            assertNull(mixing.put(i, "string" + i));
+        }
+        assertEquals(0, mixing.capacity() & (mixing.capacity() - 1));
+        for (int i = 0; i < 5000; i += 2) {
+            assertEquals("string" + i, mixing.remove(i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 0 ? null : "string" + i, mixing.get(i));
+        }
+        assertEquals(2500, mixing.size());
+    }
+
+    /**
+     * CollidingKey is a key whose hash code is always the same, so that every
+     * key has the same two buckets
+     *
+     * @author Maggie Lin
+     *
+     */
+    private static class CollidingKey {
+
+        /** The identifier of the key */
+        private int id;
+
+        /**
+         * Constructs a key with the given identifier
+         *
+         * @param id the identifier of the key
+         */
+        CollidingKey(int id) {
+            this.id = id;
+        }
+
+        /**
+         * Returns the same hash code for every key
+         *
+         * @return the hash code of the key
+         */
+        @Override
+        public int hashCode() {
+            return 316;
+        }
+
+        /**
+         * Returns true if the given object is a key with the same identifier
+         *
+         * @param o the object to compare with
+         * @return true if the object is an equal key
+         */
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * HashMapChecks holds the reference-model check that every hash map must pass:
+ * a long run of random puts, removes, and gets whose results are compared with
+ * a {@link java.util.HashMap}, so that the test class of each hash map can run
+ * it with its own keys and keep its own tests for the edge cases of its
+ * structure
+ *
+ * @author Maggie Lin
+ *
+ */
+public class HashMapChecks {
+
+    /** The number of random operations in a churn check */
+    private static final int OPERATIONS = 50000;
+
+    /** The seed of the random operations, so that every run is repeatable */
+    private static final long SEED = 316;
+
+    /**
+     * Checks that the given map stays consistent with a reference map under a
+     * long run of random puts, removes, and gets through its {@link Map}
+     * methods. Each operation's result and the size are compared after every
+     * operation, and every key and the entries are compared at the end.
+     *
+     * @param <K>      the type of keys stored in the map
+     * @param <V>      the type of values stored in the map
+     * @param map      an empty map
+     * @param keyOf    returns the key with the given index
+     * @param keyCount the number of distinct keys, with indexes from 0 to
+     *                 keyCount - 1
+     * @param valueOf  returns the value written by the operation with the given
+     *                 index; values must not be null
+     * @return true if the map is an {@link AbstractHashMap} and an incremental
+     *         resize was in progress after any operation
+     */
+    public static <K, V> boolean checkChurn(Map<K, V> map, IntFunction<K> keyOf, int keyCount,
+            IntFunction<V> valueOf) {
+        return checkChurn(map, operationsOf(map), keyOf, keyCount, valueOf);
+    }
+
+    /**
+     * Checks that the given map stays consistent with a reference map under a
+     * long run of random puts, removes, and gets through the given operations,
+     * such as the unboxed methods of a map with primitive keys. Each operation's
+     * result and the size are compared after every operation, and every key and
+     * the entries are compared at the end.
+     *
+     * @param <K>        the type of keys stored in the map
+     * @param <V>        the type of values stored in the map
+     * @param map        an empty map
+     * @param operations the operations that put, remove, and get the map's keys
+     * @param keyOf      returns the key with the given index
+     * @param keyCount   the number of distinct keys, with indexes from 0 to
+     *                   keyCount - 1
+     * @param valueOf    returns the value written by the operation with the given
+     *                   index; values must not be null
+     * @return true if the map is an {@link AbstractHashMap} and an incremental
+     *         resize was in progress after any operation
+     */
+    public static <K, V> boolean checkChurn(Map<K, V> map, Operations<K, V> operations,
+            IntFunction<K> keyOf, int keyCount, IntFunction<V> valueOf) {
+        java.util.Map<K, V> expected = new HashMap<K, V>();
+        Random rand = new Random(SEED);
+        boolean resized = false;
+        for (int i = 0; i < OPERATIONS; i++) {
+            K key = keyOf.apply(rand.nextInt(keyCount));
+            int op = rand.nextInt(4);
+            if (op < 2) {
+                V value = valueOf.apply(i);
+                assertEquals(expected.put(key, value), operations.put(key, value));
+            } else if (op == 2) {
+                assertEquals(expected.remove(key), operations.remove(key));
+            } else {
+                assertEquals(expected.get(key), operations.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+            resized |= map instanceof AbstractHashMap && ((AbstractHashMap<K, V>) map).isResizing();
+        }
+        for (int i = 0; i < keyCount; i++) {
+            K key = keyOf.apply(i);
+            assertEquals(expected.get(key), operations.get(key));
+        }
+        int count = 0;
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+            count++;
+        }
+        assertEquals(expected.size(), count);
+        return resized;
+    }
+
+    /**
+     * Returns operations that call the {@link Map} methods of the given map
+     *
+     * @param <K> the type of keys stored in the map
+     * @param <V> the type of values stored in the map
+     * @param map the map to operate on
+     * @return the operations of the map
+     */
+    private static <K, V> Operations<K, V> operationsOf(Map<K, V> map) {
+        return new Operations<K, V>() {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public V put(K key, V value) {
+                return map.put(key, value);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public V remove(K key) {
+                return map.remove(key);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public V get(K key) {
+                return map.get(key);
+            }
+        };
+    }
+
+    /**
+     * Defines the operations of a churn check, which put, remove, and get keys
+     * of a map and report the results as the {@link Map} methods would
+     *
+     * @author Maggie Lin
+     *
+     * @param <K> the type of keys stored in the map
+     * @param <V> the type of values stored in the map
+     */
+    public interface Operations<K, V> {
+
+        /**
+         * Adds or updates the entry with the given key
+         *
+         * @param key   the key of the entry
+         * @param value the value of the entry
+         * @return the original value of the entry, or null if the key was not in
+         *         the map
+         */
+        V put(K key, V value);
+
+        /**
+         * Removes the entry with the given key
+         *
+         * @param key the key of the entry
+         * @return the value of the removed entry, or null if the key was not in
+         *         the map
+         */
+        V remove(K key);
+
+        /**
+         * Returns the value associated with the given key
+         *
+         * @param key the key of the entry
+         * @return the value of the entry, or null if the key is not in the map
+         */
+        V get(K key);
+    }
+}
@@ -0,0 +1,149 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for IntIntHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors and the
+ * primitive int key and value behaviors of an int-to-int hash map
+ *
+ * @author Maggie Lin
+ *
+ */
+public class IntIntHashMapTest {
+
+    /** Testing Hash Map with given capacity */
+    private IntIntHashMap map;
+
+    /**
+     * Create a new instance of an int-to-int hash map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        // When testing, alpha = 1, beta = 1, and prime = 7, so
+        // h(6) = h(13) = 0, h(0) = 1, and h(1) = 2
+        map = new IntIntHashMap(7, true);
+    }
+
+    /**
+     * Test the output of the primitive put, get, getOrDefault, containsKey, and
+     * remove behaviors
+     */
+    @Test
+    public void testPrimitiveKeysAndValues() {
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.put(6, 60));
+        assertEquals(0, map.put(13, 130));
+        assertEquals(0, map.put(1, 10));
+        assertEquals(60, map.put(6, 61));
+        assertEquals(3, map.size());
+        assertEquals(61, map.get(6));
+        assertEquals(0, map.get(0));
+        assertEquals(Integer.MAX_VALUE, map.getOrDefault(0, Integer.MAX_VALUE));
+        assertEquals(130, map.getOrDefault(13, Integer.MAX_VALUE));
+        assertTrue(map.containsKey(13));
+        assertFalse(map.containsKey(0));
+
+        assertEquals(61, map.remove(6));
+        assertEquals(0, map.remove(6));
+        assertEquals(2, map.size());
+        Iterator<Map.Entry<Integer, Integer>> it = map.entrySet().iterator();
+        Map.Entry<Integer, Integer> entry = it.next();
+        assertEquals(13, (int) entry.getKey());
+        assertEquals(130, (int) entry.getValue());
+        assertEquals(1, (int) it.next().getKey());
+        assertFalse(it.hasNext());
+    }
+
+    /**
+     * Test that the Map behaviors work with Integer keys and values, and reject
+     * null values
+     */
+    @Test
+    public void testBoxedKeysAndValues() {
+        Map<Integer, Integer> boxed = map;
+        assertNull(boxed.put(Integer.valueOf(4), Integer.valueOf(0)));
+        assertEquals(Integer.valueOf(0), boxed.put(Integer.valueOf(4), Integer.valueOf(40)));
+        assertEquals(Integer.valueOf(40), boxed.get(Integer.valueOf(4)));
+        assertNull(boxed.get(Integer.valueOf(5)));
+        try {
+            boxed.put(Integer.valueOf(5), null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, boxed.size());
+        }
+        assertEquals(Integer.valueOf(40), boxed.remove(Integer.valueOf(4)));
+        assertNull(boxed.remove(Integer.valueOf(4)));
+    }
+
+    /**
+     * Test that the primitive behaviors stay consistent with a reference map
+     * under heavy put and remove churn and resizing
+     */
+    @Test
+    public void testChurn() {
+        IntIntHashMap churn = new IntIntHashMap();
+        HashMapChecks.checkChurn(churn, unboxed(churn), i -> i - 2000, 4000, i -> i + 1);
+    }
+
+    /**
+     * Test that the primitive and boxed behaviors stay consistent with a
+     * reference map while incremental resizes are in progress
+     */
+    @Test
+    public void testIncrementalChurn() {
+        IntIntHashMap churn = new IntIntHashMap();
+        churn.setIncrementalResize(true);
+        assertTrue(HashMapChecks.checkChurn(churn, unboxed(churn), i -> i - 2000, 4000, i -> i + 1));
+        IntIntHashMap boxed = new IntIntHashMap();
+        boxed.setIncrementalResize(true);
+        assertTrue(HashMapChecks.checkChurn(boxed, i -> i - 2000, 4000, i -> -i));
+    }
+
+    /**
+     * Returns churn operations that call the methods of the given map that take
+     * an int key and value. The churn values are never 0, so a result of 0 means
+     * that the key was not in the map.
+     *
+     * @param churn the map to operate on
+     * @return the unboxed operations of the map
+     */
+    private static HashMapChecks.Operations<Integer, Integer> unboxed(IntIntHashMap churn) {
+        return new HashMapChecks.Operations<Integer, Integer>() {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Integer put(Integer key, Integer value) {
+                int previous = churn.put(key.intValue(), value.intValue());
+                return previous == 0 ? null : previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Integer remove(Integer key) {
+                int previous = churn.remove(key.intValue());
+                return previous == 0 ? null : previous;
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Integer get(Integer key) {
+                assertEquals(churn.get(key.intValue()), churn.getOrDefault(key.intValue(), 0));
+                return churn.containsKey(key.intValue()) ? churn.getOrDefault(key.intValue(), 0) : null;
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for IntObjectHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors and the
+ * primitive int key behaviors of an int-keyed hash map
+ *
+ * @author Maggie Lin
+ *
+ */
+public class IntObjectHashMapTest {
+
+    /** Testing Hash Map with given capacity */
+    private IntObjectHashMap<String> map;
+
+    /**
+     * Create a new instance of an int-keyed hash map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        // When testing, alpha = 1, beta = 1, and prime = 7, so
+        // h(6) = h(13) = 0, h(0) = 1, and h(1) = 2
+        map = new IntObjectHashMap<String>(7, true);
+    }
+
+    /**
+     * Test the output of the primitive put, get, containsKey, and remove behaviors
+     */
+    @Test
+    public void testPrimitiveKeys() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(6, "string6"));
+        assertNull(map.put(13, "string13"));
+        assertNull(map.put(1, "string1"));
+        assertEquals(3, map.size());
+        assertEquals("string6", map.put(6, "new6"));
+        assertEquals(3, map.size());
+        assertEquals("new6", map.get(6));
+        assertEquals("string13", map.get(13));
+        assertTrue(map.containsKey(1));
+        assertFalse(map.containsKey(0));
+        assertNull(map.get(0));
+
+        // 13 probed past index 0, so removing 6 moves 13 back to index 0
+        assertEquals("new6", map.remove(6));
+        assertNull(map.remove(6));
+        assertEquals(2, map.size());
+        Iterator<Map.Entry<Integer, String>> it = map.entrySet().iterator();
+        assertEquals(13, (int) it.next().getKey());
+        assertEquals(1, (int) it.next().getKey());
+        assertFalse(it.hasNext());
+        assertEquals("string13", map.get(13));
+    }
+
+    /**
+     * Test that the Map behaviors work with Integer keys
+     */
+    @Test
+    public void testBoxedKeys() {
+        Map<Integer, String> boxed = map;
+        assertNull(boxed.put(Integer.valueOf(-5), "minus5"));
+        assertEquals("minus5", boxed.get(Integer.valueOf(-5)));
+        assertEquals("minus5", map.get(-5));
+        assertEquals("minus5", boxed.remove(Integer.valueOf(-5)));
+        assertTrue(boxed.isEmpty());
+    }
+
+    /**
+     * Test that the primitive behaviors stay consistent with a reference map
+     * under heavy put and remove churn and resizing
+     */
+    @Test
+    public void testChurn() {
+        IntObjectHashMap<String> churn = new IntObjectHashMap<String>();
+        HashMapChecks.checkChurn(churn, unboxed(churn), i -> i - 2000, 4000, i -> "string" + i);
+    }
+
+    /**
+     * Test that the primitive and boxed behaviors stay consistent with a
+     * reference map while incremental resizes are in progress
+     */
+    @Test
+    public void testIncrementalChurn() {
+        IntObjectHashMap<String> churn = new IntObjectHashMap<String>();
+        churn.setIncrementalResize(true);
+        assertTrue(HashMapChecks.checkChurn(churn, unboxed(churn), i -> i - 2000, 4000, i -> "string" + i));
+        IntObjectHashMap<String> boxed = new IntObjectHashMap<String>();
+        boxed.setIncrementalResize(true);
+        assertTrue(HashMapChecks.checkChurn(boxed, i -> i - 2000, 4000, i -> "boxed" + i));
+    }
+
+    /**
+     * Returns churn operations that call the methods of the given map that take
+     * an int key
+     *
+     * @param churn the map to operate on
+     * @return the unboxed operations of the map
+     */
+    private static HashMapChecks.Operations<Integer, String> unboxed(IntObjectHashMap<String> churn) {
+        return new HashMapChecks.Operations<Integer, String>() {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String put(Integer key, String value) {
+                return churn.put(key.intValue(), value);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String remove(Integer key) {
+                return churn.remove(key.intValue());
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String get(Integer key) {
+                assertEquals(churn.get(key.intValue()) != null, churn.containsKey(key.intValue()));
+                return churn.get(key.intValue());
+            }
+        };
+    }
+}
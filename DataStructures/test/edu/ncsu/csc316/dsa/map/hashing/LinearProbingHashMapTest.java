@@ -248,4 +248,298 @@ public class LinearProbingHashMapTest {
         assertEquals("string3", it.next());
         assertEquals("string4", it.next());
     }
-}
\ No newline at end of file
+    
+    /**
+     * Test that an incremental resize keeps every entry reachable through get,
+     * put, and remove while entries are still being moved to the new table
+     */
+    @Test
+    public void testIncrementalResize() {
+        LinearProbingHashMap<Integer, String> incremental = new LinearProbingHashMap<Integer, String>(7, true);
+        incremental.setIncrementalResize(true);
+        for (int i = 0; i < 520; i++) {
+            assertNull(incremental.put(i, "string" + i));
+            assertEquals(i + 1, incremental.size());
+        }
+        assertTrue(incremental.isResizing());
+        for (int i = 0; i < 520; i += 3) {
+            assertEquals("string" + i, incremental.get(i));
+            assertEquals("string" + i, incremental.put(i, "new" + i));
+        }
+        for (int i = 1; i < 520; i += 3) {
+            assertEquals("string" + i, incremental.remove(i));
+            assertNull(incremental.get(i));
+        }
+        assertEquals(347, incremental.size());
+
+        int count = 0;
+        for (Map.Entry<Integer, String> entry : incremental.entrySet()) {
+            assertNotEquals(1, entry.getKey() % 3);
+            assertEquals((entry.getKey() % 3 == 0 ? "new" : "string") + entry.getKey(), entry.getValue());
+            count++;
+        }
+        assertEquals(347, count);
+        assertFalse(incremental.isResizing());
+    }
+
+    /**
+     * Test that switching to mixing compression rehashes the existing entries
+     * into a power-of-two table that keeps a power-of-two capacity as it grows
+     */
+    @Test
+    public void testMixingCompression() {
+        LinearProbingHashMap<Integer, String> mixing = new LinearProbingHashMap<Integer, String>(7, true);
+        for (int i = 0; i < 100; i++) {
+            mixing.put(i, "string" + i);
+        }
+        mixing.setCompressionStrategy(AbstractHashMap.MIXING_COMPRESSION);
+        assertEquals(0, mixing.capacity() & (mixing.capacity() - 1));
+        assertEquals(100, mixing.size());
+        for (int i = 100; i < 5000; i++) {
+            assertNull(mixing.put(i, "string" + i));
+        }
+        assertEquals(0, mixing.capacity() & (mixing.capacity() - 1));
+        for (int i = 0; i < 5000; i += 2) {
+            assertEquals("string" + i, mixing.remove(i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 0 ? null : "string" + i, mixing.get(i));
+        }
+        assertEquals(2500, mixing.size());
+
+        mixing.setCompressionStrategy(AbstractHashMap.MAD_COMPRESSION);
+        assertEquals("string4999", mixing.get(4999));
+        assertEquals(2500, mixing.size());
+    }
+
+    /**
+     * Test the output of the putAll(k[],v[]) and getAll(k[],v[]) behaviors, which
+     * resize the table once before loading the entries
+     */
+    @Test
+    public void testPutAll() {
+        LinearProbingHashMap<Integer, String> bulk = new LinearProbingHashMap<Integer, String>(7, true);
+        bulk.put(3, "string3");
+        Integer[] keys = new Integer[1000];
+        String[] values = new String[1000];
+        for (int i = 0; i < 1000; i++) {
+            keys[i] = i;
+            values[i] = "string" + i;
+        }
+        values[3] = "new3";
+        bulk.putAll(keys, values);
+        assertEquals(1000, bulk.size());
+        // One resize from 7 through 15, 31, ..., 2047 to hold 1001 entries
+        assertEquals(2047, bulk.capacity());
+
+        Integer[] lookups = { 3, 999, 1000, -1 };
+        String[] found = new String[4];
+        bulk.getAll(lookups, found);
+        assertEquals("new3", found[0]);
+        assertEquals("string999", found[1]);
+        assertNull(found[2]);
+        assertNull(found[3]);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(values[i], bulk.get(i));
+        }
+
+        bulk.setIncrementalResize(true);
+        Integer[] more = new Integer[2000];
+        String[] moreValues = new String[2000];
+        for (int i = 0; i < 2000; i++) {
+            more[i] = 1000 + i;
+            moreValues[i] = "string" + (1000 + i);
+        }
+        bulk.putAll(more, moreValues);
+        assertFalse(bulk.isResizing());
+        assertEquals(3000, bulk.size());
+        String[] all = new String[3000];
+        Integer[] allKeys = new Integer[3000];
+        for (int i = 0; i < 3000; i++) {
+            allKeys[i] = i;
+        }
+        bulk.getAll(allKeys, all);
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i == 3 ? "new3" : "string" + i, all[i]);
+        }
+    }
+
+    /**
+     * Test that putAll(k[],v[]) reuses and clears the deleted slots left by
+     * earlier removes, which the single resize before the batch does not count
+     */
+    @Test
+    public void testPutAllOverTombstones() {
+        LinearProbingHashMap<Integer, String> bulk = new LinearProbingHashMap<Integer, String>(2047, true);
+        for (int i = 0; i < 1000; i++) {
+            bulk.put(i, "string" + i);
+        }
+        for (int i = 0; i < 900; i++) {
+            bulk.remove(i);
+        }
+        assertEquals(900, bulk.stats().getTombstones());
+
+        // The 100 + 900 entries counted before the batch fit, so the table is not
+        // resized and the batch meets the deleted slots
+        Integer[] keys = new Integer[900];
+        String[] values = new String[900];
+        for (int i = 0; i < 900; i++) {
+            // Keys 450 to 899 were removed, 900 to 999 are live, and the rest are new
+            keys[i] = 450 + i;
+            values[i] = "new" + (450 + i);
+        }
+        bulk.putAll(keys, values);
+        // The 100 keys left from 900 to 999 are all replaced by the batch
+        assertEquals(900, bulk.size());
+        HashMapStats stats = bulk.stats();
+        assertTrue((double) (bulk.size() + stats.getTombstones()) / bulk.capacity() <= 0.5);
+        for (int i = 0; i < 1500; i++) {
+            assertEquals(i >= 450 && i < 1350 ? "new" + i : null, bulk.get(i));
+        }
+    }
+
+    /**
+     * Test that forEach(action) visits every entry once and that the entry set
+     * is a live view of the table
+     */
+    @Test
+    public void testForEach() {
+        LinearProbingHashMap<Integer, String> each = new LinearProbingHashMap<Integer, String>(7, true);
+        Iterable<Map.Entry<Integer, String>> entries = each.entrySet();
+        assertFalse(entries.iterator().hasNext());
+        for (int i = 0; i < 100; i++) {
+            each.put(i, "string" + i);
+        }
+        each.remove(50);
+        final int[] visited = new int[100];
+        each.forEach((key, value) -> {
+            assertEquals("string" + key, value);
+            visited[key]++;
+        });
+        int count = 0;
+        for (Map.Entry<Integer, String> entry : entries) {
+            assertEquals("string" + entry.getKey(), entry.getValue());
+            visited[entry.getKey()]++;
+            count++;
+        }
+        assertEquals(99, count);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i == 50 ? 0 : 2, visited[i]);
+        }
+        Iterator<Map.Entry<Integer, String>> it = entries.iterator();
+        try {
+            it.remove();
+            fail();
+        } catch (UnsupportedOperationException e) {
+            assertTrue(it.hasNext());
+        }
+    }
+
+    /**
+     * Test the output of the stats() behavior, including probe lengths,
+     * tombstones, and resizes recorded only while statistics are enabled
+     */
+    @Test
+    public void testStats() {
+        LinearProbingHashMap<Integer, String> probed = new LinearProbingHashMap<Integer, String>(7, true);
+        // h(6) = h(13) = h(20) = 0, so the keys fill slots 0, 1, and 2
+        probed.put(6, "string6");
+        probed.put(13, "string13");
+        probed.put(20, "string20");
+        HashMapStats stats = probed.stats();
+        assertArrayEquals(new long[] { 1, 1, 1 }, stats.getProbeHistogram());
+        assertEquals(2.0, stats.getAverageProbeLength(), 0.0001);
+        assertEquals(3, stats.getMaxChainLength());
+        assertEquals(0, stats.getTombstones());
+
+        probed.remove(13);
+        stats = probed.stats();
+        assertArrayEquals(new long[] { 1, 0, 1 }, stats.getProbeHistogram());
+        assertEquals(3, stats.getMaxProbeLength());
+        assertEquals(1, stats.getTombstones());
+        assertEquals(1.0 / 7, stats.getTombstoneRatio(), 0.0001);
+        // The deleted slot still joins the cluster
+        assertEquals(3, stats.getMaxChainLength());
+        // Two keys share one home bucket, where 7(1 - (6/7)^2) are expected
+        assertEquals(1 / (7 * (1 - 36.0 / 49)), stats.getCollisionScore(), 0.0001);
+        assertEquals(0, stats.getResizeCount());
+
+        probed.setStatsEnabled(true);
+        for (int i = 0; i < 100; i++) {
+            probed.put(i, "string" + i);
+        }
+        stats = probed.stats();
+        // Grows from 7 through 15, 31, 63, 127 to 255
+        assertEquals(5, stats.getResizeCount());
+        assertTrue(stats.getResizeNanos() > 0);
+        assertEquals(0, stats.getTombstones());
+        assertEquals(100, stats.getSize());
+        long entries = 0;
+        for (long count : stats.getProbeHistogram()) {
+            entries += count;
+        }
+        assertEquals(100, entries);
+    }
+
+    /**
+     * Test that steady put and remove churn with ever-new keys compacts the
+     * deleted slots at the same capacity instead of letting them fill the table
+     * or growing it without bound
+     */
+    @Test
+    public void testTombstoneChurn() {
+        LinearProbingHashMap<Integer, String> churned = new LinearProbingHashMap<Integer, String>();
+        for (int i = 0; i < 100; i++) {
+            churned.put(i, "string" + i);
+        }
+        int capacity = 0;
+        for (int i = 100; i < 100000; i++) {
+            if (i == 10000) {
+                // The table has grown until 100 entries fill no more than a quarter
+                capacity = churned.capacity();
+            }
+            assertNull(churned.put(i, "string" + i));
+            assertEquals("string" + (i - 100), churned.remove(i - 100));
+            assertEquals(100, churned.size());
+        }
+        assertEquals(capacity, churned.capacity());
+        HashMapStats stats = churned.stats();
+        assertTrue(stats.getTombstoneRatio() <= 0.5);
+        assertTrue(stats.getMaxChainLength() < capacity / 2);
+        for (int i = 99900; i < 100000; i++) {
+            assertEquals("string" + i, churned.get(i));
+        }
+        assertNull(churned.get(99899));
+    }
+
+    /**
+     * Test that compact() removes every deleted slot without changing the
+     * capacity, and that every remaining entry can still be found
+     */
+    @Test
+    public void testCompact() {
+        LinearProbingHashMap<Integer, String> compacted = new LinearProbingHashMap<Integer, String>(15, true);
+        // h(5) = h(12) = h(19) = 6 and h(6) = 0
+        compacted.put(5, "string5");
+        compacted.put(12, "string12");
+        compacted.put(19, "string19");
+        compacted.put(6, "string6");
+        compacted.remove(12);
+        compacted.remove(5);
+        HashMapStats stats = compacted.stats();
+        assertEquals(2, stats.getTombstones());
+        assertArrayEquals(new long[] { 1, 0, 1 }, stats.getProbeHistogram());
+
+        compacted.compact();
+        stats = compacted.stats();
+        assertEquals(0, stats.getTombstones());
+        assertEquals(15, compacted.capacity());
+        // 19 moves back to its home slot
+        assertArrayEquals(new long[] { 2 }, stats.getProbeHistogram());
+        assertEquals("string19", compacted.get(19));
+        assertEquals("string6", compacted.get(6));
+        assertNull(compacted.get(5));
+        assertNull(compacted.get(12));
+        assertEquals(2, compacted.size());
+    }
+}
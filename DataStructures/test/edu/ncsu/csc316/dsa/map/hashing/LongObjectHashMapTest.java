@@ -0,0 +1,148 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for LongObjectHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors and the
+ * primitive long key behaviors of an long-keyed hash map
+ *
+ * @author Maggie Lin
+ *
+ */
+public class LongObjectHashMapTest {
+
+    /** Testing Hash Map with given capacity */
+    private LongObjectHashMap<String> map;
+
+    /**
+     * Create a new instance of an long-keyed hash map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        // When testing, alpha = 1, beta = 1, and prime = 7, so
+        // h(6) = h(13) = 0, h(0) = 1, and h(1) = 2
+        map = new LongObjectHashMap<String>(7, true);
+    }
+
+    /**
+     * Test the output of the primitive put, get, containsKey, and remove behaviors
+     */
+    @Test
+    public void testPrimitiveKeys() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(6, "string6"));
+        assertNull(map.put(13, "string13"));
+        assertNull(map.put(1, "string1"));
+        assertEquals(3, map.size());
+        assertEquals("string6", map.put(6, "new6"));
+        assertEquals(3, map.size());
+        assertEquals("new6", map.get(6));
+        assertEquals("string13", map.get(13));
+        assertTrue(map.containsKey(1));
+        assertFalse(map.containsKey(0));
+        assertNull(map.get(0));
+
+        // 13 probed past index 0, so removing 6 moves 13 back to index 0
+        assertEquals("new6", map.remove(6));
+        assertNull(map.remove(6));
+        assertEquals(2, map.size());
+        Iterator<Map.Entry<Long, String>> it = map.entrySet().iterator();
+        assertEquals(13, (long) it.next().getKey());
+        assertEquals(1, (long) it.next().getKey());
+        assertFalse(it.hasNext());
+        assertEquals("string13", map.get(13));
+    }
+
+    /**
+     * Test that the Map behaviors work with Integer keys
+     */
+    @Test
+    public void testBoxedKeys() {
+        Map<Long, String> boxed = map;
+        assertNull(boxed.put(Long.valueOf(-5), "minus5"));
+        assertEquals("minus5", boxed.get(Long.valueOf(-5)));
+        assertEquals("minus5", map.get(-5));
+        assertEquals("minus5", boxed.remove(Long.valueOf(-5)));
+        assertTrue(boxed.isEmpty());
+    }
+
+    /**
+     * Test that the primitive behaviors stay consistent with a reference map
+     * under heavy put and remove churn and resizing, with keys whose low 32 bits
+     * collide
+     */
+    @Test
+    public void testChurn() {
+        LongObjectHashMap<String> churn = new LongObjectHashMap<String>();
+        HashMapChecks.checkChurn(churn, unboxed(churn), LongObjectHashMapTest::keyOf, 8000, i -> "string" + i);
+        assertNull(churn.get(5000L * 4294967296L));
+    }
+
+    /**
+     * Test that the primitive behaviors stay consistent with a reference map
+     * while incremental resizes are in progress
+     */
+    @Test
+    public void testIncrementalChurn() {
+        LongObjectHashMap<String> churn = new LongObjectHashMap<String>();
+        churn.setIncrementalResize(true);
+        assertTrue(HashMapChecks.checkChurn(churn, unboxed(churn), LongObjectHashMapTest::keyOf, 8000,
+                i -> "string" + i));
+    }
+
+    /**
+     * Returns the churn key with the given index. Pairs of keys share their high
+     * 32 bits, and the high bits of different pairs differ.
+     *
+     * @param index the index of the key
+     * @return the key
+     */
+    private static long keyOf(int index) {
+        return (index / 2 - 2000) * 4294967296L + index % 2;
+    }
+
+    /**
+     * Returns churn operations that call the methods of the given map that take
+     * a long key
+     *
+     * @param churn the map to operate on
+     * @return the unboxed operations of the map
+     */
+    private static HashMapChecks.Operations<Long, String> unboxed(LongObjectHashMap<String> churn) {
+        return new HashMapChecks.Operations<Long, String>() {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String put(Long key, String value) {
+                return churn.put(key.longValue(), value);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String remove(Long key) {
+                return churn.remove(key.longValue());
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public String get(Long key) {
+                assertEquals(churn.get(key.longValue()) != null, churn.containsKey(key.longValue()));
+                return churn.get(key.longValue());
+            }
+        };
+    }
+}
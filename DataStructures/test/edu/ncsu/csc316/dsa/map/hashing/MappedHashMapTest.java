@@ -0,0 +1,307 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for MappedHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors when using
+ * a hash map stored in a memory-mapped file, including reopening the file
+ *
+ * @author Maggie Lin
+ *
+ */
+public class MappedHashMapTest {
+
+    /** Temporary directory that holds the mapped files */
+    private File tempDirectory;
+
+    /** Path of the file that holds the map */
+    private String path;
+
+    /** Hash map stored in the file */
+    private Map<Integer, Long> map;
+
+    /**
+     * Create a new mapped hash map in a temporary directory before each test case
+     * executes
+     *
+     * @throws IOException if the temporary directory cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        tempDirectory = Files.createTempDirectory("mapped").toFile();
+        path = new File(tempDirectory, "index.map").getPath();
+        map = new MappedHashMap<Integer, Long>(path, MappedHashMap.INTEGER_CODEC, MappedHashMap.LONG_CODEC);
+    }
+
+    /**
+     * Delete the temporary directory after each test case executes
+     */
+    @After
+    public void tearDown() {
+        for (File file : tempDirectory.listFiles()) {
+            file.delete();
+        }
+        tempDirectory.delete();
+    }
+
+    /**
+     * Test the output of the put(k,v), get(k), and remove(k) behaviors
+     */
+    @Test
+    public void testPutGetRemove() {
+        assertTrue(map.isEmpty());
+        assertNull(map.get(200100));
+        assertNull(map.put(200100, 1L));
+        assertNull(map.put(200200, 2L));
+        assertEquals(2, map.size());
+        assertEquals(1L, (long) map.put(200100, 10L));
+        assertEquals(2, map.size());
+        assertEquals(10L, (long) map.get(200100));
+        assertEquals(2L, (long) map.get(200200));
+
+        assertNull(map.remove(200300));
+        assertEquals(10L, (long) map.remove(200100));
+        assertNull(map.get(200100));
+        assertEquals(1, map.size());
+        int count = 0;
+        for (Map.Entry<Integer, Long> entry : map.entrySet()) {
+            assertEquals(200200, (int) entry.getKey());
+            assertEquals(2L, (long) entry.getValue());
+            count++;
+        }
+        assertEquals(1, count);
+
+        try {
+            map.put(1, null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(1, map.size());
+        }
+    }
+
+    /**
+     * Test that the map stays consistent with a reference map under put and
+     * remove churn that resizes the table several times, and that only the map's
+     * own file is left afterward
+     */
+    @Test
+    public void testChurn() {
+        HashMapChecks.checkChurn(map, i -> i, 3000, i -> (long) i);
+        assertEquals(1, tempDirectory.listFiles().length);
+    }
+
+    /**
+     * Test that a map constructed with the path of an existing file finds the
+     * entries that were stored in it
+     */
+    @Test
+    public void testReopen() {
+        for (int i = 0; i < 1000; i++) {
+            map.put(200000000 + i, (long) i * i);
+        }
+        map.remove(200000005);
+        ((MappedHashMap<Integer, Long>) map).force();
+
+        Map<Integer, Long> reopened = new MappedHashMap<Integer, Long>(path, MappedHashMap.INTEGER_CODEC,
+                MappedHashMap.LONG_CODEC);
+        assertEquals(999, reopened.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i == 5 ? null : Long.valueOf((long) i * i), reopened.get(200000000 + i));
+        }
+        assertNull(reopened.put(200000005, 25L));
+        assertEquals(1000, reopened.size());
+
+        try {
+            new MappedHashMap<Long, Long>(path, MappedHashMap.LONG_CODEC, MappedHashMap.LONG_CODEC);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(1000, reopened.size());
+        }
+    }
+
+    /**
+     * Test that removed entries are counted toward the load factor, so churn over
+     * a small set of keys compacts the table instead of growing it, and that the
+     * count survives reopening the file
+     */
+    @Test
+    public void testDeletedSlots() {
+        MappedHashMap<Integer, Long> mapped = (MappedHashMap<Integer, Long>) map;
+        for (int i = 0; i < 10000; i++) {
+            assertNull(mapped.put(i, (long) i));
+            assertEquals(i, (long) mapped.remove(i));
+        }
+        assertTrue(mapped.isEmpty());
+        assertEquals(1, tempDirectory.listFiles().length);
+        HashMapStats stats = mapped.stats();
+        assertEquals(32, stats.getCapacity());
+        assertTrue(mapped.deletedSlots() <= 16);
+        mapped.compact();
+        assertEquals(0, mapped.deletedSlots());
+
+        mapped.put(7, 7L);
+        mapped.remove(7);
+        mapped.close();
+        MappedHashMap<Integer, Long> reopened = new MappedHashMap<Integer, Long>(path, MappedHashMap.INTEGER_CODEC,
+                MappedHashMap.LONG_CODEC);
+        assertEquals(1, reopened.deletedSlots());
+        reopened.compact();
+        assertEquals(0, reopened.deletedSlots());
+        assertNull(reopened.get(7));
+        reopened.close();
+    }
+
+    /**
+     * Test that the map stays consistent with a reference map while incremental
+     * resizes are in progress, and that the closed file reopens with the same
+     * entries
+     */
+    @Test
+    public void testIncrementalChurn() {
+        MappedHashMap<Integer, Long> mapped = (MappedHashMap<Integer, Long>) map;
+        mapped.setIncrementalResize(true);
+        assertTrue(HashMapChecks.checkChurn(map, i -> i, 3000, i -> (long) i));
+        java.util.Map<Integer, Long> expected = new java.util.HashMap<Integer, Long>();
+        for (Map.Entry<Integer, Long> entry : map.entrySet()) {
+            expected.put(entry.getKey(), entry.getValue());
+        }
+        mapped.close();
+        assertEquals(1, tempDirectory.listFiles().length);
+
+        Map<Integer, Long> reopened = new MappedHashMap<Integer, Long>(path, MappedHashMap.INTEGER_CODEC,
+                MappedHashMap.LONG_CODEC);
+        assertEquals(expected.size(), reopened.size());
+        for (int key = 0; key < 3000; key++) {
+            assertEquals(expected.get(key), reopened.get(key));
+        }
+    }
+
+    /**
+     * Test that the compression strategy can be changed, that the file records
+     * it, and that strategies the file cannot record are rejected
+     */
+    @Test
+    public void testCompressionStrategy() {
+        MappedHashMap<Integer, Long> mapped = (MappedHashMap<Integer, Long>) map;
+        for (int i = 0; i < 100; i++) {
+            mapped.put(i, (long) i);
+        }
+        mapped.setCompressionStrategy(AbstractHashMap.MAD_COMPRESSION);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (long) mapped.get(i));
+        }
+        try {
+            mapped.setCompressionStrategy(new AbstractHashMap.CompressionStrategy() {
+                @Override
+                public int compress(int hashCode, AbstractHashMap<?, ?> m) {
+                    return 0;
+                }
+
+                @Override
+                public int tableCapacity(int capacity) {
+                    return capacity;
+                }
+
+                @Override
+                public int nextCapacity(int capacity) {
+                    return capacity + 1;
+                }
+            });
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(100, mapped.size());
+        }
+        mapped.close();
+        assertEquals(1, tempDirectory.listFiles().length);
+
+        MappedHashMap<Integer, Long> reopened = new MappedHashMap<Integer, Long>(path, MappedHashMap.INTEGER_CODEC,
+                MappedHashMap.LONG_CODEC);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (long) reopened.get(i));
+        }
+        reopened.setCompressionStrategy(AbstractHashMap.MIXING_COMPRESSION);
+        assertEquals(99L, (long) reopened.get(99));
+        reopened.close();
+    }
+
+    /**
+     * Test that a closed map cannot be used, and that closing it again has no
+     * effect
+     */
+    @Test
+    public void testClose() {
+        MappedHashMap<Integer, Long> mapped = (MappedHashMap<Integer, Long>) map;
+        mapped.put(1, 1L);
+        mapped.close();
+        mapped.close();
+        try {
+            mapped.get(1);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals(1, mapped.size());
+        }
+        try {
+            mapped.force();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals(1, mapped.size());
+        }
+    }
+
+    /**
+     * Test that a file whose header records a larger table than the file holds
+     * is rejected when it is opened
+     *
+     * @throws IOException if the file cannot be shortened
+     */
+    @Test
+    public void testTruncatedFile() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            map.put(i, (long) i);
+        }
+        ((MappedHashMap<Integer, Long>) map).close();
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        try {
+            new MappedHashMap<Integer, Long>(path, MappedHashMap.INTEGER_CODEC, MappedHashMap.LONG_CODEC);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("The file header does not match the table"));
+        }
+    }
+
+    /**
+     * Test that putAll(k[],v[]) resizes the file once and leaves only the map's
+     * own file
+     */
+    @Test
+    public void testPutAll() {
+        Integer[] keys = new Integer[5000];
+        Long[] values = new Long[5000];
+        for (int i = 0; i < 5000; i++) {
+            keys[i] = i;
+            values[i] = (long) -i;
+        }
+        map.putAll(keys, values);
+        assertEquals(5000, map.size());
+        assertEquals(1, tempDirectory.listFiles().length);
+        Long[] found = new Long[5000];
+        map.getAll(keys, found);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(-i, (long) found[i]);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package edu.ncsu.csc316.dsa.map.hashing;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.map.Map;
+
+/**
+ * Test class for RobinHoodHashMap
+ * Checks the expected outputs of the Map abstract data type behaviors when using
+ * a Robin Hood hash map data structure
+ *
+ * @author Maggie Lin
+ *
+ */
+public class RobinHoodHashMapTest {
+
+    /** Testing Hash Map with given capacity */
+    private Map<Integer, String> map;
+
+    /** Normal Hash Map */
+    private Map<Integer, String> map2;
+
+    /**
+     * Create a new instance of a Robin Hood hash map before each test case executes
+     */
+    @Before
+    public void setUp() {
+        // When testing, alpha = 1, beta = 1, and prime = 7, so
+        // h(6) = h(13) = h(20) = 0 and h(1) = 2
+        map = new RobinHoodHashMap<Integer, String>(7, true);
+        map2 = new RobinHoodHashMap<Integer, String>();
+    }
+
+    /**
+     * Test the output of the put(k,v) behavior, including displacement of
+     * entries that are closer to their buckets
+     */
+    @Test
+    public void testPut() {
+        assertTrue(map.isEmpty());
+        assertNull(map.put(6, "string6"));
+        assertNull(map.put(13, "string13"));
+        assertNull(map.put(1, "string1"));
+        // 20 probes past 1, which is in its own bucket, so 1 moves to index 3
+        assertNull(map.put(20, "string20"));
+        assertEquals(4, map.size());
+        Iterator<Map.Entry<Integer, String>> it = map.entrySet().iterator();
+        assertEquals(6, (int) it.next().getKey());
+        assertEquals(13, (int) it.next().getKey());
+        assertEquals(20, (int) it.next().getKey());
+        assertEquals(1, (int) it.next().getKey());
+        assertFalse(it.hasNext());
+
+        assertEquals("string13", map.put(13, "new13"));
+        assertEquals(4, map.size());
+        assertEquals("new13", map.get(13));
+    }
+
+    /**
+     * Test the output of the get(k) behavior
+     */
+    @Test
+    public void testGet() {
+        assertNull(map.get(6));
+        map.put(6, "string6");
+        map.put(13, "string13");
+        map.put(1, "string1");
+        map.put(20, "string20");
+        assertEquals("string6", map.get(6));
+        assertEquals("string13", map.get(13));
+        assertEquals("string1", map.get(1));
+        assertEquals("string20", map.get(20));
+        assertNull(map.get(27));
+        assertNull(map.get(2));
+    }
+
+    /**
+     * Test the output of the remove(k) behavior, including backward-shift
+     * deletion
+     */
+    @Test
+    public void testRemove() {
+        assertNull(map.remove(6));
+        map.put(6, "string6");
+        map.put(13, "string13");
+        map.put(1, "string1");
+        map.put(20, "string20");
+
+        assertEquals("string13", map.remove(13));
+        assertEquals(3, map.size());
+        assertNull(map.remove(13));
+        Iterator<Map.Entry<Integer, String>> it = map.entrySet().iterator();
+        assertEquals(6, (int) it.next().getKey());
+        assertEquals(20, (int) it.next().getKey());
+        assertEquals(1, (int) it.next().getKey());
+        assertEquals("string20", map.get(20));
+        assertEquals("string1", map.get(1));
+
+        assertEquals("string6", map.remove(6));
+        assertEquals("string20", map.remove(20));
+        assertEquals("string1", map.remove(1));
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Test that the map stays consistent with a reference map under heavy put
+     * and remove churn, with and without incremental resizing
+     */
+    @Test
+    public void testChurn() {
+        HashMapChecks.checkChurn(map2, i -> i, 2000, i -> "string" + i);
+        RobinHoodHashMap<Integer, String> incremental = new RobinHoodHashMap<Integer, String>();
+        incremental.setIncrementalResize(true);
+        assertTrue(HashMapChecks.checkChurn(incremental, i -> i, 2000, i -> "string" + i));
+    }
+
+    /**
+     * Test the output of the iterator() and values() behaviors
+     */
+    @Test
+    public void testIterators() {
+        map.put(6, "string6");
+        map.put(1, "string1");
+        Iterator<Integer> it = map.iterator();
+        assertEquals(6, (int) it.next());
+        assertEquals(1, (int) it.next());
+        Iterator<String> values = map.values().iterator();
+        assertEquals("string6", values.next());
+        assertEquals("string1", values.next());
+        assertFalse(values.hasNext());
+    }
+
+    /**
+     * Test that switching to mixing compression rehashes the existing entries
+     * into a power-of-two table that keeps a power-of-two capacity as it grows
+     */
+    @Test
+    public void testMixingCompression() {
+        RobinHoodHashMap<Integer, String> mixing = new RobinHoodHashMap<Integer, String>(7, true);
+        for (int i = 0; i < 100; i++) {
+            mixing.put(i, "string" + i);
+        }
+        mixing.setCompressionStrategy(AbstractHashMap.MIXING_COMPRESSION);
+        assertEquals(0, mixing.capacity() & (mixing.capacity() - 1));
+        assertEquals(100, mixing.size());
+        for (int i = 100; i < 5000; i++) {
+            assertNull(mixing.put(i, "string" + i));
+        }
+        assertEquals(0, mixing.capacity() & (mixing.capacity() - 1));
+        for (int i = 0; i < 5000; i += 2) {
+            assertEquals("string" + i, mixing.remove(i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 0 ? null : "string" + i, mixing.get(i));
+        }
+        assertEquals(2500, mixing.size());
+
+        mixing.setCompressionStrategy(AbstractHashMap.MAD_COMPRESSION);
+        assertEquals("string4999", mixing.get(4999));
+        assertEquals(2500, mixing.size());
+    }
+
+    /**
+     * Test the output of the stats() behavior, which shows that removals leave
+     * no deleted slots behind
+     */
+    @Test
+    public void testStats() {
+        RobinHoodHashMap<Integer, String> robin = (RobinHoodHashMap<Integer, String>) map;
+        robin.put(6, "string6");
+        robin.put(13, "string13");
+        robin.put(20, "string20");
+        assertArrayEquals(new long[] { 1, 1, 1 }, robin.stats().getProbeHistogram());
+        robin.remove(13);
+        HashMapStats stats = robin.stats();
+        assertArrayEquals(new long[] { 1, 1 }, stats.getProbeHistogram());
+        assertEquals(0, stats.getTombstones());
+        assertEquals(2, stats.getMaxChainLength());
+    }
+}
@@ -256,4 +256,268 @@ public class SeparateChainingHashMapTest {
         assertEquals("string3", it.next());
         assertEquals("string4", it.next());
     }
-}
\ No newline at end of file
+    
+    /**
+     * Test that an incremental resize keeps every entry reachable through get,
+     * put, and remove while entries are still being moved to the new table
+     */
+    @Test
+    public void testIncrementalResize() {
+        SeparateChainingHashMap<Integer, String> incremental = new SeparateChainingHashMap<Integer, String>(7, true);
+        incremental.setIncrementalResize(true);
+        for (int i = 0; i < 520; i++) {
+            assertNull(incremental.put(i, "string" + i));
+            assertEquals(i + 1, incremental.size());
+        }
+        assertTrue(incremental.isResizing());
+        for (int i = 0; i < 520; i += 3) {
+            assertEquals("string" + i, incremental.get(i));
+            assertEquals("string" + i, incremental.put(i, "new" + i));
+        }
+        for (int i = 1; i < 520; i += 3) {
+            assertEquals("string" + i, incremental.remove(i));
+            assertNull(incremental.get(i));
+        }
+        assertEquals(347, incremental.size());
+
+        int count = 0;
+        for (Map.Entry<Integer, String> entry : incremental.entrySet()) {
+            assertNotEquals(1, entry.getKey() % 3);
+            assertEquals((entry.getKey() % 3 == 0 ? "new" : "string") + entry.getKey(), entry.getValue());
+            count++;
+        }
+        assertEquals(347, count);
+        assertFalse(incremental.isResizing());
+    }
+
+    /**
+     * Test that switching to mixing compression rehashes the existing entries
+     * into a power-of-two table that keeps a power-of-two capacity as it grows
+     */
+    @Test
+    public void testMixingCompression() {
+        SeparateChainingHashMap<Integer, String> mixing = new SeparateChainingHashMap<Integer, String>(7, true);
+        for (int i = 0; i < 100; i++) {
+            mixing.put(i, "string" + i);
+        }
+        mixing.setCompressionStrategy(AbstractHashMap.MIXING_COMPRESSION);
+        assertEquals(0, mixing.capacity() & (mixing.capacity() - 1));
+        assertEquals(100, mixing.size());
+        for (int i = 100; i < 5000; i++) {
+            assertNull(mixing.put(i, "string" + i));
+        }
+        assertEquals(0, mixing.capacity() & (mixing.capacity() - 1));
+        for (int i = 0; i < 5000; i += 2) {
+            assertEquals("string" + i, mixing.remove(i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 0 ? null : "string" + i, mixing.get(i));
+        }
+        assertEquals(2500, mixing.size());
+
+        mixing.setCompressionStrategy(AbstractHashMap.MAD_COMPRESSION);
+        assertEquals("string4999", mixing.get(4999));
+        assertEquals(2500, mixing.size());
+    }
+
+    /**
+     * Test that a bucket holding many colliding keys changes from an array to a
+     * tree and back while keeping its entries sorted and reachable
+     */
+    @Test
+    public void testAdaptiveBuckets() {
+        SeparateChainingHashMap<CollidingKey, Integer> colliding = new SeparateChainingHashMap<CollidingKey, Integer>();
+        // Insert in reverse so that every array insertion shifts the entries
+        for (int i = 99; i >= 0; i--) {
+            assertNull(colliding.put(new CollidingKey(i), i));
+        }
+        assertEquals(100, colliding.size());
+        assertEquals(42, (int) colliding.put(new CollidingKey(42), 420));
+        assertEquals(100, colliding.size());
+        int expected = 0;
+        for (Map.Entry<CollidingKey, Integer> entry : colliding.entrySet()) {
+            assertEquals(expected, entry.getKey().id);
+            expected++;
+        }
+        assertEquals(100, expected);
+
+        for (int i = 0; i < 97; i++) {
+            assertEquals(i == 42 ? 420 : i, (int) colliding.remove(new CollidingKey(i)));
+            assertNull(colliding.get(new CollidingKey(i)));
+            assertEquals(99, (int) colliding.get(new CollidingKey(99)));
+        }
+        assertEquals(3, colliding.size());
+        Iterator<Map.Entry<CollidingKey, Integer>> it = colliding.entrySet().iterator();
+        assertEquals(97, it.next().getKey().id);
+        assertEquals(98, it.next().getKey().id);
+        assertEquals(99, it.next().getKey().id);
+        assertFalse(it.hasNext());
+        assertEquals(98, (int) colliding.remove(new CollidingKey(98)));
+        assertNull(colliding.remove(new CollidingKey(98)));
+        assertEquals(97, (int) colliding.remove(new CollidingKey(97)));
+        assertEquals(99, (int) colliding.remove(new CollidingKey(99)));
+        assertTrue(colliding.isEmpty());
+    }
+
+    /**
+     * CollidingKey is a key whose hash code is always the same, so that every
+     * key is placed in the same bucket
+     *
+     * @author Maggie Lin
+     *
+     */
+    private static class CollidingKey implements Comparable<CollidingKey> {
+
+        /** The identifier of the key */
+        private int id;
+
+        /**
+         * Constructs a key with the given identifier
+         *
+         * @param id the identifier of the key
+         */
+        CollidingKey(int id) {
+            this.id = id;
+        }
+
+        /**
+         * Returns the same hash code for every key
+         *
+         * @return the hash code of the key
+         */
+        @Override
+        public int hashCode() {
+            return 316;
+        }
+
+        /**
+         * Returns true if the given object is a key with the same identifier
+         *
+         * @param o the object to compare with
+         * @return true if the object is an equal key
+         */
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    /**
+     * Test that putAll(k[],v[]) on colliding keys changes their bucket from an
+     * array to a tree partway through the batch, keeps the last value of a
+     * repeated key, and moves the buckets of an incremental resize in between
+     */
+    @Test
+    public void testPutAllColliding() {
+        SeparateChainingHashMap<CollidingKey, Integer> bulk = new SeparateChainingHashMap<CollidingKey, Integer>(7, true);
+        bulk.setIncrementalResize(true);
+        for (int i = 0; i < 4; i++) {
+            bulk.put(new CollidingKey(1000 + i), 1000 + i);
+        }
+        CollidingKey[] keys = new CollidingKey[201];
+        Integer[] values = new Integer[201];
+        for (int i = 0; i < 200; i++) {
+            keys[i] = new CollidingKey(199 - i);
+            values[i] = 199 - i;
+        }
+        keys[200] = new CollidingKey(42);
+        values[200] = 420;
+        bulk.putAll(keys, values);
+        assertFalse(bulk.isResizing());
+        assertEquals(204, bulk.size());
+        assertEquals(204, bulk.stats().getMaxChainLength());
+
+        CollidingKey[] lookups = { new CollidingKey(42), new CollidingKey(0), new CollidingKey(1003),
+            new CollidingKey(200) };
+        Integer[] found = new Integer[4];
+        bulk.getAll(lookups, found);
+        assertEquals(420, (int) found[0]);
+        assertEquals(0, (int) found[1]);
+        assertEquals(1003, (int) found[2]);
+        assertNull(found[3]);
+        int expected = 0;
+        for (Map.Entry<CollidingKey, Integer> entry : bulk.entrySet()) {
+            assertEquals(expected, entry.getKey().id);
+            expected = expected == 199 ? 1000 : expected + 1;
+        }
+        assertEquals(1004, expected);
+    }
+
+    /**
+     * Test that forEach(action) visits every entry once and that the entry set
+     * is a live view of the table
+     */
+    @Test
+    public void testForEach() {
+        SeparateChainingHashMap<Integer, String> each = new SeparateChainingHashMap<Integer, String>(7, true);
+        Iterable<Map.Entry<Integer, String>> entries = each.entrySet();
+        assertFalse(entries.iterator().hasNext());
+        for (int i = 0; i < 100; i++) {
+            each.put(i, "string" + i);
+        }
+        each.remove(50);
+        final int[] visited = new int[100];
+        each.forEach((key, value) -> {
+            assertEquals("string" + key, value);
+            visited[key]++;
+        });
+        int count = 0;
+        for (Map.Entry<Integer, String> entry : entries) {
+            assertEquals("string" + entry.getKey(), entry.getValue());
+            visited[entry.getKey()]++;
+            count++;
+        }
+        assertEquals(99, count);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i == 50 ? 0 : 2, visited[i]);
+        }
+        Iterator<Map.Entry<Integer, String>> it = entries.iterator();
+        try {
+            it.remove();
+            fail();
+        } catch (UnsupportedOperationException e) {
+            assertTrue(it.hasNext());
+        }
+    }
+
+    /**
+     * Test the output of the stats() behavior for array buckets and for a tree
+     * bucket created by keys with equal hash codes
+     */
+    @Test
+    public void testStats() {
+        SeparateChainingHashMap<Integer, String> chained = new SeparateChainingHashMap<Integer, String>(7, true);
+        // h(6) = h(13) = h(20) = 0 and h(1) = 2
+        chained.put(6, "string6");
+        chained.put(13, "string13");
+        chained.put(20, "string20");
+        HashMapStats stats = chained.stats();
+        assertArrayEquals(new long[] { 1, 1, 1 }, stats.getProbeHistogram());
+        assertEquals(3, stats.getMaxChainLength());
+        assertEquals(0, stats.getMaxTreeHeight());
+        assertEquals(0, stats.getTombstones());
+
+        SeparateChainingHashMap<CollidingKey, Integer> colliding = new SeparateChainingHashMap<CollidingKey, Integer>();
+        colliding.setStatsEnabled(true);
+        for (int i = 0; i < 50; i++) {
+            colliding.put(new CollidingKey(i), i);
+        }
+        stats = colliding.stats();
+        assertEquals(50, stats.getMaxChainLength());
+        // An AVL tree with 50 entries is 6 or 7 levels tall
+        assertTrue(stats.getMaxTreeHeight() >= 6 && stats.getMaxTreeHeight() <= 7);
+        assertEquals(stats.getMaxTreeHeight(), stats.getMaxProbeLength());
+        assertEquals(1, stats.getProbeHistogram()[0]);
+        assertTrue(stats.getCollisionScore() < 0.1);
+        // Grows from 17 through 35 and 71 to 143
+        assertEquals(3, stats.getResizeCount());
+    }
+}
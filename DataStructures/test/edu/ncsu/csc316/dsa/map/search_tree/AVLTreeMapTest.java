@@ -149,4 +149,29 @@ public class AVLTreeMapTest {
 		assertEquals(1, (int) newTree.remove(sOne));
 		assertEquals(sThree, newTree.root().getElement().getKey());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test that the subtree sizes stay correct through the single and double
+	 * rotations of AVL rebalancing, after every put and remove
+	 */
+	@Test
+	public void testOrderStatisticsChurn() {
+		// Ascending keys rotate at every other insert, and the zig-zag keys between
+		// them need double rotations
+		for (int key = 0; key < 200; key += 2) {
+			tree.put(key, "string" + key);
+			BinarySearchTreeMapTest.assertOrderStatistics(tree);
+		}
+		for (int key = 199; key > 0; key -= 4) {
+			tree.put(key, "string" + key);
+			BinarySearchTreeMapTest.assertOrderStatistics(tree);
+		}
+		// Removing one side of the tree rebalances all the way up
+		for (int key = 0; key < 100; key++) {
+			tree.remove(key);
+			BinarySearchTreeMapTest.assertOrderStatistics(tree);
+		}
+		assertEquals(75, tree.size());
+		assertEquals(100, (int) tree.select(0).getKey());
+	}
+}
@@ -0,0 +1,201 @@
+package edu.ncsu.csc316.dsa.map.search_tree;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.map.Map;
+import edu.ncsu.csc316.dsa.map.Map.Entry;
+import edu.ncsu.csc316.dsa.map.OrderedMapChecks;
+
+/**
+ * Test class for BPlusTreeMap
+ * Checks the expected outputs of the Map abstract data type behaviors when using
+ * a B+ tree with array-backed nodes and linked leaves
+ *
+ * @author Maggie Lin
+ *
+ */
+public class BPlusTreeMapTest {
+
+	/** B+ tree with the smallest order, so that nodes split and merge often */
+	private BPlusTreeMap<Integer, String> tree;
+
+	/**
+	 * Create a new instance of a B+ tree map before each test case executes
+	 */
+	@Before
+	public void setUp() {
+		tree = new BPlusTreeMap<Integer, String>(3, null);
+	}
+
+	/**
+	 * Test the output of the put(k,v), get(k), and remove(k) behaviors
+	 */
+	@Test
+	public void testPutGetRemove() {
+		assertTrue(tree.isEmpty());
+		assertNull(tree.get(1));
+		assertNull(tree.remove(1));
+		int[] keys = { 50, 20, 80, 10, 30, 70, 90, 25, 35, 60, 5, 95 };
+		for (int key : keys) {
+			assertNull(tree.put(key, "string" + key));
+		}
+		assertEquals(12, tree.size());
+		assertEquals("BPlusTreeMap[5, 10, 20, 25, 30, 35, 50, 60, 70, 80, 90, 95]", tree.toString());
+		assertEquals("string30", tree.put(30, "new30"));
+		assertEquals(12, tree.size());
+		assertEquals("new30", tree.get(30));
+		assertNull(tree.get(31));
+
+		assertEquals("string50", tree.remove(50));
+		assertNull(tree.remove(50));
+		assertEquals("string5", tree.remove(5));
+		assertEquals("string95", tree.remove(95));
+		assertEquals(9, tree.size());
+		assertEquals("BPlusTreeMap[10, 20, 25, 30, 35, 60, 70, 80, 90]", tree.toString());
+		for (int key : keys) {
+			tree.remove(key);
+		}
+		assertTrue(tree.isEmpty());
+		assertEquals("BPlusTreeMap[]", tree.toString());
+		assertNull(tree.put(1, "string1"));
+		assertEquals("string1", tree.get(1));
+	}
+
+	/**
+	 * Test that the map stays consistent with a reference map under random put
+	 * and remove churn that splits, borrows, and merges nodes at every level
+	 */
+	@Test
+	public void testChurn() {
+		for (int order = 3; order <= 6; order++) {
+			BPlusTreeMap<Integer, String> churned = new BPlusTreeMap<Integer, String>(order, null);
+			java.util.TreeMap<Integer, String> expected = new java.util.TreeMap<Integer, String>();
+			Random rand = new Random(316 + order);
+			for (int i = 0; i < 20000; i++) {
+				int key = rand.nextInt(2000);
+				if (rand.nextInt(5) < 3) {
+					String value = "string" + i;
+					assertEquals(expected.put(key, value), churned.put(key, value));
+				} else {
+					assertEquals(expected.remove(key), churned.remove(key));
+				}
+				assertEquals(expected.size(), churned.size());
+			}
+			for (int key = 0; key < 2000; key++) {
+				assertEquals(expected.get(key), churned.get(key));
+			}
+			Iterator<java.util.Map.Entry<Integer, String>> expectedIt = expected.entrySet().iterator();
+			for (Entry<Integer, String> entry : churned.entrySet()) {
+				java.util.Map.Entry<Integer, String> next = expectedIt.next();
+				assertEquals(next.getKey(), entry.getKey());
+				assertEquals(next.getValue(), entry.getValue());
+			}
+			assertFalse(expectedIt.hasNext());
+			for (int key = 0; key < 2000; key++) {
+				churned.remove(key);
+			}
+			assertTrue(churned.isEmpty());
+		}
+	}
+
+	/**
+	 * Test the output of the entrySet() and forEach(action) behaviors, which
+	 * visit the entries in key order across the linked leaves
+	 */
+	@Test
+	public void testEntrySet() {
+		Iterator<Entry<Integer, String>> it = tree.entrySet().iterator();
+		assertFalse(it.hasNext());
+		for (int i = 100; i > 0; i--) {
+			tree.put(i, "string" + i);
+		}
+		it = tree.entrySet().iterator();
+		try {
+			it.remove();
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertTrue(it.hasNext());
+		}
+		for (int i = 1; i <= 100; i++) {
+			Entry<Integer, String> entry = it.next();
+			assertEquals(i, (int) entry.getKey());
+			assertEquals("string" + i, entry.getValue());
+		}
+		assertFalse(it.hasNext());
+		try {
+			it.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			assertFalse(it.hasNext());
+		}
+
+		final int[] previous = { 0 };
+		tree.forEach((key, value) -> {
+			assertEquals(previous[0] + 1, (int) key);
+			assertEquals("string" + key, value);
+			previous[0] = key;
+		});
+		assertEquals(100, previous[0]);
+	}
+
+	/**
+	 * Test the output of the map with a comparator and the default order
+	 */
+	@Test
+	public void testComparator() {
+		Map<Student, Integer> students = new BPlusTreeMap<Student, Integer>(new StudentIDComparator());
+		Student sOne = new Student("OneFirst", "OneLast", 1, 1, 1.0, "oneUnityID");
+		Student sTwo = new Student("TwoFirst", "TwoLast", 2, 2, 2.0, "twoUnityID");
+		Student sThree = new Student("ThreeFirst", "ThreeLast", 3, 3, 3.0, "threeUnityID");
+		assertNull(students.put(sThree, 3));
+		assertNull(students.put(sOne, 1));
+		assertNull(students.put(sTwo, 2));
+		assertEquals(2, (int) students.get(sTwo));
+		Iterator<Entry<Student, Integer>> it = students.entrySet().iterator();
+		assertEquals(sOne, it.next().getKey());
+		assertEquals(sTwo, it.next().getKey());
+		assertEquals(sThree, it.next().getKey());
+		assertEquals(3, (int) students.remove(sThree));
+		assertEquals(2, students.size());
+	}
+
+	/**
+	 * Test that an order less than 3 is rejected
+	 */
+	@Test
+	public void testInvalidOrder() {
+		try {
+			new BPlusTreeMap<Integer, String>(2, null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(tree.isEmpty());
+		}
+	}
+
+	/**
+	 * Test the ordered navigation behaviors and range views shared by every
+	 * ordered map, with the smallest order so that the entries span many leaves
+	 */
+	@Test
+	public void testNavigation() {
+		OrderedMapChecks.checkNavigation(tree);
+	}
+
+	/**
+	 * Test that navigation agrees with a reference map after churn, when the
+	 * nearest key is often in a neighbouring leaf
+	 */
+	@Test
+	public void testNavigationChurn() {
+		OrderedMapChecks.checkAgainstTreeMap(tree, 316);
+	}
+}
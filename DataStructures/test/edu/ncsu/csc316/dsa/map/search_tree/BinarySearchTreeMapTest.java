@@ -3,6 +3,7 @@ package edu.ncsu.csc316.dsa.map.search_tree;
 import static org.junit.Assert.*;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -10,6 +11,7 @@ import org.junit.Test;
 import edu.ncsu.csc316.dsa.data.Student;
 import edu.ncsu.csc316.dsa.data.StudentIDComparator;
 import edu.ncsu.csc316.dsa.map.Map.Entry;
+import edu.ncsu.csc316.dsa.map.OrderedMapChecks;
 
 /**
  * Test class for BinarySearchTreeMap
@@ -236,5 +238,118 @@ public class BinarySearchTreeMapTest {
 		assertEquals(3, (int) newTree.remove(sThree));
 		assertEquals(sFour, newTree.root().getElement().getKey());
 	}
-    
-}
\ No newline at end of file
+
+	/**
+	 * Test that forEach(action) and the entry set visit the entries in sorted
+	 * order, and that the entry set sees later changes to the tree
+	 */
+	@Test
+	public void testForEach() {
+		Iterable<Entry<Integer, String>> entries = tree.entrySet();
+		int[] keys = { 50, 20, 80, 10, 30, 70, 90, 25, 35, 60 };
+		for (int key : keys) {
+			tree.put(key, "string" + key);
+		}
+		tree.remove(20);
+		final StringBuilder order = new StringBuilder();
+		tree.forEach((key, value) -> {
+			assertEquals("string" + key, value);
+			order.append(key).append(" ");
+		});
+		assertEquals("10 25 30 35 50 60 70 80 90 ", order.toString());
+		StringBuilder iterated = new StringBuilder();
+		for (Entry<Integer, String> entry : entries) {
+			iterated.append(entry.getKey()).append(" ");
+		}
+		assertEquals(order.toString(), iterated.toString());
+		Iterator<Entry<Integer, String>> it = entries.iterator();
+		for (int i = 0; i < 9; i++) {
+			assertTrue(it.hasNext());
+			it.next();
+		}
+		assertFalse(it.hasNext());
+		try {
+			it.next();
+			fail();
+		} catch (NoSuchElementException e) {
+			assertFalse(it.hasNext());
+		}
+	}
+
+	/**
+	 * Test the ordered navigation behaviors and range views shared by every
+	 * ordered map
+	 */
+	@Test
+	public void testNavigation() {
+		OrderedMapChecks.checkNavigation(tree);
+	}
+
+	/**
+	 * Test the output of the rank(k), select(i), and countRange(k1,k2) behaviors
+	 */
+	@Test
+	public void testOrderStatistics() {
+		assertEquals(0, tree.rank(5));
+		assertEquals(0, tree.countRange(0, 10));
+		try {
+			tree.select(0);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertTrue(tree.isEmpty());
+		}
+		int[] keys = { 50, 20, 80, 10, 30, 70, 90, 40, 60, 100 };
+		for (int key : keys) {
+			tree.put(key, "string" + key);
+		}
+		assertEquals(0, tree.rank(5));
+		assertEquals(0, tree.rank(10));
+		assertEquals(5, tree.rank(55));
+		assertEquals(5, tree.rank(60));
+		assertEquals(10, tree.rank(101));
+		assertEquals(10, (int) tree.select(0).getKey());
+		assertEquals(50, (int) tree.select(4).getKey());
+		assertEquals("string100", tree.select(9).getValue());
+		try {
+			tree.select(10);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(10, tree.size());
+		}
+		assertEquals(3, tree.countRange(25, 60));
+		assertEquals(10, tree.countRange(10, 101));
+		assertEquals(0, tree.countRange(30, 30));
+		try {
+			tree.countRange(60, 25);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(10, tree.size());
+		}
+
+		assertEquals("string50", tree.remove(50));
+		assertEquals("string10", tree.remove(10));
+		assertNull(tree.remove(55));
+		assertEquals(3, tree.rank(55));
+		assertEquals(20, (int) tree.select(0).getKey());
+		assertEquals(60, (int) tree.select(3).getKey());
+		assertEquals(2, tree.countRange(25, 60));
+	}
+
+	/**
+	 * Checks that select(i) returns the entry at index i of an inorder traversal
+	 * and that rank(k) returns i for its key, for every entry. A wrong subtree
+	 * size anywhere in the tree sends some select or rank down the wrong path.
+	 *
+	 * @param tree the tree to check
+	 */
+	static void assertOrderStatistics(BinarySearchTreeMap<Integer, String> tree) {
+		int index = 0;
+		for (Entry<Integer, String> entry : tree.entrySet()) {
+			assertEquals(index, tree.rank(entry.getKey()));
+			assertEquals(entry.getKey(), tree.select(index).getKey());
+			index++;
+		}
+		assertEquals(tree.size(), index);
+		assertEquals(index, tree.countRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+	}
+}
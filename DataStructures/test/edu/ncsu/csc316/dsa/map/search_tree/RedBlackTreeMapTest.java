@@ -1,6 +1,10 @@
 package edu.ncsu.csc316.dsa.map.search_tree;
 
 import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.TreeSet;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -171,4 +175,31 @@ public class RedBlackTreeMapTest {
 		assertEquals(2, (int) newTree.remove(sTwo));
 		assertEquals(sThree, newTree.root().getElement().getKey());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test that the subtree sizes stay correct through the restructurings,
+	 * recolorings, and rotations of red-black insertion and deletion, after every
+	 * put and remove
+	 */
+	@Test
+	public void testOrderStatisticsChurn() {
+		Random rand = new Random(316);
+		TreeSet<Integer> keys = new TreeSet<Integer>();
+		for (int i = 0; i < 2000; i++) {
+			int key = rand.nextInt(300);
+			if (rand.nextInt(3) < 2) {
+				tree.put(key, "string" + key);
+				keys.add(key);
+			} else {
+				tree.remove(key);
+				keys.remove(key);
+			}
+			if (i % 10 == 0) {
+				BinarySearchTreeMapTest.assertOrderStatistics(tree);
+			}
+		}
+		BinarySearchTreeMapTest.assertOrderStatistics(tree);
+		assertEquals(keys.size(), tree.size());
+		assertEquals(keys.headSet(150).size(), tree.rank(150));
+	}
+}
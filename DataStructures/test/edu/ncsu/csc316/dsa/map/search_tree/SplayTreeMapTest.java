@@ -151,4 +151,27 @@ public class SplayTreeMapTest {
 		assertEquals(1, (int) newTree.remove(sOne));
 		assertEquals(sTwo, newTree.root().getElement().getKey());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test that the navigation behaviors and range views do not splay the tree,
+	 * so that reading a range does not change the shape of the tree
+	 */
+	@Test
+	public void testNavigationDoesNotSplay() {
+		for (int key = 10; key <= 100; key += 10) {
+			tree.put(key, "string" + key);
+		}
+		// The last key inserted is splayed to the root
+		assertEquals(100, (int) tree.root().getElement().getKey());
+		assertEquals(10, (int) tree.firstEntry().getKey());
+		assertEquals(30, (int) tree.floorEntry(35).getKey());
+		assertEquals(40, (int) tree.ceilingEntry(35).getKey());
+		assertEquals(20, (int) tree.lowerEntry(30).getKey());
+		assertEquals(40, (int) tree.higherEntry(30).getKey());
+		assertEquals(3, tree.subMap(25, 60).size());
+		assertEquals(100, (int) tree.root().getElement().getKey());
+		// A lookup through a view is a get, which splays
+		assertEquals("string50", tree.subMap(25, 60).get(50));
+		assertEquals(50, (int) tree.root().getElement().getKey());
+	}
+}
@@ -0,0 +1,107 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Test the AdaptiveCountingSorter class.
+ *
+ * @author Maggie Lin
+ */
+public class AdaptiveCountingSorterTest {
+
+	/** AdaptiveCountingSorter for Student */
+	private AdaptiveCountingSorter<Student> sorter;
+
+	/** Random number generator for building rosters */
+	private Random rand;
+
+	/**
+	 * Sets up the AdaptiveCountingSorter.
+	 */
+	@Before
+	public void setUp() {
+		sorter = new AdaptiveCountingSorter<Student>();
+		rand = new Random(316);
+	}
+
+	/**
+	 * Test whether AdaptiveCountingSorter sorts a roster with a dense range of
+	 * IDs.
+	 */
+	@Test
+	public void testSortDense() {
+		Student[] data = new Student[5000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = createStudent(rand.nextInt(10000) - 5000, i);
+		}
+		assertStableSort(data);
+
+		Student[] single = { createStudent(4, 0) };
+		sorter.sort(single);
+		assertEquals(4, single[0].getId());
+	}
+
+	/**
+	 * Test whether AdaptiveCountingSorter sorts a roster with a few IDs near 0
+	 * and a few near 2^31, which would be far too sparse for a dense count
+	 * array.
+	 */
+	@Test
+	public void testSortSparseDuplicates() {
+		int[] ids = { 0, 1, 2, Integer.MAX_VALUE - 1, Integer.MAX_VALUE, Integer.MIN_VALUE };
+		Student[] data = new Student[6000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = createStudent(ids[rand.nextInt(ids.length)], i);
+		}
+		assertStableSort(data);
+		assertEquals(Integer.MIN_VALUE, data[0].getId());
+		assertEquals(Integer.MAX_VALUE, data[data.length - 1].getId());
+	}
+
+	/**
+	 * Test whether AdaptiveCountingSorter sorts a roster with too many sparse
+	 * distinct IDs for counting.
+	 */
+	@Test
+	public void testSortSparseDistinct() {
+		Student[] data = new Student[6000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = createStudent(rand.nextInt(), i);
+		}
+		assertStableSort(data);
+	}
+
+	/**
+	 * Sorts the data and checks it against a stable comparison sort by ID.
+	 *
+	 * @param data the roster to sort
+	 */
+	private void assertStableSort(Student[] data) {
+		Student[] expected = data.clone();
+		new MergeSorter<Student>(new StudentIDComparator()).sort(expected);
+		sorter.sort(data);
+		for (int i = 0; i < data.length; i++) {
+			assertSame(expected[i], data[i]);
+		}
+	}
+
+	/**
+	 * Creates a Student with the given ID and credit hours.
+	 *
+	 * @param id          the Student's id
+	 * @param creditHours the Student's credit hours
+	 * @return a new Student
+	 */
+	private Student createStudent(int id, int creditHours) {
+		return new Student("First", "Last", id, creditHours, 1.0, "unityID");
+	}
+}
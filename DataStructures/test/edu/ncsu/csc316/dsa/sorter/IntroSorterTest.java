@@ -0,0 +1,102 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Test the IntroSorter class.
+ *
+ * @author Maggie Lin
+ */
+public class IntroSorterTest {
+
+	/** Integers in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+
+	/** Integers in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+
+	/** Integers in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+
+	/** IntroSorter for Integers */
+	private IntroSorter<Integer> sorter;
+
+	/**
+	 * Sets up the Integer IntroSorter.
+	 */
+	@Before
+	public void setUp() {
+		sorter = new IntroSorter<Integer>();
+	}
+
+	/**
+	 * Test whether IntroSorter is sorting small Integer arrays into ascending
+	 * order.
+	 */
+	@Test
+	public void testSortIntegers() {
+		sorter.sort(dataAscending);
+		sorter.sort(dataDescending);
+		sorter.sort(dataRandom);
+		for (int i = 0; i < 5; i++) {
+			assertEquals((Integer) (i + 1), dataAscending[i]);
+			assertEquals((Integer) (i + 1), dataDescending[i]);
+			assertEquals((Integer) (i + 1), dataRandom[i]);
+		}
+	}
+
+	/**
+	 * Test whether IntroSorter sorts large sorted, reverse-sorted, random,
+	 * organ-pipe, and many-duplicate inputs.
+	 */
+	@Test
+	public void testSortDistributions() {
+		Random rand = new Random(316);
+		int n = 20000;
+		Integer[] ascending = new Integer[n];
+		Integer[] descending = new Integer[n];
+		Integer[] random = new Integer[n];
+		Integer[] organPipe = new Integer[n];
+		Integer[] duplicates = new Integer[n];
+		Integer[] equal = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			ascending[i] = i;
+			descending[i] = n - i;
+			random[i] = rand.nextInt();
+			organPipe[i] = i < n / 2 ? i : n - i;
+			duplicates[i] = rand.nextInt(4);
+			equal[i] = 7;
+		}
+		Integer[][] inputs = { ascending, descending, random, organPipe, duplicates, equal };
+		for (Integer[] input : inputs) {
+			Integer[] expected = input.clone();
+			Arrays.sort(expected);
+			sorter.sort(input);
+			assertArrayEquals(expected, input);
+		}
+	}
+
+	/**
+	 * Test whether IntroSorter sorts Students from an input file using a custom
+	 * Comparator.
+	 */
+	@Test
+	public void testSortStudents() {
+		Student[] roster = StudentReader.readInputAsArray("input/student_descendingID.csv");
+		new IntroSorter<Student>(new StudentIDComparator()).sort(roster);
+		for (int i = 1; i < roster.length; i++) {
+			assertEquals(true, roster[i - 1].getId() < roster[i].getId());
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Test the KeySorter class.
+ *
+ * @author Maggie Lin
+ */
+public class KeySorterTest {
+
+	/** A large roster of Students in random order */
+	private Student[] roster;
+
+	/**
+	 * Sets up a large roster with duplicate GPAs and IDs.
+	 */
+	@Before
+	public void setUp() {
+		Random rand = new Random(316);
+		roster = new Student[20000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", rand.nextInt(5000) - 2500, i % 130,
+					rand.nextInt(401) / 100.0, "unityID");
+		}
+	}
+
+	/**
+	 * Test whether KeySorter sorts by GPA in the same descending, stable order as
+	 * StudentGPAComparator.
+	 */
+	@Test
+	public void testSortByGpa() {
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		KeySorter.byDoubleKey(Student::getGpa).reversed().sort(roster);
+		for (int i = 0; i < roster.length; i++) {
+			assertSame(expected[i], roster[i]);
+		}
+	}
+
+	/**
+	 * Test whether KeySorter sorts by ID in the same stable order as
+	 * StudentIDComparator, including negative IDs.
+	 */
+	@Test
+	public void testSortById() {
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>(new StudentIDComparator()).sort(expected);
+		Sorter<Student> sorter = KeySorter.byLongKey(Student::getId);
+		sorter.sort(roster);
+		for (int i = 0; i < roster.length; i++) {
+			assertSame(expected[i], roster[i]);
+		}
+	}
+
+	/**
+	 * Test whether KeySorter sorts keys whose range is too wide to pack with an
+	 * index.
+	 */
+	@Test
+	public void testSortWideKeys() {
+		Long[] data = { Long.MAX_VALUE, 0L, Long.MIN_VALUE, -1L, 1L, Long.MIN_VALUE + 1, 0L };
+		KeySorter<Long> sorter = KeySorter.byLongKey(Long::longValue);
+		sorter.sort(data);
+		assertEquals((Long) Long.MIN_VALUE, data[0]);
+		assertEquals((Long) (Long.MIN_VALUE + 1), data[1]);
+		assertEquals((Long) (-1L), data[2]);
+		assertEquals((Long) 0L, data[3]);
+		assertEquals((Long) 0L, data[4]);
+		assertEquals((Long) 1L, data[5]);
+		assertEquals((Long) Long.MAX_VALUE, data[6]);
+
+		sorter.reversed().sort(data);
+		assertEquals((Long) Long.MAX_VALUE, data[0]);
+		assertEquals((Long) Long.MIN_VALUE, data[6]);
+	}
+
+	/**
+	 * Test whether KeySorter orders negative, zero, and infinite double keys.
+	 */
+	@Test
+	public void testSortDoubleKeys() {
+		Double[] data = { 2.5, -0.5, Double.POSITIVE_INFINITY, 0.0, -3.75, Double.NEGATIVE_INFINITY, 1e-300 };
+		KeySorter.byDoubleKey(Double::doubleValue).sort(data);
+		assertEquals(Double.NEGATIVE_INFINITY, data[0], 0);
+		assertEquals(-3.75, data[1], 0);
+		assertEquals(-0.5, data[2], 0);
+		assertEquals(0.0, data[3], 0);
+		assertEquals(1e-300, data[4], 0);
+		assertEquals(2.5, data[5], 0);
+		assertEquals(Double.POSITIVE_INFINITY, data[6], 0);
+	}
+}
@@ -0,0 +1,109 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Test the LSDRadixSorter class.
+ *
+ * @author Maggie Lin
+ */
+public class LSDRadixSorterTest {
+
+	/** Student One */
+	private Student sOne;
+
+	/** Student Two */
+	private Student sTwo;
+
+	/** Student Three */
+	private Student sThree;
+
+	/** Student Four */
+	private Student sFour;
+
+	/** Student Five */
+	private Student sFive;
+
+	/** LSDRadixSorter for Student */
+	private LSDRadixSorter<Student> sorter;
+
+	/**
+	 * Sets up the Students and the LSDRadixSorter.
+	 */
+	@Before
+	public void setUp() {
+		sOne = new Student("OneFirst", "OneLast", 1, 1, 1.0, "oneUnityID");
+		sTwo = new Student("TwoFirst", "TwoLast", 2, 2, 2.0, "twoUnityID");
+		sThree = new Student("ThreeFirst", "ThreeLast", 3, 3, 3.0, "threeUnityID");
+		sFour = new Student("FourFirst", "FourLast", 4, 4, 4.0, "fourUnityID");
+		sFive = new Student("FiveFirst", "FiveLast", 5, 5, 5.0, "fiveUnityID");
+
+		sorter = new LSDRadixSorter<Student>();
+	}
+
+	/**
+	 * Test whether LSDRadixSorter is correctly sorting Students.
+	 */
+	@Test
+	public void testSortStudent() {
+		Student[] original = { sTwo, sOne, sFour, sThree, sFive };
+		sorter.sort(original);
+		assertEquals(sOne, original[0]);
+		assertEquals(sTwo, original[1]);
+		assertEquals(sThree, original[2]);
+		assertEquals(sFour, original[3]);
+		assertEquals(sFive, original[4]);
+
+		Student[] empty = {};
+		sorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Test whether LSDRadixSorter orders negative IDs before positive IDs.
+	 */
+	@Test
+	public void testSortNegative() {
+		sOne.setId(Integer.MAX_VALUE);
+		sTwo.setId(-1);
+		sThree.setId(Integer.MIN_VALUE);
+		sFour.setId(0);
+		sFive.setId(-70000);
+		Student[] original = { sOne, sTwo, sThree, sFour, sFive };
+		sorter.sort(original);
+		assertEquals(sThree, original[0]);
+		assertEquals(sFive, original[1]);
+		assertEquals(sTwo, original[2]);
+		assertEquals(sFour, original[3]);
+		assertEquals(sOne, original[4]);
+	}
+
+	/**
+	 * Test whether LSDRadixSorter matches a stable comparison sort on a large
+	 * roster with duplicate IDs.
+	 */
+	@Test
+	public void testSortLarge() {
+		Random rand = new Random(316);
+		Student[] data = new Student[30000];
+		for (int i = 0; i < data.length; i++) {
+			int id = i % 3 == 0 ? rand.nextInt() : rand.nextInt(500);
+			data[i] = new Student("First", "Last", id, i, 1.0, "unityID");
+		}
+		Student[] expected = data.clone();
+		new MergeSorter<Student>(new StudentIDComparator()).sort(expected);
+		sorter.sort(data);
+		for (int i = 0; i < data.length; i++) {
+			assertSame(expected[i], data[i]);
+		}
+	}
+}
@@ -0,0 +1,139 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+
+/**
+ * Test the ParallelMergeSorter class.
+ *
+ * @author Maggie Lin
+ */
+public class ParallelMergeSorterTest {
+
+	/** Integers in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+
+	/** Integers in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+
+	/** Integers in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+
+	/** ParallelMergeSorter for Integers */
+	private ParallelMergeSorter<Integer> integerSorter;
+
+	/** ParallelMergeSorter for Students */
+	private Sorter<Student> studentSorter;
+
+	/** Student One */
+	private Student sOne = new Student("OneFirst", "OneLast", 1, 1, 1.0, "oneUnityID");
+
+	/** Student Two */
+	private Student sTwo = new Student("TwoFirst", "TwoLast", 2, 2, 2.0, "twoUnityID");
+
+	/** Student Three */
+	private Student sThree = new Student("ThreeFirst", "ThreeLast", 3, 3, 3.0, "threeUnityID");
+
+	/** Student Four */
+	private Student sFour = new Student("FourFirst", "FourLast", 4, 4, 4.0, "fourUnityID");
+
+	/** Student Five */
+	private Student sFive = new Student("FiveFirst", "FiveLast", 5, 5, 5.0, "fiveUnityID");
+
+	/** Student in descending order */
+	private Student[] studentDescending = { sFive, sFour, sThree, sTwo, sOne };
+
+	/**
+	 * Sets up the Integer ParallelMergeSorter and the Student ParallelMergeSorter.
+	 */
+	@Before
+	public void setUp() {
+		integerSorter = new ParallelMergeSorter<Integer>();
+		studentSorter = new ParallelMergeSorter<Student>(new StudentIDComparator());
+	}
+
+	/**
+	 * Test whether ParallelMergeSorter is sorting small Integer arrays into
+	 * ascending order.
+	 */
+	@Test
+	public void testSortIntegers() {
+		integerSorter.sort(dataAscending);
+		integerSorter.sort(dataDescending);
+		integerSorter.sort(dataRandom);
+		for (int i = 0; i < 5; i++) {
+			assertEquals((Integer) (i + 1), dataAscending[i]);
+			assertEquals((Integer) (i + 1), dataDescending[i]);
+			assertEquals((Integer) (i + 1), dataRandom[i]);
+		}
+
+		Integer[] empty = {};
+		integerSorter.sort(empty);
+		assertEquals(0, empty.length);
+	}
+
+	/**
+	 * Test whether ParallelMergeSorter is sorting Students into ascending order
+	 * based on ID.
+	 */
+	@Test
+	public void testSortStudents() {
+		studentSorter.sort(studentDescending);
+		assertEquals(1, studentDescending[0].getId());
+		assertEquals(2, studentDescending[1].getId());
+		assertEquals(3, studentDescending[2].getId());
+		assertEquals(4, studentDescending[3].getId());
+		assertEquals(5, studentDescending[4].getId());
+	}
+
+	/**
+	 * Test whether ParallelMergeSorter sorts a large array, forking tasks, into
+	 * the same order as MergeSorter.
+	 */
+	@Test
+	public void testSortLarge() {
+		Random rand = new Random(316);
+		Integer[] data = new Integer[100000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = rand.nextInt(1000);
+		}
+		Integer[] expected = data.clone();
+		new MergeSorter<Integer>().sort(expected);
+		integerSorter.sort(data);
+		for (int i = 0; i < data.length; i++) {
+			assertEquals(expected[i], data[i]);
+		}
+	}
+
+	/**
+	 * Test whether ParallelMergeSorter keeps Students with the same GPA in their
+	 * original relative order.
+	 */
+	@Test
+	public void testSortStable() {
+		Student[] data = new Student[50000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = new Student("First", "Last", i, 10, (i % 7) / 2.0, "unityID");
+		}
+		Student[] expected = data.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+		new ParallelMergeSorter<Student>(new StudentGPAComparator()).sort(data);
+		for (int i = 0; i < data.length; i++) {
+			assertSame(expected[i], data[i]);
+		}
+		for (int i = 1; i < data.length; i++) {
+			if (data[i - 1].getGpa() == data[i].getGpa()) {
+				assertEquals(true, data[i - 1].getId() < data[i].getId());
+			}
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.manager.StudentManager;
+
+/**
+ * Test the ParallelRadixSorter class.
+ *
+ * @author Maggie Lin
+ */
+public class ParallelRadixSorterTest {
+
+	/**
+	 * Test whether ParallelRadixSorter sorts a small roster through
+	 * StudentManager.
+	 */
+	@Test
+	public void testSortStudentManager() {
+		StudentManager manager = new StudentManager("input/student_randomOrder.csv",
+				new ParallelRadixSorter<Student>());
+		Student[] sorted = manager.sort();
+		for (int i = 1; i < sorted.length; i++) {
+			assertEquals(true, sorted[i - 1].getId() <= sorted[i].getId());
+		}
+	}
+
+	/**
+	 * Test whether ParallelRadixSorter matches a stable comparison sort on a
+	 * roster large enough to be split into chunks.
+	 */
+	@Test
+	public void testSortLarge() {
+		Random rand = new Random(316);
+		Student[] data = new Student[200000];
+		for (int i = 0; i < data.length; i++) {
+			int id = i % 2 == 0 ? rand.nextInt() : rand.nextInt(1000) - 500;
+			data[i] = new Student("First", "Last", id, i, 1.0, "unityID");
+		}
+		Student[] expected = data.clone();
+		new MergeSorter<Student>(new StudentIDComparator()).sort(expected);
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		new ParallelRadixSorter<Student>(pool).sort(data);
+		pool.shutdown();
+		for (int i = 0; i < data.length; i++) {
+			assertSame(expected[i], data[i]);
+		}
+	}
+
+	/**
+	 * Test whether ParallelRadixSorter sorts a large roster whose IDs differ only
+	 * in their lowest digit, which skips the remaining passes.
+	 */
+	@Test
+	public void testSortSkippedPasses() {
+		Student[] data = new Student[100000];
+		for (int i = 0; i < data.length; i++) {
+			data[i] = new Student("First", "Last", (data.length - i) % 100, i, 1.0, "unityID");
+		}
+		new ParallelRadixSorter<Student>().sort(data);
+		for (int i = 1; i < data.length; i++) {
+			assertEquals(true, data[i - 1].getId() <= data[i].getId());
+			if (data[i - 1].getId() == data[i].getId()) {
+				assertEquals(true, data[i - 1].getCreditHours() < data[i].getCreditHours());
+			}
+		}
+	}
+}
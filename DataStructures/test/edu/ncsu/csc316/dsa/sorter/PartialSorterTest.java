@@ -0,0 +1,142 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.list.List;
+
+/**
+ * Test the PartialSorter class.
+ *
+ * @author Maggie Lin
+ */
+public class PartialSorterTest {
+
+	/** Integers in random order with many duplicates */
+	private Integer[] random;
+
+	/** Integers in ascending order */
+	private Integer[] ascending;
+
+	/**
+	 * Sets up the Integer arrays.
+	 */
+	@Before
+	public void setUp() {
+		Random rand = new Random(316);
+		random = new Integer[5000];
+		ascending = new Integer[5000];
+		for (int i = 0; i < random.length; i++) {
+			random[i] = rand.nextInt(1000);
+			ascending[i] = i;
+		}
+	}
+
+	/**
+	 * Test whether select places the element of every tested rank at its index
+	 * with smaller elements before it and larger elements after it.
+	 */
+	@Test
+	public void testSelect() {
+		Integer[] expected = random.clone();
+		Arrays.sort(expected);
+		PartialSorter<Integer> sorter = new PartialSorter<Integer>(0);
+		int[] ranks = { 0, 1, 17, 2500, 4998, 4999 };
+		for (int rank : ranks) {
+			Integer[] data = random.clone();
+			assertEquals(expected[rank], sorter.select(data, rank));
+			for (int i = 0; i < data.length; i++) {
+				assertTrue(i < rank ? data[i] <= data[rank] : data[i] >= data[rank]);
+			}
+		}
+		assertEquals((Integer) 2500, sorter.select(ascending, 2500));
+
+		try {
+			sorter.select(random, 5000);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Test whether select finds the median of organ-pipe input with a linear
+	 * number of comparisons.
+	 */
+	@Test
+	public void testSelectLinear() {
+		int[] comparisons = new int[1];
+		PartialSorter<Integer> sorter = new PartialSorter<Integer>((a, b) -> {
+			comparisons[0]++;
+			return Integer.compare(a, b);
+		}, 0);
+		Integer[] organPipe = new Integer[100000];
+		for (int i = 0; i < organPipe.length; i++) {
+			organPipe[i] = i < organPipe.length / 2 ? 2 * i : 2 * (organPipe.length - i) - 1;
+		}
+		assertEquals((Integer) 50000, sorter.select(organPipe, 50000));
+		assertTrue(comparisons[0] < 50 * organPipe.length);
+	}
+
+	/**
+	 * Test whether sort orders only the first k elements, and the whole array
+	 * when k is larger than the array.
+	 */
+	@Test
+	public void testSort() {
+		Integer[] expected = random.clone();
+		Arrays.sort(expected);
+		new PartialSorter<Integer>(100).sort(random);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(expected[i], random[i]);
+		}
+		for (int i = 100; i < random.length; i++) {
+			assertTrue(random[i] >= random[99]);
+		}
+
+		Integer[] small = { 3, 1, 2 };
+		new PartialSorter<Integer>(10).sort(small);
+		assertEquals((Integer) 1, small[0]);
+		assertEquals((Integer) 2, small[1]);
+		assertEquals((Integer) 3, small[2]);
+	}
+
+	/**
+	 * Test whether topK returns the students with the highest GPAs from both an
+	 * array and an iterator without modifying the input.
+	 */
+	@Test
+	public void testTopK() {
+		Random rand = new Random(316);
+		Student[] roster = new Student[10000];
+		for (int i = 0; i < roster.length; i++) {
+			roster[i] = new Student("First", "Last", i, 10, rand.nextInt(100000) / 25000.0, "unityID");
+		}
+		Student[] original = roster.clone();
+		Student[] expected = roster.clone();
+		new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+
+		PartialSorter<Student> sorter = new PartialSorter<Student>(new StudentGPAComparator(), 100);
+		Student[] top = sorter.topK(roster);
+		List<Student> topList = sorter.topK(Arrays.asList(roster).iterator());
+		assertEquals(100, top.length);
+		assertEquals(100, topList.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(expected[i].getGpa(), top[i].getGpa(), 0);
+			assertEquals(expected[i].getGpa(), topList.get(i).getGpa(), 0);
+		}
+		assertTrue(Arrays.equals(original, roster));
+
+		assertEquals(0, new PartialSorter<Student>(new StudentGPAComparator(), 0).topK(roster).length);
+		assertEquals(3, new PartialSorter<Integer>(10).topK(new Integer[] { 3, 1, 2 }).length);
+	}
+}
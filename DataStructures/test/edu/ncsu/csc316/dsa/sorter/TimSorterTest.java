@@ -0,0 +1,137 @@
+package edu.ncsu.csc316.dsa.sorter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.ncsu.csc316.dsa.data.Student;
+import edu.ncsu.csc316.dsa.data.StudentGPAComparator;
+import edu.ncsu.csc316.dsa.data.StudentIDComparator;
+import edu.ncsu.csc316.dsa.io.StudentReader;
+
+/**
+ * Test the TimSorter class.
+ *
+ * @author Maggie Lin
+ */
+public class TimSorterTest {
+
+	/** Integers in ascending order */
+	private Integer[] dataAscending = { 1, 2, 3, 4, 5 };
+
+	/** Integers in descending order */
+	private Integer[] dataDescending = { 5, 4, 3, 2, 1 };
+
+	/** Integers in random order */
+	private Integer[] dataRandom = { 4, 1, 5, 3, 2 };
+
+	/** TimSorter for Integers */
+	private TimSorter<Integer> integerSorter;
+
+	/** The number of comparisons made by the counting comparator */
+	private int comparisons;
+
+	/**
+	 * Sets up the Integer TimSorter.
+	 */
+	@Before
+	public void setUp() {
+		integerSorter = new TimSorter<Integer>();
+		comparisons = 0;
+	}
+
+	/**
+	 * Test whether TimSorter is sorting small Integer arrays into ascending
+	 * order.
+	 */
+	@Test
+	public void testSortIntegers() {
+		integerSorter.sort(dataAscending);
+		integerSorter.sort(dataDescending);
+		integerSorter.sort(dataRandom);
+		for (int i = 0; i < 5; i++) {
+			assertEquals((Integer) (i + 1), dataAscending[i]);
+			assertEquals((Integer) (i + 1), dataDescending[i]);
+			assertEquals((Integer) (i + 1), dataRandom[i]);
+		}
+	}
+
+	/**
+	 * Test whether TimSorter sorts the roster fixtures by ID using a custom
+	 * Comparator.
+	 */
+	@Test
+	public void testSortStudents() {
+		Sorter<Student> sorter = new TimSorter<Student>(new StudentIDComparator());
+		String[] files = { "input/student_ascendingID.csv", "input/student_descendingID.csv",
+			"input/student_randomOrder.csv" };
+		for (String file : files) {
+			Student[] roster = StudentReader.readInputAsArray(file);
+			sorter.sort(roster);
+			for (int i = 1; i < roster.length; i++) {
+				assertEquals(true, roster[i - 1].getId() < roster[i].getId());
+			}
+		}
+	}
+
+	/**
+	 * Test whether TimSorter sorts large nearly-sorted and random inputs stably.
+	 */
+	@Test
+	public void testSortStable() {
+		Random rand = new Random(316);
+		Student[] nearlySorted = new Student[40000];
+		Student[] random = new Student[40000];
+		for (int i = 0; i < nearlySorted.length; i++) {
+			double gpa = rand.nextInt(50) == 0 ? rand.nextInt(5) : 4.0 - i / 10000;
+			nearlySorted[i] = new Student("First", "Last", i, 10, gpa, "unityID");
+			random[i] = new Student("First", "Last", i, 10, rand.nextInt(9) / 2.0, "unityID");
+		}
+		Student[][] inputs = { nearlySorted, random };
+		for (Student[] input : inputs) {
+			Student[] expected = input.clone();
+			new MergeSorter<Student>(new StudentGPAComparator()).sort(expected);
+			new TimSorter<Student>(new StudentGPAComparator()).sort(input);
+			for (int i = 0; i < input.length; i++) {
+				assertSame(expected[i], input[i]);
+			}
+		}
+	}
+
+	/**
+	 * Test whether TimSorter sorts already-sorted and reverse-sorted input with a
+	 * linear number of comparisons.
+	 */
+	@Test
+	public void testSortPresortedLinear() {
+		Comparator<Integer> counting = new Comparator<Integer>() {
+			@Override
+			public int compare(Integer one, Integer two) {
+				comparisons++;
+				return one.compareTo(two);
+			}
+		};
+		int n = 100000;
+		Integer[] ascending = new Integer[n];
+		Integer[] descending = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			ascending[i] = i;
+			descending[i] = n - i;
+		}
+		TimSorter<Integer> sorter = new TimSorter<Integer>(counting);
+		sorter.sort(ascending);
+		assertEquals(n - 1, comparisons);
+
+		comparisons = 0;
+		sorter.sort(descending);
+		assertEquals(n - 1, comparisons);
+		for (int i = 0; i < n; i++) {
+			assertEquals((Integer) (i + 1), descending[i]);
+		}
+	}
+}